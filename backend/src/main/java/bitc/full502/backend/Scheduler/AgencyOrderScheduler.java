@@ -1,38 +1,28 @@
 package bitc.full502.backend.Scheduler;
 
-import bitc.full502.backend.entity.AgencyOrderEntity;
-import bitc.full502.backend.repository.AgencyOrderRepository;
-import bitc.full502.backend.service.AgencyOrderService;
+import bitc.full502.backend.service.OrderService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Duration;
 
+// 배송중 주문 자동완료는 DeliveryDueWorker (완료 예정 큐) 가 담당
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class AgencyOrderScheduler {
 
-    private final AgencyOrderRepository orderRepository;
-    private final AgencyOrderService orderService;
+    private final OrderService androidOrderService;
+    private final ScheduledJobMonitor jobMonitor;
 
-    @Scheduled(fixedDelay = 1000 * 30) // 30초마다 실행
-    @Transactional
-    public void autoCompleteDeliveryScheduler() {
-
-        System.out.println("Auto complete delivery scheduler 실행");
-
-        // fetch join 해서 items 함께 가져오기
-        List<AgencyOrderEntity> inTransitOrders = orderRepository.findByOrStatusWithItems("배송중");
-
-        for (AgencyOrderEntity order : inTransitOrders) {
-            try {
-                orderService.autoCompleteDelivery(order.getOrKey());
-                System.out.println("주문 자동완료 처리됨: " + order.getOrKey());
-            } catch (Exception e) {
-                System.err.println("자동완료 실패: " + order.getOrKey() + " / " + e.getMessage());
-            }
-        }
+    // 보관 기간 지난 주문 삭제 기록 정리 (매일 00:30, 주문 작업 풀)
+    @Scheduled(cron = "0 30 0 * * ?", scheduler = "orderScheduler")
+    public void purgeOrderTombstones() {
+        jobMonitor.run("order-tombstone-purge", Duration.ofDays(1), true, () -> {
+            long purged = androidOrderService.purgeTombstones();
+            log.info("주문 삭제 기록 정리: {}건", purged);
+        });
     }
 }
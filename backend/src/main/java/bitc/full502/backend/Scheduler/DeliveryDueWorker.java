@@ -0,0 +1,140 @@
+package bitc.full502.backend.Scheduler;
+
+import bitc.full502.backend.service.DeliveryCompletionBatch;
+import bitc.full502.backend.service.DeliveryDueQueue;
+import bitc.full502.backend.service.SchedulerLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DeliveryDueWorker
+ * -----------------
+ * 배송 완료 예정 큐 작업자 (전용 스레드 1개)
+ * - 가장 빠른 만기 시각 또는 reloadInterval 까지 잠들어 있다가 만기된 주문만 배송완료 처리
+ * - 처리 시점에 lease 를 잡은 노드만 실행 (못 잡으면 테이블에 남겨두고 다른 노드에 맡김)
+ * - reloadInterval 마다 테이블에서 곧 만기될 항목을 다시 읽음
+ * - 처리 실패한 주문은 retryDelay 후 다시, maxAttempts 번 실패하면 보류 (delivery_due 에 사유와 함께 남김)
+ * - 큐에 빠진 '배송중' 주문 보정은 기동 시 1회만 (lease 잡은 노드, 비용이 배송중 주문 수에 비례)
+ */
+@Slf4j
+@Component
+public class DeliveryDueWorker implements SmartLifecycle {
+
+    private static final String AUTO_COMPLETE_LEASE = "agencyorder.auto-complete";
+
+    private final DeliveryDueQueue dueQueue;
+    private final DeliveryCompletionBatch completionBatch;
+    private final SchedulerLease schedulerLease;
+
+    private final Duration reloadInterval;
+    private final Duration retryDelay;
+    private final Duration leaseTtl;
+    private final int maxAttempts;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public DeliveryDueWorker(DeliveryDueQueue dueQueue,
+                             DeliveryCompletionBatch completionBatch,
+                             SchedulerLease schedulerLease,
+                             @Value("${app.delivery.due-reload-interval:1m}") Duration reloadInterval,
+                             @Value("${app.delivery.retry-delay:5m}") Duration retryDelay,
+                             @Value("${app.scheduler.lease-ttl:120s}") Duration leaseTtl,
+                             @Value("${app.delivery.max-attempts:5}") int maxAttempts) {
+        this.dueQueue = dueQueue;
+        this.completionBatch = completionBatch;
+        this.schedulerLease = schedulerLease;
+        this.reloadInterval = reloadInterval;
+        this.retryDelay = retryDelay;
+        this.leaseTtl = leaseTtl;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::loop, "delivery-due-worker");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (thread != null) thread.interrupt();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void loop() {
+        enqueueMissingOnce();
+
+        long nextReload = 0;
+        while (running) {
+            try {
+                if (System.currentTimeMillis() >= nextReload) {
+                    dueQueue.reload(reloadInterval);
+                    nextReload = System.currentTimeMillis() + reloadInterval.toMillis();
+                }
+
+                List<Integer> due = dueQueue.awaitDue(Math.max(1, nextReload - System.currentTimeMillis()));
+                if (!due.isEmpty()) complete(due);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // DB 장애 등 → 다음 reload 때 테이블에서 다시 읽어 처리
+                log.error("배송 완료 큐 처리 실패", e);
+                nextReload = System.currentTimeMillis() + reloadInterval.toMillis();
+            }
+        }
+    }
+
+    // 기동 시 1회: delivery_due 에 없는 '배송중' 주문 등록
+    // - lease 를 못 잡으면 다른 노드가 처리 중이므로 건너뜀 (평소에는 schedule() 이 같은 트랜잭션에서 등록)
+    private void enqueueMissingOnce() {
+        if (!schedulerLease.tryAcquire(AUTO_COMPLETE_LEASE, leaseTtl)) return;
+        try {
+            int added = dueQueue.enqueueMissing();
+            if (added > 0) log.info("배송 완료 큐 보정 등록: {}건", added);
+        } catch (RuntimeException e) {
+            log.error("배송 완료 큐 보정 실패", e);
+        } finally {
+            schedulerLease.release(AUTO_COMPLETE_LEASE);
+        }
+    }
+
+    private void complete(List<Integer> due) {
+        if (!schedulerLease.tryAcquire(AUTO_COMPLETE_LEASE, leaseTtl)) {
+            return; // 다른 노드가 처리 중 (테이블에 남아 있으므로 누락 없음)
+        }
+
+        try {
+            DeliveryCompletionBatch.Report report = completionBatch.complete(due,
+                    () -> schedulerLease.tryAcquire(AUTO_COMPLETE_LEASE, leaseTtl));
+
+            // 손대지 않은 주문(deferred)은 테이블에 그대로 두면 다음 reload 가 다시 읽음
+            List<Integer> finished = new ArrayList<>(due);
+            finished.removeAll(report.getSkipped().keySet());
+            finished.removeAll(report.getDeferred());
+            dueQueue.done(finished);
+            List<Integer> parked = dueQueue.retryLater(report.getSkipped(), retryDelay, maxAttempts);
+
+            log.info("Auto complete delivery: 완료 {}건, 실패 {}건, 미처리 {}건, {}ms",
+                    report.getCompleted(), report.getSkipped().size(), report.getDeferred().size(), report.getElapsedMillis());
+            report.getSkipped().forEach((orKey, reason) -> log.warn("자동완료 실패: {} / {}", orKey, reason));
+            parked.forEach(orKey -> log.error("자동완료 {}회 실패 → 보류 (delivery_due 확인 필요): {}", maxAttempts, orKey));
+        } finally {
+            schedulerLease.release(AUTO_COMPLETE_LEASE);
+        }
+    }
+}
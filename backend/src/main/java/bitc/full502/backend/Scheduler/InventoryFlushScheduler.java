@@ -0,0 +1,48 @@
+package bitc.full502.backend.Scheduler;
+
+import bitc.full502.backend.service.StockAccelerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 메모리 재고 차감분 write-behind (accelerator 를 꺼도 남은 미반영 원장은 계속 반영) + 메모리 카운터 재동기화
+@Slf4j
+@Component
+public class InventoryFlushScheduler {
+
+    private final StockAccelerator stockAccelerator;
+    private final ScheduledJobMonitor jobMonitor;
+    private final Duration interval;
+    private final Duration reconcileInterval;
+
+    public InventoryFlushScheduler(StockAccelerator stockAccelerator,
+                                   ScheduledJobMonitor jobMonitor,
+                                   @Value("${app.inventory.accelerator.flush-interval-ms:1000}") long intervalMillis,
+                                   @Value("${app.inventory.accelerator.reconcile-interval-ms:60000}") long reconcileMillis) {
+        this.stockAccelerator = stockAccelerator;
+        this.jobMonitor = jobMonitor;
+        this.interval = Duration.ofMillis(intervalMillis);
+        this.reconcileInterval = Duration.ofMillis(reconcileMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.accelerator.flush-interval-ms:1000}", scheduler = "orderScheduler")
+    public void flush() {
+        jobMonitor.runFixedDelay("inventory-flush", interval, true, () -> {
+            int flushed = stockAccelerator.flush();
+            if (flushed > 0) log.info("재고 write-behind 반영: {}건", flushed);
+        });
+    }
+
+    // 노드마다 각자 실행 (카운터가 노드 메모리에 있음)
+    @Scheduled(fixedDelayString = "${app.inventory.accelerator.reconcile-interval-ms:60000}", scheduler = "maintenanceScheduler")
+    public void reconcile() {
+        if (!stockAccelerator.isEnabled()) return;
+        jobMonitor.runFixedDelay("inventory-accelerator-reconcile", reconcileInterval, true, () -> {
+            int adjusted = stockAccelerator.reconcile();
+            if (adjusted > 0) log.warn("메모리 재고 카운터 DB 기준 보정: {}건", adjusted);
+        });
+    }
+}
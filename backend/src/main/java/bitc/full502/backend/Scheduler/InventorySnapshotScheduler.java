@@ -0,0 +1,48 @@
+package bitc.full502.backend.Scheduler;
+
+import bitc.full502.backend.service.InventoryLedger;
+import bitc.full502.backend.service.SchedulerLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 재고 원장 스냅샷 (여러 노드 중 lease 를 잡은 한 곳에서만)
+@Slf4j
+@Component
+public class InventorySnapshotScheduler {
+
+    private static final String SNAPSHOT_LEASE = "inventory.snapshot";
+
+    private final InventoryLedger inventoryLedger;
+    private final SchedulerLease schedulerLease;
+    private final ScheduledJobMonitor jobMonitor;
+
+    private final Duration leaseTtl;
+
+    public InventorySnapshotScheduler(InventoryLedger inventoryLedger,
+                                      SchedulerLease schedulerLease,
+                                      ScheduledJobMonitor jobMonitor,
+                                      @Value("${app.scheduler.lease-ttl:120s}") Duration leaseTtl) {
+        this.inventoryLedger = inventoryLedger;
+        this.schedulerLease = schedulerLease;
+        this.jobMonitor = jobMonitor;
+        this.leaseTtl = leaseTtl;
+    }
+
+    // 매시 정각, 일괄 작업 풀
+    @Scheduled(cron = "${app.inventory.snapshot-cron:0 0 * * * ?}", scheduler = "rebuildScheduler")
+    public void takeSnapshot() {
+        jobMonitor.run("inventory-snapshot", Duration.ofHours(1), true, () -> {
+            if (!schedulerLease.tryAcquire(SNAPSHOT_LEASE, leaseTtl)) return;
+            try {
+                int rows = inventoryLedger.snapshot();
+                log.info("재고 스냅샷: {}건", rows);
+            } finally {
+                schedulerLease.release(SNAPSHOT_LEASE);
+            }
+        });
+    }
+}
@@ -0,0 +1,53 @@
+package bitc.full502.backend.Scheduler;
+
+import bitc.full502.backend.service.Leaderboard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 순위표 전체 재계산: 기동 직후 1회 (이력 적재) + 매일 새벽 (보관 기간 이동)
+// 평소에는 이 노드 주문 커밋마다 증분 반영 (Leaderboard.transition) + 다른 노드 변경분 주기적 반영 (Leaderboard.poll, 노드마다 각자)
+@Slf4j
+@Component
+public class LeaderboardScheduler {
+
+    private final Leaderboard leaderboard;
+    private final ScheduledJobMonitor jobMonitor;
+    private final Duration pollInterval;
+
+    public LeaderboardScheduler(Leaderboard leaderboard,
+                                ScheduledJobMonitor jobMonitor,
+                                @Value("${app.leaderboard.poll-interval-ms:30000}") long pollIntervalMillis) {
+        this.leaderboard = leaderboard;
+        this.jobMonitor = jobMonitor;
+        this.pollInterval = Duration.ofMillis(pollIntervalMillis);
+    }
+
+    // 실패해도 기동은 계속 (첫 조회 때 다시 적재)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("순위표 초기 적재 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.leaderboard.rebuild-cron:0 40 3 * * ?}", scheduler = "rebuildScheduler")
+    public void rebuild() {
+        jobMonitor.run("leaderboard-rebuild", Duration.ofDays(1), true, () -> {
+            int orders = leaderboard.rebuild();
+            log.info("순위표 재계산: 주문 {}건", orders);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.leaderboard.poll-interval-ms:30000}", scheduler = "maintenanceScheduler")
+    public void poll() {
+        jobMonitor.runFixedDelay("leaderboard-poll", pollInterval, true, leaderboard::poll);
+    }
+}
@@ -0,0 +1,63 @@
+package bitc.full502.backend.Scheduler;
+
+import bitc.full502.backend.service.OrderMonthlyRollup;
+import bitc.full502.backend.service.SchedulerLease;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 월별 주문 집계: delta 합치기(주기) + 전체 재계산(매일 새벽, 누락 보정) - lease 를 잡은 노드에서만
+@Slf4j
+@Component
+public class OrderRollupScheduler {
+
+    // 합치기와 재계산이 겹치지 않도록 lease 하나를 같이 사용
+    private static final String ROLLUP_LEASE = "order.rollup";
+
+    private final OrderMonthlyRollup rollup;
+    private final SchedulerLease schedulerLease;
+    private final ScheduledJobMonitor jobMonitor;
+
+    private final Duration foldInterval;
+    private final Duration leaseTtl;
+
+    public OrderRollupScheduler(OrderMonthlyRollup rollup,
+                                SchedulerLease schedulerLease,
+                                ScheduledJobMonitor jobMonitor,
+                                @Value("${app.dashboard.rollup.fold-interval-ms:10000}") long foldIntervalMillis,
+                                @Value("${app.scheduler.lease-ttl:120s}") Duration leaseTtl) {
+        this.rollup = rollup;
+        this.schedulerLease = schedulerLease;
+        this.jobMonitor = jobMonitor;
+        this.foldInterval = Duration.ofMillis(foldIntervalMillis);
+        this.leaseTtl = leaseTtl;
+    }
+
+    @Scheduled(fixedDelayString = "${app.dashboard.rollup.fold-interval-ms:10000}", scheduler = "maintenanceScheduler")
+    public void fold() {
+        jobMonitor.runFixedDelay("order-rollup-fold", foldInterval, true, () -> {
+            if (!schedulerLease.tryAcquire(ROLLUP_LEASE, leaseTtl)) return;
+            try {
+                rollup.fold();
+            } finally {
+                schedulerLease.release(ROLLUP_LEASE);
+            }
+        });
+    }
+
+    @Scheduled(cron = "${app.dashboard.rollup.rebuild-cron:0 30 3 * * ?}", scheduler = "rebuildScheduler")
+    public void rebuild() {
+        jobMonitor.run("order-rollup-rebuild", Duration.ofHours(1), true, () -> {
+            if (!schedulerLease.tryAcquire(ROLLUP_LEASE, leaseTtl)) return;
+            try {
+                int rows = rollup.rebuild();
+                log.info("월별 주문 집계 재계산: {}건", rows);
+            } finally {
+                schedulerLease.release(ROLLUP_LEASE);
+            }
+        });
+    }
+}
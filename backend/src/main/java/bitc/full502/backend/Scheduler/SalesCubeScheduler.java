@@ -0,0 +1,30 @@
+package bitc.full502.backend.Scheduler;
+
+import bitc.full502.backend.service.SalesCube;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 매출 큐브 증분 갱신 (노드마다 각자 실행, 처음 실행 때 전체 적재)
+@Component
+public class SalesCubeScheduler {
+
+    private final SalesCube salesCube;
+    private final ScheduledJobMonitor jobMonitor;
+    private final Duration interval;
+
+    public SalesCubeScheduler(SalesCube salesCube,
+                              ScheduledJobMonitor jobMonitor,
+                              @Value("${app.analytics.cube.refresh-interval-ms:30000}") long intervalMillis) {
+        this.salesCube = salesCube;
+        this.jobMonitor = jobMonitor;
+        this.interval = Duration.ofMillis(intervalMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.cube.refresh-interval-ms:30000}", scheduler = "maintenanceScheduler")
+    public void refresh() {
+        jobMonitor.runFixedDelay("sales-cube-refresh", interval, true, salesCube::refresh);
+    }
+}
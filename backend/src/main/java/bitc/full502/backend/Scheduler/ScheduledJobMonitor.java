@@ -0,0 +1,103 @@
+package bitc.full502.backend.Scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ScheduledJobMonitor
+ * -------------------
+ * @Scheduled 작업 실행 감시 (작업 본문을 monitor.run(...) 으로 감싸서 사용)
+ * - skipIfRunning : 이전 실행이 아직 안 끝났으면 이번 회차 건너뜀
+ * - 실행 시간이 period 를 넘으면 overrun 으로 기록
+ * - 메트릭 {job}
+ *   scheduler.job.duration : 실행 시간
+ *   scheduler.job.lag      : 예정 시각 대비 늦게 시작한 시간
+ *                            (cron / fixedRate = 이전 시작 + period, fixedDelay = 이전 종료 + delay → runFixedDelay)
+ *   scheduler.job.overruns / skipped / failures
+ */
+@Slf4j
+@Component
+public class ScheduledJobMonitor {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+
+    public ScheduledJobMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // cron / fixedRate 작업 (이전 시작 기준)
+    public void run(String job, Duration period, boolean skipIfRunning, Runnable body) {
+        run(job, period, false, skipIfRunning, body);
+    }
+
+    // fixedDelay 작업 (이전 종료 기준, 실행 시간이 길어도 lag 로 잡히지 않음)
+    public void runFixedDelay(String job, Duration delay, boolean skipIfRunning, Runnable body) {
+        run(job, delay, true, skipIfRunning, body);
+    }
+
+    private void run(String job, Duration period, boolean fixedDelay, boolean skipIfRunning, Runnable body) {
+        JobState state = jobs.computeIfAbsent(job, JobState::new);
+
+        // 건너뛰지 않는 작업은 겹쳐서 실행 (running 표시는 먼저 시작한 쪽이 해제)
+        boolean owner = state.running.compareAndSet(false, true);
+        if (!owner && skipIfRunning) {
+            state.skipped.increment();
+            log.warn("스케줄 작업 건너뜀 (이전 실행 진행 중): {}", job);
+            return;
+        }
+
+        long start = System.nanoTime();
+        long previous = fixedDelay ? state.lastEnd : state.lastStart;
+        state.lastStart = start;
+        if (previous != 0) {
+            long lag = start - previous - period.toNanos();
+            state.lag.record(Math.max(0, lag), TimeUnit.NANOSECONDS);
+        }
+
+        try {
+            body.run();
+        } catch (RuntimeException e) {
+            state.failures.increment();
+            throw e;
+        } finally {
+            long end = System.nanoTime();
+            state.lastEnd = end;
+            long elapsed = end - start;
+            state.duration.record(elapsed, TimeUnit.NANOSECONDS);
+            if (elapsed > period.toNanos()) {
+                state.overruns.increment();
+                log.warn("스케줄 작업 overrun: {} {}ms (주기 {}ms)", job, TimeUnit.NANOSECONDS.toMillis(elapsed), period.toMillis());
+            }
+            if (owner) state.running.set(false);
+        }
+    }
+
+    private class JobState {
+        private final AtomicBoolean running = new AtomicBoolean();
+        private volatile long lastStart;
+        private volatile long lastEnd;
+        private final Timer duration;
+        private final Timer lag;
+        private final Counter overruns;
+        private final Counter skipped;
+        private final Counter failures;
+
+        JobState(String job) {
+            this.duration = Timer.builder("scheduler.job.duration").tag("job", job).register(meterRegistry);
+            this.lag = Timer.builder("scheduler.job.lag").tag("job", job).register(meterRegistry);
+            this.overruns = Counter.builder("scheduler.job.overruns").tag("job", job).register(meterRegistry);
+            this.skipped = Counter.builder("scheduler.job.skipped").tag("job", job).register(meterRegistry);
+            this.failures = Counter.builder("scheduler.job.failures").tag("job", job).register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package bitc.full502.backend.Scheduler;
+
+import bitc.full502.backend.service.StockAvailabilityIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 가용 재고 색인을 DB 기준으로 다시 맞춤 (노드마다 각자 실행)
+@Component
+public class StockAvailabilityScheduler {
+
+    private final StockAvailabilityIndex availabilityIndex;
+    private final ScheduledJobMonitor jobMonitor;
+    private final Duration interval;
+
+    public StockAvailabilityScheduler(StockAvailabilityIndex availabilityIndex,
+                                      ScheduledJobMonitor jobMonitor,
+                                      @Value("${app.inventory.availability.reconcile-interval-ms:60000}") long intervalMillis) {
+        this.availabilityIndex = availabilityIndex;
+        this.jobMonitor = jobMonitor;
+        this.interval = Duration.ofMillis(intervalMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.availability.reconcile-interval-ms:60000}", scheduler = "maintenanceScheduler")
+    public void reconcile() {
+        jobMonitor.runFixedDelay("stock-availability-reconcile", interval, true, availabilityIndex::reconcile);
+    }
+}
@@ -1,6 +1,7 @@
 package bitc.full502.backend.config;
 
 import bitc.full502.backend.filter.JwtFilter;
+import bitc.full502.backend.service.DashboardCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -131,6 +132,9 @@ public class AppConfig implements WebMvcConfigurer {
         // 쿠키, 인증 정보 포함 요청 허용
         configuration.setAllowCredentials(true);
 
+        // 대시보드 캐시 헤더를 브라우저에서 읽을 수 있게
+        configuration.setExposedHeaders(Arrays.asList(DashboardCache.AGE_HEADER, DashboardCache.STALE_HEADER));
+
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
 
         // 모든 경로에 위 CORS 설정 적용
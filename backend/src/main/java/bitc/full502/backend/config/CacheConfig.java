@@ -0,0 +1,50 @@
+package bitc.full502.backend.config;
+
+import bitc.full502.backend.service.OrderCache;
+import bitc.full502.backend.service.WarehouseRouting;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 주문 조회 캐시 설정 (+ 지역 → 물류센터 경로)
+ * - 크기 제한 + W-TinyLFU 교체 (Caffeine 기본)
+ * - recordStats → actuator 의 cache.gets{result=hit|miss} 메트릭으로 노출
+ * - 주문 변경은 이 노드에서는 OrderCache 가 즉시 evict, 다른 노드 / 서비스 밖 변경은 조회 때 버전 스탬프로 확인
+ * - TTL 은 스탬프에 안 잡히는 주문 행 밖의 값(대리점명 / 상품번호 등)을 위한 안전장치
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${app.cache.order-detail.max-size:10000}") long detailMaxSize,
+            @Value("${app.cache.agency-orders.max-size:2000}") long agencyMaxSize,
+            @Value("${app.cache.ttl:10m}") Duration ttl,
+            @Value("${app.cache.routes-ttl:5m}") Duration routesTtl) {
+
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.registerCustomCache(OrderCache.ORDER_DETAIL, Caffeine.newBuilder()
+                .maximumSize(detailMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        manager.registerCustomCache(OrderCache.AGENCY_ORDERS, Caffeine.newBuilder()
+                .maximumSize(agencyMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        // 지역 → 물류센터 경로 (지역 수만큼만 들어감)
+        manager.registerCustomCache(WarehouseRouting.WAREHOUSE_ROUTES, Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(routesTtl)
+                .recordStats()
+                .build());
+        return manager;
+    }
+}
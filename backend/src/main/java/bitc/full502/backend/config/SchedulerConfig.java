@@ -1,9 +1,94 @@
 package bitc.full502.backend.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+/**
+ * 스케줄러 스레드 풀 (작업 그룹별로 분리)
+ * - taskScheduler        : scheduler 지정 없는 @Scheduled 기본
+ * - orderScheduler       : 주문 관련 작업 (@Scheduled(scheduler = "orderScheduler"))
+ * - maintenanceScheduler : 짧은 주기 작업 (집계 합치기 / 큐브 · 순위표 갱신 / 재고 보정 / 공지 만료 삭제 등)
+ * - rebuildScheduler     : 오래 걸리는 일괄 작업 (재고 스냅샷 / 월별 집계 · 순위표 전체 재계산)
+ *   → 전체 재계산이 몇 분 걸려도 10~60초 주기 작업이 그 뒤에 줄 서지 않음
+ * - dashboardRefresher   : 대시보드 캐시 백그라운드 갱신 (DashboardCache)
+ * - app.scheduler.virtual-threads=true 면 풀 대신 작업마다 가상 스레드 (Java 21 이상 런타임 필요)
+ *   → JDBC 처럼 블로킹되는 작업이 길어져도 다른 작업 실행에 영향 없음
+ */
+@Slf4j
 @Configuration
 @EnableScheduling
 public class SchedulerConfig {
+
+    @Value("${app.scheduler.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    @Bean
+    @Primary
+    public TaskScheduler taskScheduler(@Value("${app.scheduler.pool.default-size:1}") int poolSize) {
+        return scheduler("scheduler-", poolSize);
+    }
+
+    @Bean
+    public TaskScheduler orderScheduler(@Value("${app.scheduler.pool.order-size:2}") int poolSize) {
+        return scheduler("order-job-", poolSize);
+    }
+
+    @Bean
+    public TaskScheduler maintenanceScheduler(@Value("${app.scheduler.pool.maintenance-size:2}") int poolSize) {
+        return scheduler("maintenance-job-", poolSize);
+    }
+
+    @Bean
+    public TaskScheduler rebuildScheduler(@Value("${app.scheduler.pool.rebuild-size:2}") int poolSize) {
+        return scheduler("rebuild-job-", poolSize);
+    }
+
+    @Bean
+    public TaskExecutor dashboardRefresher(@Value("${app.dashboard.cache.refresh-threads:2}") int poolSize) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-refresh-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(30_000);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("dashboard-refresh-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    private TaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        if (virtualThreads) {
+            SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+            scheduler.setThreadNamePrefix(threadNamePrefix);
+            scheduler.setVirtualThreads(true);
+            scheduler.setErrorHandler(SchedulerConfig::logFailure);
+            scheduler.setTaskTerminationTimeout(30_000);
+            return scheduler;
+        }
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setPoolSize(poolSize);
+        scheduler.setErrorHandler(SchedulerConfig::logFailure);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    private static void logFailure(Throwable t) {
+        log.error("스케줄 작업 실패 [{}]: {}", Thread.currentThread().getName(), t.getMessage(), t);
+    }
 }
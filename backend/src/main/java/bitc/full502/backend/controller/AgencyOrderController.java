@@ -2,19 +2,28 @@ package bitc.full502.backend.controller;
 
 import bitc.full502.backend.dto.*;
 import bitc.full502.backend.entity.AgencyOrderEntity;
-import bitc.full502.backend.repository.AgencyOrderRepository;
+import bitc.full502.backend.service.AgencyOrderBulkService;
 import bitc.full502.backend.service.AgencyOrderItemService;
 import bitc.full502.backend.service.AgencyOrderService;
+import bitc.full502.backend.service.LogisticStockReservation;
+import bitc.full502.backend.service.OrderExportService;
 import bitc.full502.backend.service.OrderService;
+import bitc.full502.backend.service.StockAvailabilityIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -25,8 +34,10 @@ public class AgencyOrderController {
 
     private final AgencyOrderService service;
     private final AgencyOrderItemService itemService;
-    private final AgencyOrderRepository orderRepository;
     private final OrderService orderService;
+    private final OrderExportService exportService;
+    private final AgencyOrderBulkService bulkService;
+    private final StockAvailabilityIndex availabilityIndex;
 
     private static final Logger logger = LoggerFactory.getLogger(AgencyOrderController.class);
 
@@ -38,6 +49,23 @@ public class AgencyOrderController {
         return service.findAll();
     }
 
+    // 본사 주문 이력 내보내기 (format=csv | xlsx) - DB 커서에서 응답으로 바로 스트리밍
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(defaultValue = "csv") String format) {
+        boolean xlsx = "xlsx".equalsIgnoreCase(format);
+        String fileName = "orders_" + LocalDate.now() + (xlsx ? ".xlsx" : ".csv");
+
+        StreamingResponseBody body = xlsx ? exportService::writeXlsx : exportService::writeCsv;
+        MediaType type = xlsx
+                ? MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                : new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(type)
+                .body(body);
+    }
+
     @GetMapping("/full/{orKey}")
     public ResponseEntity<AgencyOrderDTO> getOneFull(@PathVariable int orKey) {
         AgencyOrderDTO dto = service.findFullById(orKey);
@@ -77,11 +105,9 @@ public List<AgencyOrderDTO> getMine(
     // 주문 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteOrder(@PathVariable("id") int id) {
-        if (!orderRepository.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
-        orderRepository.deleteById(id);
-        return ResponseEntity.noContent().build();
+        return service.deleteOrder(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
     }
 
     @GetMapping("/search")
@@ -92,10 +118,37 @@ public List<AgencyOrderDTO> getMine(
         return service.searchOrders(searchParams);
     }
 
+    // 본사 주문 조회 (keyset 페이지) - 검색 조건은 /search 와 동일
+    @GetMapping("/search/page")
+    public OrderSearchPageDTO getOrderPage(
+            @RequestParam Map<String, String> searchParams,
+            @RequestParam(required = false) String sortField,
+            @RequestParam(required = false) String sortOrder,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "false") boolean withCount) {
+        return service.searchOrderPage(searchParams, sortField, sortOrder, cursor, size, withCount);
+    }
+
+    // 본사 일괄 승인 (checkStock = true 면 재고 부족 시 409 + 부족 항목)
     @PostMapping("/confirm/order")
-    public void confirmOrder(@RequestBody Map<String, List<Integer>> request) {
-        List<Integer> orderIds = request.get("orderIds");
-        service.confirmOrders(orderIds);
+    public ResponseEntity<BulkConfirmResultDTO> confirmOrder(@RequestBody BulkConfirmRequestDTO request) {
+        BulkConfirmResultDTO result = service.confirmOrders(request.getOrderIds(), request.isCheckStock());
+        return result.getShortages().isEmpty()
+                ? ResponseEntity.ok(result)
+                : ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+    }
+
+    // 가용 재고 일괄 확인 (주문 입력 / 승인 화면, lgKey 없으면 전체 물류센터)
+    @PostMapping("/availability")
+    public List<AvailabilityDTO> checkAvailability(@RequestBody AvailabilityRequestDTO request) {
+        Map<Integer, Integer> items = new LinkedHashMap<>();
+        if (request.getItems() != null) {
+            request.getItems().forEach(i -> items.merge(i.getPdKey(), i.getQuantity(), Integer::sum));
+        }
+        return request.getLgKey() != null
+                ? List.of(availabilityIndex.check(request.getLgKey(), items))
+                : availabilityIndex.checkAll(items);
     }
 
     // 주문 아이템 조회
@@ -112,7 +165,7 @@ public List<AgencyOrderDTO> getMine(
 
     // 운전기사 포함 상태 업데이트
     @PutMapping("/{orKey}/status-with-driver")
-    public ResponseEntity<Void> updateStatusWithDriver(
+    public ResponseEntity<?> updateStatusWithDriver(
             @PathVariable int orKey,
             @RequestBody Map<String, Object> body) {
 
@@ -125,7 +178,12 @@ public List<AgencyOrderDTO> getMine(
         }
 
         // ✅ 상태와 기사명 업데이트 + 대리점 재고 증가
-        service.updateOrderStatusWithDriver(orKey, status, dvName, dvKey);
+        try {
+            service.updateOrderStatusWithDriver(orKey, status, dvName, dvKey);
+        } catch (LogisticStockReservation.ShortageException e) {
+            // 물류 재고 부족 → 409 + 부족한 라인 전부
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getShortages());
+        }
 
         return ResponseEntity.ok().build();
     }
@@ -168,6 +226,46 @@ public List<AgencyOrderDTO> scheduleMine(
     return service.getSchedule(from, to, gu);  // gu 기준 조회
 }
 
+    // 달력용 일자별 집계 (agKey 없으면 지역별, 있으면 해당 대리점)
+    @GetMapping("/schedule/summary")
+    public List<ScheduleDayDTO> scheduleSummary(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "agKey", required = false) Integer agKey) {
+        return service.getScheduleSummary(from, to, agKey);
+    }
+
+    // 달력에서 날짜 클릭 시 그날 주문 상세
+    @GetMapping("/schedule/day")
+    public List<AgencyOrderDTO> scheduleDay(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "agKey", required = false) Integer agKey) {
+        return service.getScheduleDay(date, agKey);
+    }
+
+    // 로그인 사용자 기준 집계 (HQ = 지역별, 그 외 = 내 지역의 대리점별)
+    @GetMapping("/schedule/mine/summary")
+    public List<ScheduleDayDTO> scheduleMineSummary(
+            Authentication auth,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return service.getScheduleSummary(from, to, scheduleFilter(auth));
+    }
+
+    @GetMapping("/schedule/mine/day")
+    public List<AgencyOrderDTO> scheduleMineDay(
+            Authentication auth,
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return service.getScheduleDay(date, scheduleFilter(auth));
+    }
+
+    // HQ 면 null (전체), 아니면 로그인 ID 로 찾은 지역
+    private String scheduleFilter(Authentication auth) {
+        boolean isHQ = auth != null && auth.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_HQ"));
+        return isHQ ? null : service.resolveGuPrefixByLoginId(auth != null ? auth.getName() : null);
+    }
+
 
 
     @GetMapping("/android")
@@ -175,6 +273,13 @@ public List<AgencyOrderDTO> scheduleMine(
         return orderService.getOrdersByAgency(agKey);
     }
 
+    // Android 증분 동기화: cursor 이후 추가/변경/삭제된 주문만 (cursor 없으면 전체)
+    @GetMapping("/android/sync")
+    public OrderSyncDTO syncOrdersByAgency(@RequestParam int agKey,
+                                           @RequestParam(required = false) String cursor) {
+        return orderService.syncOrdersByAgency(agKey, cursor);
+    }
+
     @PostMapping("/orders/{agKey}")
     public ResponseEntity<String> registerOrders( @PathVariable int agKey,
                                                   @RequestBody List<OrderItemRequestDTO> items) {
@@ -187,4 +292,10 @@ public List<AgencyOrderDTO> scheduleMine(
             return ResponseEntity.badRequest().body("주문 등록 실패: " + e.getMessage());
         }
     }
+
+    // ERP 일괄 주문 등록 (여러 대리점 주문을 한 트랜잭션으로 저장, 요청별 결과 반환)
+    @PostMapping("/orders/bulk")
+    public ResponseEntity<List<BulkOrderResultDTO>> registerBulkOrders(@RequestBody List<BulkOrderRequestDTO> orders) {
+        return ResponseEntity.ok(bulkService.registerBulk(orders));
+    }
 }
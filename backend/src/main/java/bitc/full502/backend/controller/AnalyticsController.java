@@ -0,0 +1,82 @@
+package bitc.full502.backend.controller;
+
+import bitc.full502.backend.dto.LeaderboardEntryDTO;
+import bitc.full502.backend.dto.SalesSeriesDTO;
+import bitc.full502.backend.service.Leaderboard;
+import bitc.full502.backend.service.SalesCube;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// 본사 매출 분석 (메모리 큐브 조회, DB 접근 없음) - /api/head_office/** 이므로 HEAD 권한
+@RestController
+@RequestMapping("/api/head_office/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final SalesCube salesCube;
+    private final Leaderboard leaderboard;
+
+    // 예) /sales?granularity=WEEK&from=2025-01-01&to=2025-03-31&groupBy=REGION&status=배송완료
+    @GetMapping("/sales")
+    public ResponseEntity<?> sales(
+            @RequestParam(defaultValue = "DAY") String granularity,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "NONE") String groupBy,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) Integer agKey,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer pdKey,
+            @RequestParam(value = "status", required = false) List<String> statuses) {
+        try {
+            SalesSeriesDTO result = salesCube.query(new SalesCube.Query(
+                    SalesCube.Granularity.valueOf(granularity.toUpperCase()), from, to,
+                    SalesCube.Dimension.valueOf(groupBy.toUpperCase()),
+                    region, agKey, category, pdKey, statuses));
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    // 예) /leaderboard/products?window=WEEK&n=20 → 이번 주 승인 주문 수량 상위 20 상품
+    @GetMapping("/leaderboard/products")
+    public ResponseEntity<?> topProducts(
+            @RequestParam(defaultValue = "WEEK") String window,
+            @RequestParam(defaultValue = "CONFIRMED") String measure,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "20") int n) {
+        try {
+            List<LeaderboardEntryDTO> result = leaderboard.topProducts(Leaderboard.Window.valueOf(window.toUpperCase()),
+                    Leaderboard.Measure.valueOf(measure.toUpperCase()), date != null ? date : LocalDate.now(), n);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+
+    // 예) /leaderboard/agencies?window=MONTH&n=10 → 이번 달 승인 주문 금액 상위 10 대리점
+    @GetMapping("/leaderboard/agencies")
+    public ResponseEntity<?> topAgencies(
+            @RequestParam(defaultValue = "MONTH") String window,
+            @RequestParam(defaultValue = "CONFIRMED") String measure,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "20") int n) {
+        try {
+            List<LeaderboardEntryDTO> result = leaderboard.topAgencies(Leaderboard.Window.valueOf(window.toUpperCase()),
+                    Leaderboard.Measure.valueOf(measure.toUpperCase()), date != null ? date : LocalDate.now(), n);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+        }
+    }
+}
@@ -2,7 +2,9 @@ package bitc.full502.backend.controller;
 
 import bitc.full502.backend.dto.GraphDTO;
 import bitc.full502.backend.entity.AgencyEntity;
+import bitc.full502.backend.service.DashboardCache;
 import bitc.full502.backend.service.GraphService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -12,19 +14,22 @@ import java.util.*;
 public class GraphController {
 
     private final GraphService graphService;
+    private final DashboardCache dashboardCache;
 
-    public GraphController(GraphService graphService) {
+    public GraphController(GraphService graphService, DashboardCache dashboardCache) {
         this.graphService = graphService;
+        this.dashboardCache = dashboardCache;
     }
 
+    // 본사 로그인마다 호출 → 마지막 결과를 바로 주고 오래됐으면 백그라운드 갱신 (X-Data-Age / X-Data-Stale 헤더)
     @GetMapping("/api/dashboard/monthly")
-    public List<GraphDTO> getMonthlyGraph() {
-        return graphService.getMonthlyGraph();
+    public ResponseEntity<List<GraphDTO>> getMonthlyGraph() {
+        return dashboardCache.get("dashboard.monthly", graphService::getMonthlyGraph).toResponse();
     }
 
     // 전체 대리점 목록 API
     @GetMapping("/api/dashboard/agencies") // URL 수정: /api/dashboard/agencies
-    public List<AgencyEntity> getAllAgencies() {
-        return graphService.getAllAgencies(); // 반환 타입 맞춤
+    public ResponseEntity<List<AgencyEntity>> getAllAgencies() {
+        return dashboardCache.get("dashboard.agencies", graphService::getAllAgencies).toResponse(); // 반환 타입 맞춤
     }
 }
@@ -1,9 +1,13 @@
 package bitc.full502.backend.controller;
 
+import bitc.full502.backend.dto.InventoryBalanceDTO;
 import bitc.full502.backend.dto.InventoryDTO;
+import bitc.full502.backend.entity.InventoryMovementEntity;
 import bitc.full502.backend.service.InventoryService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -20,4 +24,13 @@ public class InventoryController {
     public List<InventoryDTO> getAgencyInventory(@PathVariable int agencyId) {
         return inventoryService.getAgencyInventory(agencyId);
     }
+
+    // 원장 기준 특정 날짜 재고 (date 없으면 오늘)
+    @GetMapping("/{agencyId}/inventory/as-of")
+    public List<InventoryBalanceDTO> getAgencyInventoryAsOf(
+            @PathVariable int agencyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return inventoryService.getBalancesAsOf(InventoryMovementEntity.AGENCY, agencyId,
+                date != null ? date : LocalDate.now());
+    }
 }
@@ -1,18 +1,36 @@
 package bitc.full502.backend.controller;
 
+import bitc.full502.backend.dto.InventoryBalanceDTO;
 import bitc.full502.backend.dto.LogisticDTO;
+import bitc.full502.backend.entity.InventoryMovementEntity;
 import bitc.full502.backend.entity.LogisticEntity;
 import bitc.full502.backend.repository.LogisticRepository;
+import bitc.full502.backend.service.InventoryService;
 import bitc.full502.backend.service.LogisticService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/logistic")
 @RequiredArgsConstructor
 public class LogisticController {
   private final LogisticService logisticService;
+  private final InventoryService inventoryService;
+
+  // 원장 기준 특정 날짜 물류센터 재고 (date 없으면 오늘)
+  @GetMapping("/{lgKey}/inventory/as-of")
+  public List<InventoryBalanceDTO> getInventoryAsOf(
+      @PathVariable int lgKey,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+  ) {
+    return inventoryService.getBalancesAsOf(InventoryMovementEntity.LOGISTIC, lgKey,
+        date != null ? date : LocalDate.now());
+  }
 
   // 마이페이지 조회
   @GetMapping("/mypage/{id}")
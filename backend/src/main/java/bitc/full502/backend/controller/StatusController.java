@@ -1,8 +1,10 @@
 package bitc.full502.backend.controller;
 
 import bitc.full502.backend.dto.StatusDTO;
+import bitc.full502.backend.service.DashboardCache;
 import bitc.full502.backend.service.StatusService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -13,9 +15,11 @@ import java.util.List;
 public class StatusController {
 
     private final StatusService statusService;
+    private final DashboardCache dashboardCache;
 
+    // 대시보드 공용 캐시 (갱신 주기 app.dashboard.cache.refresh-after)
     @GetMapping("/api/status")
-    public List<StatusDTO> getStatusList() {
-        return statusService.findAllStatus();
+    public ResponseEntity<List<StatusDTO>> getStatusList() {
+        return dashboardCache.get("dashboard.status", statusService::findAllStatus).toResponse();
     }
 }
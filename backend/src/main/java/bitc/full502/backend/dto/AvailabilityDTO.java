@@ -0,0 +1,20 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 물류센터 하나의 가용 재고 확인 결과
+ * - canShip = 모든 줄의 available >= required
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityDTO {
+    private int lgKey;
+    private boolean canShip;
+    private List<AvailabilityLineDTO> lines;
+}
@@ -0,0 +1,17 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가용 재고 확인 결과 한 줄 (상품 단위)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityLineDTO {
+    private int pdKey;
+    private long required;
+    private long available;
+}
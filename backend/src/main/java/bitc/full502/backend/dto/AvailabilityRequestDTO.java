@@ -0,0 +1,16 @@
+package bitc.full502.backend.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 가용 재고 일괄 확인 요청
+ * - lgKey 가 없으면 전체 물류센터 대상
+ * - items 의 pdKey + quantity 만 사용 (같은 상품이 여러 줄이면 합산)
+ */
+@Data
+public class AvailabilityRequestDTO {
+    private Integer lgKey;
+    private List<OrderItemRequestDTO> items;
+}
@@ -0,0 +1,15 @@
+package bitc.full502.backend.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 본사 일괄 승인 요청
+ * - checkStock = true 이면 승인 전에 물류센터 재고로 처리 가능한지 점검
+ */
+@Data
+public class BulkConfirmRequestDTO {
+    private List<Integer> orderIds;
+    private boolean checkStock;
+}
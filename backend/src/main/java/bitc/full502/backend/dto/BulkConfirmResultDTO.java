@@ -0,0 +1,21 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 본사 일괄 승인 결과
+ * - confirmed < requested 이면 나머지는 이미 승인됐거나 '승인 대기중' 이 아닌 주문
+ * - shortages 가 있으면 아무 주문도 승인하지 않음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkConfirmResultDTO {
+    private int requested;
+    private int confirmed;
+    private List<StockShortageDTO> shortages;
+}
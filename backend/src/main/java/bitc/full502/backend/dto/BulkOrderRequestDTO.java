@@ -0,0 +1,20 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 주문 등록 요청 1건 (ERP 연동)
+ * - reserveDate 가 없으면 주문일 + 3일
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderRequestDTO {
+    private Integer agKey;
+    private String reserveDate;   // yyyy-MM-dd
+    private List<OrderItemRequestDTO> items;
+}
@@ -0,0 +1,28 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 주문 등록 결과 (요청 순서 index 기준)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderResultDTO {
+    private int index;
+    private Integer agKey;
+    private boolean success;
+    private Integer orKey;
+    private String orderNumber;
+    private String message;
+
+    public static BulkOrderResultDTO ok(int index, Integer agKey, int orKey, String orderNumber) {
+        return new BulkOrderResultDTO(index, agKey, true, orKey, orderNumber, null);
+    }
+
+    public static BulkOrderResultDTO failed(int index, Integer agKey, String message) {
+        return new BulkOrderResultDTO(index, agKey, false, null, null, message);
+    }
+}
@@ -0,0 +1,19 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 원장 기준 시점 재고 (위치 + 상품 1건)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryBalanceDTO {
+    private int pdKey;      // 상품 키
+    private long stock;     // asOf 날짜가 끝나는 시점의 재고
+    private String asOf;    // 기준 날짜 (yyyy-MM-dd)
+}
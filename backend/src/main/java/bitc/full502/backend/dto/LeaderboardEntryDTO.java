@@ -0,0 +1,20 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 순위표 한 줄 (상품 = 수량, 대리점 = 금액)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDTO {
+    private int rank;       // 1 부터
+    private int key;        // 상품 키 / 대리점 키
+    private String label;   // 상품명 / 대리점명
+    private long score;     // 수량 합계 / 금액 합계
+}
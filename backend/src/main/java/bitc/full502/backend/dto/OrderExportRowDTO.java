@@ -0,0 +1,29 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.sql.Date;
+
+/**
+ * 주문 내보내기(CSV/XLSX) 한 줄 = 주문 품목 1건
+ * - JPQL 생성자 표현식으로 바로 만들어서 영속성 컨텍스트에 쌓이지 않음
+ * - 품목이 없는 주문은 품목 항목이 null
+ */
+@Getter
+@AllArgsConstructor
+public class OrderExportRowDTO {
+    private int orKey;
+    private String orderNumber;
+    private String orStatus;
+    private Date orDate;
+    private Date orReserve;
+    private String orGu;
+    private String agName;
+    private String dvName;
+    private Integer pdKey;
+    private String oiProducts;
+    private Integer oiQuantity;
+    private Integer oiPrice;
+    private int orTotal;
+}
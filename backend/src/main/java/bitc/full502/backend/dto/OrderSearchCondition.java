@@ -0,0 +1,60 @@
+package bitc.full502.backend.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 본사 주문 조회(/api/agencyorder/search) 검색 조건
+ * - 프론트에서 빈 문자열로 넘어오는 조건은 null 로 정리해서 보관
+ */
+@Data
+public class OrderSearchCondition {
+    private String orderNo;
+    private String productName;
+    private String agency;
+    private String status;
+    private LocalDate orderDateFrom;
+    private LocalDate orderDateTo;
+    private LocalDate deliveryDateFrom;
+    private LocalDate deliveryDateTo;
+    private Integer quantityMin;
+    private Integer quantityMax;
+    private Integer totalMin;
+    private Integer totalMax;
+
+    public static OrderSearchCondition from(Map<String, String> params) {
+        OrderSearchCondition c = new OrderSearchCondition();
+        if (params == null) return c;
+
+        c.setOrderNo(text(params, "orderNo"));
+        c.setProductName(text(params, "productName"));
+        c.setAgency(text(params, "agency"));
+        c.setStatus(text(params, "status"));
+        c.setOrderDateFrom(date(params, "orderDateFrom"));
+        c.setOrderDateTo(date(params, "orderDateTo"));
+        c.setDeliveryDateFrom(date(params, "deliveryDateFrom"));
+        c.setDeliveryDateTo(date(params, "deliveryDateTo"));
+        c.setQuantityMin(number(params, "quantityMin"));
+        c.setQuantityMax(number(params, "quantityMax"));
+        c.setTotalMin(number(params, "totalMin"));
+        c.setTotalMax(number(params, "totalMax"));
+        return c;
+    }
+
+    private static String text(Map<String, String> params, String key) {
+        String v = params.get(key);
+        return (v == null || v.isBlank()) ? null : v.trim();
+    }
+
+    private static LocalDate date(Map<String, String> params, String key) {
+        String v = text(params, key);
+        return v == null ? null : LocalDate.parse(v);
+    }
+
+    private static Integer number(Map<String, String> params, String key) {
+        String v = text(params, key);
+        return v == null ? null : Integer.valueOf(v);
+    }
+}
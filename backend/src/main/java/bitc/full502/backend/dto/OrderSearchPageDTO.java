@@ -0,0 +1,22 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 주문 조회 keyset 페이지 응답
+ * - nextCursor 를 다음 요청의 cursor 로 그대로 넘기면 이어서 조회
+ * - totalCount 는 withCount=true 로 요청했을 때만 채워짐
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSearchPageDTO {
+    private List<OrderResponseDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalCount;
+}
@@ -0,0 +1,23 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Android 주문 목록 증분 동기화 응답
+ * - full = true 이면 changed 가 전체 목록 (로컬 목록을 통째로 교체)
+ * - full = false 이면 changed 는 추가/변경 건, deleted 는 삭제된 주문 키
+ * - 다음 요청 때 cursor 를 그대로 넘김 (같은 주문이 중복으로 올 수 있으므로 orKey 기준 덮어쓰기)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSyncDTO {
+    private boolean full;
+    private List<OrderDTO> changed;
+    private List<Integer> deleted;
+    private String cursor;
+}
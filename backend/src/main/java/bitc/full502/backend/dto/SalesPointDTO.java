@@ -0,0 +1,23 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 매출 시계열 한 점 (기간 + 묶음 항목)
+ * - groupBy 가 NONE 이면 key / label 은 null
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesPointDTO {
+    private String period;   // 기간 시작일 (yyyy-MM-dd, 주 = 월요일, 월 = 1일)
+    private String key;      // 지역 / 대리점 키 / 카테고리 / 상품 키 / 상태
+    private String label;    // 대리점명 / 상품명 (그 외는 key 와 같음)
+    private long orders;     // 주문 건수
+    private long quantity;   // 수량 합계
+    private long revenue;    // 금액 합계
+}
@@ -0,0 +1,24 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 매출 시계열 조회 결과 (메모리 큐브 기준)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesSeriesDTO {
+    private String granularity;     // DAY / WEEK / MONTH
+    private String groupBy;         // NONE / REGION / AGENCY / CATEGORY / PRODUCT / STATUS
+    private String asOf;            // 큐브에 반영된 마지막 주문 변경 시각
+    private int rows;               // 큐브 행 수 (주문 품목)
+    private long elapsedMillis;     // 조회 시간
+    private List<SalesPointDTO> points;
+}
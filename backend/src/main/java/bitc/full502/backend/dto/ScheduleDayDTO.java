@@ -0,0 +1,41 @@
+package bitc.full502.backend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * 달력 스케줄 하루 집계 (예약일 + 지역 또는 대리점 단위, JPQL GROUP BY 결과)
+ * - 지역 집계면 agKey / agName 이 null, 대리점 집계면 region 이 대리점 주문의 지역
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class ScheduleDayDTO {
+    private LocalDate date;   // 예약일 (or_reserve)
+    private String region;    // 지역 코드 (or_region)
+    private Integer agKey;
+    private String agName;
+    private long count;       // 주문 건수
+    private long quantity;    // 주문 수량 합계
+    private long total;       // 주문 금액 합계
+
+    // 예약일 + 지역
+    public ScheduleDayDTO(Date date, String region, Long count, Long quantity, Long total) {
+        this.date = date.toLocalDate();
+        this.region = region;
+        this.count = count;
+        this.quantity = quantity != null ? quantity : 0;
+        this.total = total != null ? total : 0;
+    }
+
+    // 예약일 + 대리점
+    public ScheduleDayDTO(Date date, String region, Integer agKey, String agName, Long count, Long quantity, Long total) {
+        this(date, region, count, quantity, total);
+        this.agKey = agKey;
+        this.agName = agName;
+    }
+}
@@ -0,0 +1,15 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 지역 + 상품별 필요 수량 합계 (JPQL GROUP BY 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class StockDemandDTO {
+    private String orGu;
+    private Integer pdKey;
+    private Long quantity;
+}
@@ -0,0 +1,20 @@
+package bitc.full502.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 물류센터 재고 부족 항목 (창고 + 상품 단위 합계)
+ * - lgKey 가 null 이면 주문 지역(orGu)에 매핑된 물류센터가 없음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockShortageDTO {
+    private String orGu;
+    private Integer lgKey;
+    private int pdKey;
+    private long required;
+    private long available;
+}
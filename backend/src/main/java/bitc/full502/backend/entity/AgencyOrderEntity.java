@@ -1,17 +1,21 @@
 package bitc.full502.backend.entity;
 
+import bitc.full502.backend.service.OrderRollupListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.sql.Date;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "agencyorder")
+@EntityListeners(OrderRollupListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +23,9 @@ import java.util.List;
 public class AgencyOrderEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "agencyorder_id")
+    @TableGenerator(name = "agencyorder_id", table = "id_sequences", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "agencyorder", allocationSize = 50)
     @Column(name = "or_key")
     private int orKey;
 
@@ -62,12 +68,45 @@ public class AgencyOrderEntity {
     @Column(nullable = false , length = 100 , name = "or_gu")
     private String orGu;
 
+    // 지역 코드 (or_gu 앞 2글자, 저장 시 자동 계산) → 스케줄 / 물류 조회가 인덱스를 타도록 별도 컬럼
+    @Column(nullable = false, length = 2, name = "or_region")
+    private String orRegion;
+
     @Column(nullable = false , length = 20, unique = true, name ="order_number")
     private String orderNumber;
 
     @Column(name = "dv_name")
     private String dvName;
 
+    // 마지막 변경 시각 (Android 증분 동기화 / 큐브 / 순위표 커서 기준)
+    // DB 가 기록 (DEFAULT / ON UPDATE CURRENT_TIMESTAMP(6)) → 어느 노드에서 써도 같은 시계
+    @Column(nullable = false, name = "or_updated_at", insertable = false, updatable = false)
+    private LocalDateTime orUpdatedAt;
+
+    // 낙관적 락 버전 (동시 상태 변경 시 나중 커밋이 충돌로 실패 → 재시도)
+    @Version
+    @Column(nullable = false, name = "or_version")
+    private long version;
+
+    // 목록 조회 시 주문별 items 를 IN 절로 한 번에 로딩
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<AgencyOrderItemEntity> items = new ArrayList<>();
+
+    // DB 에서 읽어 온 시점의 상태 (월별 집계 delta 계산용, 저장 안 함)
+    @Transient
+    private String loadedStatus;
+
+    @PrePersist
+    @PreUpdate
+    public void syncRegion() {
+        this.orRegion = regionOf(orGu);
+    }
+
+    // 지역명 / 주소 / 센터명 앞 2글자 (예: "부산 해운대구" → "부산")
+    public static String regionOf(String name) {
+        if (name == null) return "";
+        String trimmed = name.trim();
+        return trimmed.length() <= 2 ? trimmed : trimmed.substring(0, 2);
+    }
 }
@@ -28,7 +28,9 @@ public class AgencyOrderItemEntity {
 
     /** Primary Key: 주문 상세 항목 고유 키 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "agencyorder_item_id")
+    @TableGenerator(name = "agencyorder_item_id", table = "id_sequences", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "agencyorder_item", allocationSize = 50)
     @Column(name = "oi_key")
     private int oiKey;
 
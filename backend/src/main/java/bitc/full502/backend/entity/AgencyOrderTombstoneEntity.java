@@ -0,0 +1,33 @@
+package bitc.full502.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 주문 기록 (Android 증분 동기화에서 삭제 건 전달용)
+ * - 보관 기간이 지나면 스케줄러가 정리
+ */
+@Entity
+@Table(name = "agencyorder_deleted")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgencyOrderTombstoneEntity {
+
+    @Id
+    @Column(name = "or_key")
+    private int orKey;
+
+    @Column(nullable = false, name = "ag_key")
+    private int agKey;
+
+    // DB 가 기록 (DEFAULT CURRENT_TIMESTAMP(6)) → or_updated_at 과 같은 시계
+    @Column(nullable = false, name = "deleted_at", insertable = false, updatable = false)
+    private LocalDateTime deletedAt;
+}
@@ -8,11 +8,15 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @Setter
-@Table(name = "agencyproduct")
+@Table(name = "agencyproduct",
+        // 대리점 + 상품 당 1행 (V10, incrementStock 의 ON DUPLICATE KEY 기준)
+        uniqueConstraints = @UniqueConstraint(name = "uk_agencyproduct_agency_product", columnNames = {"ag_key", "pd_key"}))
 public class AgencyProductEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "agencyproduct_id")
+    @TableGenerator(name = "agencyproduct_id", table = "id_sequences", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "agencyproduct", allocationSize = 50)
     @Column(name = "ap_key")
     private int apKey;
 
@@ -29,5 +33,10 @@ public class AgencyProductEntity {
 
     @Column(nullable = false, name = "ap_store")
     private LocalDate apStore;
+
+    // 낙관적 락 버전
+    @Version
+    @Column(nullable = false, name = "ap_version")
+    private long version;
 }
 
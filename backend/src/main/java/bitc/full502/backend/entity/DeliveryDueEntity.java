@@ -0,0 +1,43 @@
+package bitc.full502.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배송 완료 예정 큐 ('배송중' 이 된 주문 1건 = 1행)
+ * - due_at 이 되면 DeliveryDueWorker 가 자동 배송완료 처리 후 삭제
+ * - 처리 실패 시 attempts / last_error 기록 후 재시도, 정해진 횟수를 넘기면 parked_at 을 채워 보류
+ */
+@Entity
+@Table(name = "delivery_due")
+@Getter
+@Setter
+@NoArgsConstructor
+public class DeliveryDueEntity {
+
+    @Id
+    @Column(name = "or_key")
+    private int orKey;
+
+    @Column(nullable = false, name = "due_at")
+    private LocalDateTime dueAt;
+
+    @Column(nullable = false, name = "attempts")
+    private int attempts;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    // 새로 등록 (다시 배송중이 된 주문이면 실패 기록 / 보류도 초기화)
+    public DeliveryDueEntity(int orKey, LocalDateTime dueAt) {
+        this.orKey = orKey;
+        this.dueAt = dueAt;
+    }
+}
@@ -0,0 +1,77 @@
+package bitc.full502.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 이동 원장 (추가만 하고 수정/삭제하지 않음)
+ * - 위치(물류센터 / 대리점) + 상품별 수량 증감 1건 = 1행, quantity 는 부호 있는 증감
+ * - 잔고 = 직전 스냅샷(inventory_snapshot) + 스냅샷 이후 이동 합계
+ */
+@Entity
+@Table(name = "inventory_movement")
+@Getter
+@Setter
+@NoArgsConstructor
+public class InventoryMovementEntity {
+
+    // 위치 구분
+    public static final String LOGISTIC = "LOGISTIC";
+    public static final String AGENCY = "AGENCY";
+
+    // 이동 유형 (입고 / 출고 / 배송 도착 / 조정)
+    public static final String RECEIPT = "RECEIPT";
+    public static final String SHIPMENT = "SHIPMENT";
+    public static final String DELIVERY = "DELIVERY";
+    public static final String ADJUSTMENT = "ADJUSTMENT";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "inventory_movement_id")
+    @TableGenerator(name = "inventory_movement_id", table = "id_sequences", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "inventory_movement", allocationSize = 50)
+    @Column(name = "mv_key")
+    private long mvKey;
+
+    @Column(nullable = false, name = "location_type", length = 10)
+    private String locationType;
+
+    // LOGISTIC 이면 lg_key, AGENCY 면 ag_key
+    @Column(nullable = false, name = "location_key")
+    private int locationKey;
+
+    @Column(nullable = false, name = "pd_key")
+    private int pdKey;
+
+    @Column(nullable = false, name = "mv_type", length = 20)
+    private String mvType;
+
+    @Column(nullable = false, name = "quantity")
+    private int quantity;
+
+    // 주문으로 생긴 이동이면 주문 키
+    @Column(name = "or_key")
+    private Integer orKey;
+
+    // logisticproduct / agencyproduct.stock 반영 여부 (메모리 차감분은 write-behind 가 반영 후 1)
+    @Column(nullable = false, name = "applied")
+    private boolean applied = true;
+
+    @CreationTimestamp
+    @Column(nullable = false, name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public InventoryMovementEntity(String locationType, int locationKey, int pdKey,
+                                   String mvType, int quantity, Integer orKey) {
+        this.locationType = locationType;
+        this.locationKey = locationKey;
+        this.pdKey = pdKey;
+        this.mvType = mvType;
+        this.quantity = quantity;
+        this.orKey = orKey;
+    }
+}
@@ -0,0 +1,39 @@
+package bitc.full502.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 스냅샷 (snap_at 시점까지의 원장 합계)
+ * - 스냅샷 작업 한 번 = 같은 snap_at 으로 전체 위치 + 상품 잔고를 기록
+ * - 행은 스냅샷 작업의 INSERT ... SELECT 로만 생성 (그래서 키는 IDENTITY)
+ */
+@Entity
+@Table(name = "inventory_snapshot")
+@Getter
+@Setter
+public class InventorySnapshotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sn_key")
+    private long snKey;
+
+    @Column(nullable = false, name = "snap_at")
+    private LocalDateTime snapAt;
+
+    @Column(nullable = false, name = "location_type", length = 10)
+    private String locationType;
+
+    @Column(nullable = false, name = "location_key")
+    private int locationKey;
+
+    @Column(nullable = false, name = "pd_key")
+    private int pdKey;
+
+    @Column(nullable = false, name = "balance")
+    private long balance;
+}
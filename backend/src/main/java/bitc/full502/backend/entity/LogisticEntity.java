@@ -25,6 +25,10 @@ public class LogisticEntity {
   @Column(name = "lg_name")
   private String lgName;
 
+  // 지역 코드 (lg_name 앞 2글자, 저장 시 자동 계산) → 주문 or_region 과 인덱스 조인
+  @Column(name = "lg_region", length = 2)
+  private String lgRegion;
+
   @Column(name = "lg_ceo")
   private String lgCeo;
 
@@ -45,4 +49,10 @@ public class LogisticEntity {
 
   @Column(name = "lg_email", unique = true)
   private String lgEmail;
+
+  @PrePersist
+  @PreUpdate
+  public void syncRegion() {
+    this.lgRegion = AgencyOrderEntity.regionOf(lgName);
+  }
 }
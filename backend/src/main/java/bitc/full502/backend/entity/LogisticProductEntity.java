@@ -7,7 +7,9 @@ import lombok.Setter;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "logisticproduct")
+@Table(name = "logisticproduct",
+        // 물류센터 + 상품 당 1행 (V15, 차감 / write-behind 가 같은 행을 갱신)
+        uniqueConstraints = @UniqueConstraint(name = "uk_logisticproduct_logistic_product", columnNames = {"lg_key", "pd_key"}))
 @Getter
 @Setter
 public class LogisticProductEntity {
@@ -33,4 +35,9 @@ public class LogisticProductEntity {
 
     @Column(nullable = false, name = "stock")
     private int stock;
+
+    // 낙관적 락 버전 (JPQL 재고 UPDATE 에서도 함께 증가)
+    @Version
+    @Column(nullable = false, name = "lp_version")
+    private long version;
 }
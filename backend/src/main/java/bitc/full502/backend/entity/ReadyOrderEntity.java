@@ -18,7 +18,9 @@ import java.time.LocalDateTime;
 public class ReadyOrderEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ready_id")
+    @TableGenerator(name = "ready_id", table = "id_sequences", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "ready", allocationSize = 50)
     @Column(name = "rd_key")
     private int rdKey;
 
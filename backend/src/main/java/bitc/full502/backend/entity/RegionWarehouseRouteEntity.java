@@ -0,0 +1,34 @@
+package bitc.full502.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 지역 → 물류센터 출고 경로 (지역 하나에 우선순위 순으로 여러 창고)
+ * - priority 1 = 기본 창고, 이후는 기본 창고 재고가 부족할 때 나눠 보낼 대체 창고
+ * - capacity = 주문 1건에서 이 창고가 맡을 수 있는 최대 수량 (null 이면 제한 없음)
+ */
+@Entity
+@Table(name = "region_warehouse_route")
+@Getter
+@Setter
+public class RegionWarehouseRouteEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rw_key")
+    private int rwKey;
+
+    @Column(nullable = false, name = "or_gu", length = 20)
+    private String orGu;
+
+    @Column(nullable = false, name = "lg_key")
+    private int lgKey;
+
+    @Column(nullable = false, name = "priority")
+    private int priority;
+
+    @Column(name = "capacity")
+    private Integer capacity;
+}
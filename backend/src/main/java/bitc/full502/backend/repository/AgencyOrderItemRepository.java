@@ -1,5 +1,6 @@
 package bitc.full502.backend.repository;
 
+import bitc.full502.backend.dto.StockDemandDTO;
 import bitc.full502.backend.entity.AgencyOrderItemEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -18,4 +19,12 @@ public interface AgencyOrderItemRepository extends JpaRepository<AgencyOrderItem
     // 대리점 기준 전체 조회
     @Query("SELECT i FROM AgencyOrderItemEntity i WHERE i.order.agency.agKey = :agencyId")
     List<AgencyOrderItemEntity> findAllByAgencyId(@Param("agencyId") int agencyId);
+
+    // 일괄 승인 재고 점검: 선택한 주문 중 status 인 것들의 지역 + 상품별 수량 합계
+    @Query("SELECT new bitc.full502.backend.dto.StockDemandDTO(ao.orGu, i.pdKey, SUM(i.oiQuantity)) " +
+            "FROM AgencyOrderItemEntity i JOIN i.order ao " +
+            "WHERE ao.orKey IN :orKeys AND ao.orStatus = :status " +
+            "GROUP BY ao.orGu, i.pdKey")
+    List<StockDemandDTO> sumDemandByGuAndProduct(@Param("orKeys") List<Integer> orKeys,
+                                                 @Param("status") String status);
 }
@@ -1,22 +1,43 @@
 package bitc.full502.backend.repository;
 
+import bitc.full502.backend.dto.OrderExportRowDTO;
+import bitc.full502.backend.dto.ScheduleDayDTO;
 import bitc.full502.backend.entity.AgencyOrderEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface AgencyOrderRepository extends JpaRepository<AgencyOrderEntity, Integer> {
+public interface AgencyOrderRepository extends JpaRepository<AgencyOrderEntity, Integer>,
+        JpaSpecificationExecutor<AgencyOrderEntity> {
 
 
+    // 목록 조회 공통 fetch plan: agency / delivery / product 는 join 으로 함께 로딩,
+    // items 는 엔티티의 @BatchSize 로 IN 절 일괄 로딩 → 건수와 무관하게 쿼리 수 고정
+
+    // 전체 주문 조회 (fetch plan 적용)
+    @EntityGraph(attributePaths = {"agency", "delivery", "product"})
+    @Query("SELECT ao FROM AgencyOrderEntity ao")
+    List<AgencyOrderEntity> findAllWithRefs();
+
     // 대리점 ID로 주문 조회
+    @EntityGraph(attributePaths = {"agency", "delivery", "product"})
     List<AgencyOrderEntity> findByAgency_AgKey(int agencyId);
 
     // 2️⃣ 대리점 ID + 주문 상태 조회 (JPQL)
+    @EntityGraph(attributePaths = {"agency", "delivery", "product"})
     @Query("SELECT ao FROM AgencyOrderEntity ao " +
             "WHERE ao.agency.agKey = :agKey " +
             "AND ao.orStatus = :status")
@@ -24,49 +45,121 @@ public interface AgencyOrderRepository extends JpaRepository<AgencyOrderEntity,
                                                   @Param("status") String status);
 
     // 3️⃣ 단순 상태 기준 조회
+    @EntityGraph(attributePaths = {"agency", "delivery", "product"})
     @Query("SELECT ao FROM AgencyOrderEntity ao WHERE ao.orStatus IN :statuses")
 List<AgencyOrderEntity> findByOrStatusIn(@Param("statuses") List<String> statuses);
 
-    // 4️⃣ 오늘 날짜 prefix로 시작하는 order_number 개수 조회
-    long countByOrderNumberStartingWith(String todayPrefix);
-
-    // 5️⃣ 스케줄 조회 (예약일 기준)
+    // 5️⃣ 스케줄 조회 (예약일 기준) - 전체 조회는 (or_reserve) 범위, 지역 조회는 (or_region, or_reserve) 범위 스캔
     @Query("""
         select o
         from AgencyOrderEntity o
         join fetch o.agency a
         where o.orReserve between :from and :to
-            and (:gu is null or :gu = '' or substring(o.orGu, 1, 2) = :gu)
         order by o.orReserve asc, a.agName asc
     """)
     List<AgencyOrderEntity> findSchedule(@Param("from") LocalDate from,
-                                         @Param("to") LocalDate to,
-                                         @Param("gu") String gu);
+                                         @Param("to") LocalDate to);
 
+    @Query("""
+        select o
+        from AgencyOrderEntity o
+        join fetch o.agency a
+        where o.orRegion = :region
+            and o.orReserve between :from and :to
+        order by o.orReserve asc, a.agName asc
+    """)
+    List<AgencyOrderEntity> findScheduleByRegion(@Param("from") LocalDate from,
+                                                 @Param("to") LocalDate to,
+                                                 @Param("region") String region);
+
+
+    // 달력 집계: 예약일 + 지역별 건수 / 수량 / 금액 (or_reserve 범위, 행은 DB 에서 GROUP BY)
+    @Query("""
+        select new bitc.full502.backend.dto.ScheduleDayDTO(
+            o.orReserve, o.orRegion, count(o), sum(o.orQuantity), sum(o.orTotal))
+        from AgencyOrderEntity o
+        where o.orReserve between :from and :to
+        group by o.orReserve, o.orRegion
+        order by o.orReserve asc, o.orRegion asc
+    """)
+    List<ScheduleDayDTO> summarizeScheduleByRegion(@Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to);
+
+    // 달력 집계: 한 지역의 예약일 + 대리점별 ((or_region, or_reserve) 인덱스)
+    @Query("""
+        select new bitc.full502.backend.dto.ScheduleDayDTO(
+            o.orReserve, o.orRegion, a.agKey, a.agName, count(o), sum(o.orQuantity), sum(o.orTotal))
+        from AgencyOrderEntity o
+        join o.agency a
+        where o.orRegion = :region
+            and o.orReserve between :from and :to
+        group by o.orReserve, o.orRegion, a.agKey, a.agName
+        order by o.orReserve asc, a.agName asc
+    """)
+    List<ScheduleDayDTO> summarizeScheduleForRegion(@Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to,
+                                                    @Param("region") String region);
 
-    // 6️⃣ 최대 orderNumber 조회 (패턴 기반)
-    @Query("SELECT MAX(a.orderNumber) FROM AgencyOrderEntity a WHERE a.orderNumber LIKE :pattern")
-    String findMaxOrderNumberLike(@Param("pattern") String pattern);
+    // 달력 집계: 대리점 한 곳의 예약일별
+    @Query("""
+        select new bitc.full502.backend.dto.ScheduleDayDTO(
+            o.orReserve, o.orRegion, a.agKey, a.agName, count(o), sum(o.orQuantity), sum(o.orTotal))
+        from AgencyOrderEntity o
+        join o.agency a
+        where a.agKey = :agKey
+            and o.orReserve between :from and :to
+        group by o.orReserve, o.orRegion, a.agKey, a.agName
+        order by o.orReserve asc
+    """)
+    List<ScheduleDayDTO> summarizeScheduleForAgency(@Param("from") LocalDate from,
+                                                    @Param("to") LocalDate to,
+                                                    @Param("agKey") int agKey);
 
+    @EntityGraph(attributePaths = {"agency", "delivery", "product"})
     @Query("""
     SELECT ao
     FROM AgencyOrderEntity ao
     JOIN LogisticEntity lg
-      ON SUBSTRING(ao.orGu,1,2) = SUBSTRING(lg.lgName,1,2)
+      ON ao.orRegion = lg.lgRegion
     WHERE lg.lgId = :loginId
     ORDER BY ao.orDate DESC, ao.orKey DESC
 """)
     List<AgencyOrderEntity> findForLogisticByLoginId(@Param("loginId") String loginId);
 
+    // 배치 청크: 주문 + 대리점 + 기사 + items 한 번에
+    @Query("SELECT DISTINCT ao FROM AgencyOrderEntity ao " +
+            "JOIN FETCH ao.agency LEFT JOIN FETCH ao.delivery LEFT JOIN FETCH ao.items " +
+            "WHERE ao.orKey IN :orKeys")
+    List<AgencyOrderEntity> findWithItemsByOrKeyIn(@Param("orKeys") List<Integer> orKeys);
+
     // 배송중 주문 + items fetch join
     @Query("SELECT ao FROM AgencyOrderEntity ao LEFT JOIN FETCH ao.items WHERE ao.orStatus = :status")
     List<AgencyOrderEntity> findByOrStatusWithItems(@Param("status") String status);
 
-    @Query("SELECT max(ao.orderNumber) FROM AgencyOrderEntity AS ao")
-    int findMaxOrderNumber();
-
+    @EntityGraph(attributePaths = {"agency", "delivery", "product"})
     List<AgencyOrderEntity> findByAgencyAgKey(int agKey);
 
+    // 일괄 승인 대상 잠금: 현재 상태가 status 인 주문만 (or_key 순으로 잠가서 동시 승인끼리 데드락 없음)
+    @Query(value = "SELECT or_key FROM agencyorder WHERE or_key IN (:orKeys) AND or_status = :status ORDER BY or_key FOR UPDATE",
+            nativeQuery = true)
+    List<Integer> lockKeysInStatus(@Param("orKeys") List<Integer> orKeys, @Param("status") String status);
+
+    // 일괄 승인: 현재 상태가 from 인 주문만 to 로 변경 (UPDATE 한 번, or_updated_at 은 DB 의 ON UPDATE 가 갱신)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AgencyOrderEntity ao SET ao.orStatus = :to, ao.version = ao.version + 1 " +
+            "WHERE ao.orKey IN :orKeys AND ao.orStatus = :from")
+    int updateStatusIfCurrent(@Param("orKeys") List<Integer> orKeys,
+                              @Param("from") String from,
+                              @Param("to") String to);
+
+    // 주문 키 목록이 속한 대리점 키 (캐시 무효화용)
+    @Query("SELECT DISTINCT ao.agency.agKey FROM AgencyOrderEntity ao WHERE ao.orKey IN :orKeys")
+    List<Integer> findAgencyKeysByOrKeyIn(@Param("orKeys") List<Integer> orKeys);
+
+    // Android 증분 동기화: since 이후 추가/변경된 주문 (ag_key, or_updated_at 인덱스)
+    @EntityGraph(attributePaths = {"agency", "delivery"})
+    List<AgencyOrderEntity> findByAgency_AgKeyAndOrUpdatedAtAfter(int agKey, LocalDateTime since);
+
     // 대리점 본인 스케줄 조회 (ag_key 기준)
     @Query("""
     select o
@@ -86,11 +179,12 @@ List<AgencyOrderEntity> findByOrStatusIn(@Param("statuses") List<String> statuse
     // ============================================================
     //  ⭐⭐⭐ [추가됨] 물류 로그인 사용자 + 상태 조건으로 주문 가져오기
     // ============================================================
+    @EntityGraph(attributePaths = {"agency", "delivery", "product"})
     @Query("""
     SELECT ao
     FROM AgencyOrderEntity ao
     JOIN LogisticEntity lg
-      ON SUBSTRING(ao.orGu,1,2) = SUBSTRING(lg.lgName,1,2)
+      ON ao.orRegion = lg.lgRegion
     WHERE lg.lgId = :loginId
       AND ao.orStatus IN :statuses
     ORDER BY ao.orDate DESC, ao.orKey DESC
@@ -99,4 +193,24 @@ List<AgencyOrderEntity> findForLogisticByLoginIdAndStatusIn(
         @Param("loginId") String loginId,
         @Param("statuses") List<String> statuses);
 
+
+    // 주문 내보내기용 스트리밍 조회 (주문 품목 1건 = 1행)
+    // fetch size = Integer.MIN_VALUE → MySQL 드라이버가 결과를 한 행씩 스트리밍
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+    SELECT new bitc.full502.backend.dto.OrderExportRowDTO(
+        ao.orKey, ao.orderNumber, ao.orStatus, ao.orDate, ao.orReserve, ao.orGu,
+        a.agName, COALESCE(d.dvName, ao.dvName),
+        i.pdKey, i.oiProducts, i.oiQuantity, i.oiPrice, ao.orTotal)
+    FROM AgencyOrderEntity ao
+    JOIN ao.agency a
+    LEFT JOIN ao.delivery d
+    LEFT JOIN ao.items i
+    ORDER BY ao.orKey ASC, i.oiKey ASC
+""")
+    Stream<OrderExportRowDTO> streamExportRows();
+
 }
@@ -0,0 +1,165 @@
+package bitc.full502.backend.repository;
+
+import bitc.full502.backend.dto.OrderSearchCondition;
+import bitc.full502.backend.entity.AgencyEntity;
+import bitc.full502.backend.entity.AgencyOrderEntity;
+import bitc.full502.backend.entity.ProductEntity;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * AgencyOrderSpecification
+ * ------------------------
+ * 본사 주문 조회 동적 쿼리
+ * - 검색 조건은 전부 WHERE 절로 내려서 DB 에서 필터링
+ * - 목록 조회일 때는 agency / product 를 fetch join (행마다 추가 쿼리 방지)
+ * - keyset(정렬값 + or_key) 커서로 다음 페이지 조회
+ */
+public final class AgencyOrderSpecification {
+
+    private AgencyOrderSpecification() {
+    }
+
+    /** 정렬 가능한 항목 (keyset 커서를 위해 NOT NULL 컬럼만 허용) */
+    public enum SortKey {
+        orKey, orDate, orTotal, orQuantity, orderNumber;
+
+        public static SortKey of(String field) {
+            if (field == null || field.isBlank()) return orKey;
+            for (SortKey key : values()) {
+                if (key.name().equals(field)) return key;
+            }
+            throw new IllegalArgumentException("정렬할 수 없는 항목: " + field);
+        }
+
+        public Sort sort(boolean asc) {
+            Sort.Direction dir = asc ? Sort.Direction.ASC : Sort.Direction.DESC;
+            Sort sort = Sort.by(dir, name());
+            return this == orKey ? sort : sort.and(Sort.by(dir, "orKey"));
+        }
+
+        Comparable<?> parse(String raw) {
+            return switch (this) {
+                case orKey, orTotal, orQuantity -> Integer.valueOf(raw);
+                case orDate -> Date.valueOf(raw);
+                case orderNumber -> raw;
+            };
+        }
+
+        Object valueOf(AgencyOrderEntity e) {
+            return switch (this) {
+                case orKey -> e.getOrKey();
+                case orDate -> e.getOrDate();
+                case orTotal -> e.getOrTotal();
+                case orQuantity -> e.getOrQuantity();
+                case orderNumber -> e.getOrderNumber();
+            };
+        }
+    }
+
+    /** 마지막 행 기준 커서 (정렬값|orKey → base64) */
+    public static String encodeCursor(SortKey key, AgencyOrderEntity last) {
+        String raw = key.valueOf(last) + "|" + last.getOrKey();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    //============================================================
+    // 1️⃣ 검색 조건
+    //============================================================
+    @SuppressWarnings("unchecked")
+    public static Specification<AgencyOrderEntity> search(OrderSearchCondition c) {
+        return (root, query, cb) -> {
+            List<Predicate> where = new ArrayList<>();
+
+            Join<AgencyOrderEntity, AgencyEntity> agency = null;
+            Join<AgencyOrderEntity, ProductEntity> product = null;
+            if (isCountQuery(query)) {
+                // count 쿼리에는 fetch 를 쓸 수 없으므로 필요한 경우만 join
+                if (c.getAgency() != null) agency = root.join("agency", JoinType.LEFT);
+                if (c.getProductName() != null) product = root.join("product", JoinType.LEFT);
+            } else {
+                agency = (Join<AgencyOrderEntity, AgencyEntity>) root.<AgencyOrderEntity, AgencyEntity>fetch("agency", JoinType.LEFT);
+                product = (Join<AgencyOrderEntity, ProductEntity>) root.<AgencyOrderEntity, ProductEntity>fetch("product", JoinType.LEFT);
+            }
+
+            if (c.getOrderNo() != null) {
+                where.add(cb.like(root.get("orKey").as(String.class), "%" + c.getOrderNo() + "%"));
+            }
+            if (c.getProductName() != null) {
+                where.add(cb.like(product.<String>get("pdProducts"), "%" + c.getProductName() + "%"));
+            }
+            if (c.getAgency() != null) {
+                where.add(cb.like(agency.<String>get("agName"), "%" + c.getAgency() + "%"));
+            }
+            if (c.getStatus() != null) {
+                where.add(cb.equal(root.get("orStatus"), c.getStatus()));
+            }
+
+            Expression<Date> orDate = root.get("orDate");
+            if (c.getOrderDateFrom() != null) {
+                where.add(cb.greaterThanOrEqualTo(orDate, Date.valueOf(c.getOrderDateFrom())));
+            }
+            if (c.getOrderDateTo() != null) {
+                where.add(cb.lessThanOrEqualTo(orDate, Date.valueOf(c.getOrderDateTo())));
+            }
+
+            Expression<Date> orReserve = root.get("orReserve");
+            if (c.getDeliveryDateFrom() != null) {
+                where.add(cb.greaterThanOrEqualTo(orReserve, Date.valueOf(c.getDeliveryDateFrom())));
+            }
+            if (c.getDeliveryDateTo() != null) {
+                where.add(cb.lessThanOrEqualTo(orReserve, Date.valueOf(c.getDeliveryDateTo())));
+            }
+
+            Expression<Integer> orQuantity = root.get("orQuantity");
+            if (c.getQuantityMin() != null) where.add(cb.greaterThanOrEqualTo(orQuantity, c.getQuantityMin()));
+            if (c.getQuantityMax() != null) where.add(cb.lessThanOrEqualTo(orQuantity, c.getQuantityMax()));
+
+            Expression<Integer> orTotal = root.get("orTotal");
+            if (c.getTotalMin() != null) where.add(cb.greaterThanOrEqualTo(orTotal, c.getTotalMin()));
+            if (c.getTotalMax() != null) where.add(cb.lessThanOrEqualTo(orTotal, c.getTotalMax()));
+
+            return cb.and(where.toArray(new Predicate[0]));
+        };
+    }
+
+    //============================================================
+    // 2️⃣ keyset 커서 이후 행만 조회
+    //    (정렬값 > v) OR (정렬값 = v AND or_key > k)  ※ desc 면 부등호 반대
+    //============================================================
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<AgencyOrderEntity> after(SortKey key, boolean asc, String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int sep = raw.lastIndexOf('|');
+        if (sep < 0) throw new IllegalArgumentException("잘못된 커서: " + cursor);
+
+        Comparable value = key.parse(raw.substring(0, sep));
+        int lastOrKey = Integer.parseInt(raw.substring(sep + 1));
+
+        return (root, query, cb) -> {
+            Expression<Integer> id = root.get("orKey");
+            Predicate idAfter = asc ? cb.greaterThan(id, lastOrKey) : cb.lessThan(id, lastOrKey);
+            if (key == SortKey.orKey) return idAfter;
+
+            Expression field = root.get(key.name());
+            Predicate beyond = asc ? cb.greaterThan(field, value) : cb.lessThan(field, value);
+            return cb.or(beyond, cb.and(cb.equal(field, value), idAfter));
+        };
+    }
+
+    private static boolean isCountQuery(CriteriaQuery<?> query) {
+        Class<?> type = query.getResultType();
+        return Long.class == type || long.class == type;
+    }
+}
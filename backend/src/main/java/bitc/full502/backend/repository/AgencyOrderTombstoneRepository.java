@@ -0,0 +1,18 @@
+package bitc.full502.backend.repository;
+
+import bitc.full502.backend.entity.AgencyOrderTombstoneEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AgencyOrderTombstoneRepository extends JpaRepository<AgencyOrderTombstoneEntity, Integer> {
+
+    // 대리점의 since 이후 삭제 건
+    List<AgencyOrderTombstoneEntity> findByAgKeyAndDeletedAtAfter(int agKey, LocalDateTime since);
+
+    // 보관 기간 지난 기록 정리
+    long deleteByDeletedAtBefore(LocalDateTime before);
+}
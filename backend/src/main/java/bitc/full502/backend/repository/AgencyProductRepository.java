@@ -6,7 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 import java.util.Optional;
 
-public interface AgencyProductRepository extends JpaRepository<AgencyProductEntity, Integer> {
+public interface AgencyProductRepository extends JpaRepository<AgencyProductEntity, Integer>, AgencyProductStockRepository {
 
     /**
      * 특정 대리점 취급 품목 조회
@@ -22,5 +22,5 @@ public interface AgencyProductRepository extends JpaRepository<AgencyProductEnti
      * @return Optional<AgencyProductEntity>
      */
     List<AgencyProductEntity> findByAgency_AgKeyAndProduct_PdKey(int agencyId, int pdKey);
-}
 
+}
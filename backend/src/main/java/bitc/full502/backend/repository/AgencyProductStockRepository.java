@@ -0,0 +1,22 @@
+package bitc.full502.backend.repository;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * 대리점 재고 원자적 증가 (AgencyProductRepository 에 붙는 JDBC 조각)
+ */
+public interface AgencyProductStockRepository {
+
+    /** 증가 요청 한 줄 (대리점 + 상품 + 수량) */
+    record StockIncrement(int agKey, int pdKey, int quantity) {}
+
+    /**
+     * 여러 (대리점, 상품) 재고를 DB 에서 바로 증가 (읽고-더하고-저장 없음)
+     * - 없는 (대리점, 상품) 은 새 행으로 생성
+     * @return 새로 생성된 행 수
+     */
+    @Transactional
+    int incrementStock(Collection<StockIncrement> increments);
+}
@@ -0,0 +1,81 @@
+package bitc.full502.backend.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * AgencyProductStockRepository 구현
+ * - 같은 (대리점, 상품) 은 합친 뒤 (ag_key, pd_key) 순으로 정렬 → 행 잠금 순서 고정
+ * - 모든 줄을 INSERT ... ON DUPLICATE KEY UPDATE batch 한 번으로 (있으면 증가, 없으면 생성)
+ *   → 없는 행에 UPDATE 를 먼저 하면 유니크 키에 gap lock 이 걸리고, 같은 행을 만들려는 두 트랜잭션이
+ *     서로의 gap lock 때문에 INSERT 에서 교착 (REPEATABLE READ) → 잠그는 읽기 없이 바로 upsert
+ * - 키는 줄 수만큼 미리 예약 (이미 있던 행 몫은 버려짐 → ap_key 에 빈 번호가 생기지만 무해)
+ * - uk_agencyproduct_agency_product (ag_key, pd_key) 유니크 키 전제 (V10)
+ */
+public class AgencyProductStockRepositoryImpl implements AgencyProductStockRepository {
+
+    private static final Comparator<StockIncrement> LOCK_ORDER =
+            Comparator.comparingInt(StockIncrement::agKey).thenComparingInt(StockIncrement::pdKey);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate keyTx;
+
+    public AgencyProductStockRepositoryImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.keyTx = new TransactionTemplate(transactionManager);
+        this.keyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public int incrementStock(Collection<StockIncrement> increments) {
+        // 합치기 (TreeMap 키는 agKey/pdKey 로만 비교, 수량 합계는 값에)
+        TreeMap<StockIncrement, Integer> merged = new TreeMap<>(LOCK_ORDER);
+        for (StockIncrement inc : increments) {
+            merged.merge(inc, inc.quantity(), Integer::sum);
+        }
+        if (merged.isEmpty()) return 0;
+
+        // 키 예약 (즉시 커밋) 후 upsert
+        int firstKey = reserveKeys(merged.size());
+        int nextKey = firstKey;
+        LocalDate today = LocalDate.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<StockIncrement, Integer> line : merged.entrySet()) {
+            rows.add(new Object[]{nextKey++, line.getKey().agKey(), line.getKey().pdKey(),
+                    line.getValue(), today, line.getValue()});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO agencyproduct (ap_key, ag_key, pd_key, stock, ap_store, ap_version)
+                VALUES (?, ?, ?, ?, ?, 0)
+                ON DUPLICATE KEY UPDATE stock = stock + ?, ap_version = ap_version + 1
+                """, rows);
+
+        // 새로 생긴 행 = 예약한 키를 가진 행 (rewriteBatchedStatements 에서는 batch 결과 건수를 믿을 수 없음)
+        Integer created = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM agencyproduct WHERE ap_key >= ? AND ap_key < ?", Integer.class, firstKey, nextKey);
+        return created != null ? created : 0;
+    }
+
+    // id_sequences 의 agencyproduct 행을 count 만큼 올리고 [시작, 시작 + count) 를 받음 (즉시 커밋)
+    private int reserveKeys(int count) {
+        Integer hi = keyTx.execute(status -> {
+            jdbcTemplate.update("UPDATE id_sequences SET next_val = next_val + ? WHERE seq_name = 'agencyproduct'", count);
+            return jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM id_sequences WHERE seq_name = 'agencyproduct'", Integer.class);
+        });
+        if (hi == null) {
+            throw new IllegalStateException("대리점 재고 키 예약 실패");
+        }
+        return hi - count;
+    }
+}
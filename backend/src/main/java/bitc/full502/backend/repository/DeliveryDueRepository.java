@@ -0,0 +1,54 @@
+package bitc.full502.backend.repository;
+
+import bitc.full502.backend.entity.DeliveryDueEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DeliveryDueRepository extends JpaRepository<DeliveryDueEntity, Integer> {
+
+    // until 이전에 완료 예정인 항목, 보류된 것 제외 ((parked_at, due_at) 인덱스 범위 스캔)
+    List<DeliveryDueEntity> findByParkedAtIsNullAndDueAtBeforeOrderByDueAt(LocalDateTime until, Pageable page);
+
+    // 큐에 없는 '배송중' 주문을 dueAt 으로 등록 (다른 경로로 배송중이 된 주문 보정)
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT IGNORE INTO delivery_due (or_key, due_at)
+        SELECT ao.or_key, :dueAt
+          FROM agencyorder ao
+         WHERE ao.or_status = :status
+           AND NOT EXISTS (SELECT 1 FROM delivery_due d WHERE d.or_key = ao.or_key)
+        """, nativeQuery = true)
+    int enqueueMissing(@Param("status") String status, @Param("dueAt") LocalDateTime dueAt);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DeliveryDueEntity d WHERE d.orKey IN :orKeys")
+    int deleteByOrKeys(@Param("orKeys") Collection<Integer> orKeys);
+
+    // 자동완료 실패 → 실패 횟수 / 사유 기록 후 dueAt 에 다시 시도
+    @Modifying
+    @Transactional
+    @Query("UPDATE DeliveryDueEntity d SET d.dueAt = :dueAt, d.attempts = d.attempts + 1, d.lastError = :error WHERE d.orKey = :orKey")
+    int recordFailure(@Param("orKey") int orKey, @Param("dueAt") LocalDateTime dueAt, @Param("error") String error);
+
+    // maxAttempts 번 이상 실패한 항목 보류 (reload 에서 빠짐)
+    @Modifying
+    @Transactional
+    @Query("UPDATE DeliveryDueEntity d SET d.parkedAt = :parkedAt WHERE d.orKey IN :orKeys AND d.attempts >= :maxAttempts AND d.parkedAt IS NULL")
+    int park(@Param("orKeys") Collection<Integer> orKeys, @Param("maxAttempts") int maxAttempts,
+             @Param("parkedAt") LocalDateTime parkedAt);
+
+    @Query("SELECT d.orKey FROM DeliveryDueEntity d WHERE d.orKey IN :orKeys AND d.parkedAt IS NOT NULL")
+    List<Integer> findParked(@Param("orKeys") Collection<Integer> orKeys);
+}
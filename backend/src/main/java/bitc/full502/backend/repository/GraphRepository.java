@@ -10,14 +10,18 @@ import java.util.List;
 @Repository
 public interface GraphRepository extends JpaRepository<AgencyOrderEntity, Integer> {
 
-    @Query("SELECT FUNCTION('DATE_FORMAT', o.orDate, '%Y-%m') as month, " +
-            "o.agency.agAddress as region, " +
-            "o.agency.agName as agName, " +
-            "COUNT(CASE WHEN o.orStatus IN ('승인 완료', '배송 준비중') THEN 1 END) AS orderCnt, " +
-            "COUNT(CASE WHEN o.orStatus IN ('배송중', '배송완료') THEN 1 END) AS statusCnt " +
-            "FROM AgencyOrderEntity o " +
-            "GROUP BY FUNCTION('DATE_FORMAT', o.orDate, '%Y-%m'), o.agency.agAddress, o.agency.agName " +
-            "ORDER BY FUNCTION('DATE_FORMAT', o.orDate, '%Y-%m') ASC")
-    List<Object[]> getMonthlyGraphData();
+    // 월별 집계 테이블 + 아직 합치지 않은 delta (수백 행) → 월 + 대리점별 주문 / 출고 건수
+    @Query(value = """
+            SELECT x.rl_month AS month, a.ag_address AS region, a.ag_name AS agName,
+                   SUM(CASE WHEN x.or_status IN ('승인 완료', '배송 준비중') THEN x.cnt ELSE 0 END) AS orderCnt,
+                   SUM(CASE WHEN x.or_status IN ('배송중', '배송완료') THEN x.cnt ELSE 0 END) AS statusCnt
+              FROM (SELECT rl_month, ag_key, or_status, order_cnt AS cnt FROM order_monthly_rollup
+                    UNION ALL
+                    SELECT rd_month, ag_key, or_status, delta FROM order_rollup_delta) x
+              JOIN agency a ON a.ag_key = x.ag_key
+             GROUP BY x.rl_month, a.ag_key, a.ag_address, a.ag_name
+            HAVING SUM(x.cnt) > 0
+             ORDER BY x.rl_month ASC
+            """, nativeQuery = true)
+    List<Object[]> getMonthlyRollupData();
 }
-
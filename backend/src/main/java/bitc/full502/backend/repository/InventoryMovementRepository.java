@@ -0,0 +1,33 @@
+package bitc.full502.backend.repository;
+
+import bitc.full502.backend.entity.InventoryMovementEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovementEntity, Long> {
+
+    // 원장 시작 시각 (가장 이른 이동 = 기초 재고, 없으면 null)
+    @Query("SELECT MIN(m.createdAt) FROM InventoryMovementEntity m")
+    LocalDateTime findFirstCreatedAt();
+
+    // 위치 하나의 (from, to) 구간 상품별 증감 합계 → [pdKey, SUM(quantity)]
+    @Query("""
+SELECT m.pdKey, SUM(m.quantity)
+  FROM InventoryMovementEntity m
+ WHERE m.locationType = :locationType
+   AND m.locationKey = :locationKey
+   AND m.createdAt > :from
+   AND m.createdAt < :to
+ GROUP BY m.pdKey
+""")
+    List<Object[]> sumByProduct(@Param("locationType") String locationType,
+                                @Param("locationKey") int locationKey,
+                                @Param("from") LocalDateTime from,
+                                @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,59 @@
+package bitc.full502.backend.repository;
+
+import bitc.full502.backend.entity.InventorySnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface InventorySnapshotRepository extends JpaRepository<InventorySnapshotEntity, Long> {
+
+    // before 이전 마지막 스냅샷 시각 (없으면 null)
+    @Query("SELECT MAX(s.snapAt) FROM InventorySnapshotEntity s WHERE s.snapAt < :before")
+    LocalDateTime findLatestSnapAtBefore(@Param("before") LocalDateTime before);
+
+    // after 이후 스냅샷 시각들 (오래된 순)
+    @Query("SELECT DISTINCT s.snapAt FROM InventorySnapshotEntity s WHERE s.snapAt > :after ORDER BY s.snapAt")
+    List<LocalDateTime> findSnapAtsAfter(@Param("after") LocalDateTime after);
+
+    List<InventorySnapshotEntity> findBySnapAtAndLocationTypeAndLocationKey(LocalDateTime snapAt,
+                                                                            String locationType,
+                                                                            int locationKey);
+
+    // 직전 스냅샷(prev) 잔고 + (prev, until] 이동 합계 → until 시점 스냅샷
+    // (첫 스냅샷이면 prev 에 해당하는 행이 없으므로 원장 전체 합계)
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO inventory_snapshot (snap_at, location_type, location_key, pd_key, balance)
+        SELECT :until, x.location_type, x.location_key, x.pd_key, SUM(x.qty)
+          FROM (SELECT location_type, location_key, pd_key, balance AS qty
+                  FROM inventory_snapshot
+                 WHERE snap_at = :prev
+                UNION ALL
+                SELECT location_type, location_key, pd_key, quantity AS qty
+                  FROM inventory_movement
+                 WHERE created_at > :prev
+                   AND created_at <= :until) x
+         GROUP BY x.location_type, x.location_key, x.pd_key
+        """, nativeQuery = true)
+    int takeSnapshot(@Param("prev") LocalDateTime prev, @Param("until") LocalDateTime until);
+
+    // 다시 계산할 스냅샷 지우기
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM InventorySnapshotEntity s WHERE s.snapAt > :after")
+    int deleteBySnapAtAfter(@Param("after") LocalDateTime after);
+
+    // 보관 기간 지난 스냅샷 정리 (원장은 그대로라 이전 시점 조회도 계속 가능)
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM InventorySnapshotEntity s WHERE s.snapAt < :before")
+    int deleteBySnapAtBefore(@Param("before") LocalDateTime before);
+}
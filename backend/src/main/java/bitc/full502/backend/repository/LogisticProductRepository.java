@@ -17,24 +17,10 @@ public interface LogisticProductRepository extends JpaRepository<LogisticProduct
     // 재고 증가
     @Modifying
     @Transactional
-    @Query("UPDATE LogisticProductEntity lp SET lp.stock = lp.stock + :quantity, lp.lpStore = CURRENT_DATE WHERE lp.lpKey = :lpKey")
+    @Query("UPDATE LogisticProductEntity lp SET lp.stock = lp.stock + :quantity, lp.lpStore = CURRENT_DATE, lp.version = lp.version + 1 WHERE lp.lpKey = :lpKey")
     void increaseStock(@Param("lpKey") Integer lpKey, @Param("quantity") Integer quantity);
 
 
-    @Modifying
-    @Transactional
-    @Query("""
-UPDATE LogisticProductEntity lp
-   SET lp.stock = lp.stock - :quantity
- WHERE lp.product.pdKey = :pdKey
-   AND lp.logistic.lgKey = :lgKey
-   AND lp.stock >= :quantity
-""")
-    int decreaseStockIfEnoughByPdAndLg(@Param("pdKey") Integer pdKey,
-                                       @Param("lgKey") Integer lgKey,
-                                       @Param("quantity") Integer quantity);
-
-
     @Query(value = """
         select 
           lp.lp_key,
@@ -0,0 +1,14 @@
+package bitc.full502.backend.repository;
+
+import bitc.full502.backend.entity.RegionWarehouseRouteEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RegionWarehouseRouteRepository extends JpaRepository<RegionWarehouseRouteEntity, Integer> {
+
+    // 지역의 출고 경로 (기본 창고부터)
+    List<RegionWarehouseRouteEntity> findByOrGuOrderByPriority(String orGu);
+}
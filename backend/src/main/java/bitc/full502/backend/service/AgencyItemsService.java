@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -90,7 +91,13 @@ public class AgencyItemsService {
 
         List<ProductEntity> products = productRepository.findAllById(productIds);
 
+        // 이미 등록된 제품은 건너뜀 (대리점 + 제품 당 재고 행 1개)
+        Set<Integer> registered = agencyItemsRepository.findByAgencyAndProductIn(agency, products).stream()
+                .map(ap -> ap.getProduct().getPdKey())
+                .collect(Collectors.toSet());
+
         List<AgencyProductEntity> toSave = products.stream()
+                .filter(p -> !registered.contains(p.getPdKey()))
                 .map(p -> {
                     AgencyProductEntity ap = new AgencyProductEntity();
                     ap.setAgency(agency);
@@ -0,0 +1,190 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.dto.BulkOrderRequestDTO;
+import bitc.full502.backend.dto.BulkOrderResultDTO;
+import bitc.full502.backend.dto.OrderItemRequestDTO;
+import bitc.full502.backend.entity.AgencyEntity;
+import bitc.full502.backend.entity.AgencyOrderEntity;
+import bitc.full502.backend.entity.AgencyOrderItemEntity;
+import bitc.full502.backend.entity.ProductEntity;
+import bitc.full502.backend.repository.AgencyOrderItemRepository;
+import bitc.full502.backend.repository.AgencyOrderRepository;
+import bitc.full502.backend.repository.AgencyRepository;
+import bitc.full502.backend.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * AgencyOrderBulkService
+ * ----------------------
+ * 여러 대리점의 주문을 한 번에 등록 (월말 ERP 일괄 연동용)
+ * - 참조하는 대리점/상품은 각각 IN 쿼리 한 번으로 미리 조회
+ * - 주문 헤더와 agencyorder_item 을 한 트랜잭션 안에서 저장
+ *   (키는 id_sequences 에서 블록 단위로 미리 받으므로 flush 시 Hibernate JDBC batch 로 묶여서 insert)
+ * - 검증 실패한 주문만 건너뛰고 요청별 결과를 돌려줌
+ */
+@Service
+@RequiredArgsConstructor
+public class AgencyOrderBulkService {
+
+    private static final int OR_PRODUCTS_MAX = 100;
+
+    private final AgencyOrderRepository orderRepository;
+    private final AgencyRepository agencyRepository;
+    private final ProductRepository productRepository;
+    private final AgencyOrderItemRepository itemRepository;
+    private final OrderNumberAllocator orderNumberAllocator;
+    private final OrderCache orderCache;
+
+    @Transactional
+    public List<BulkOrderResultDTO> registerBulk(List<BulkOrderRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new RuntimeException("등록할 주문이 없습니다.");
+        }
+
+        // 1️⃣ 대리점 / 상품 일괄 조회
+        Set<Integer> agKeys = requests.stream()
+                .map(BulkOrderRequestDTO::getAgKey)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Integer> pdKeys = requests.stream()
+                .filter(r -> r.getItems() != null)
+                .flatMap(r -> r.getItems().stream())
+                .map(OrderItemRequestDTO::getPdKey)
+                .collect(Collectors.toSet());
+
+        Map<Integer, AgencyEntity> agencies = agencyRepository.findAllById(agKeys).stream()
+                .collect(Collectors.toMap(AgencyEntity::getAgKey, Function.identity()));
+        Map<Integer, ProductEntity> products = productRepository.findAllById(pdKeys).stream()
+                .collect(Collectors.toMap(ProductEntity::getPdKey, Function.identity()));
+
+        // 2️⃣ 검증 + 주문 헤더 생성
+        BulkOrderResultDTO[] results = new BulkOrderResultDTO[requests.size()];
+        Map<Integer, AgencyOrderEntity> orders = new LinkedHashMap<>();
+        Map<Integer, List<AgencyOrderItemEntity>> itemsByIndex = new LinkedHashMap<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            BulkOrderRequestDTO req = requests.get(i);
+            String error = validate(req, agencies, products);
+            if (error != null) {
+                results[i] = BulkOrderResultDTO.failed(i, req.getAgKey(), error);
+                continue;
+            }
+
+            List<AgencyOrderItemEntity> items = mergeItems(req.getItems(), products);
+            orders.put(i, buildOrder(req, agencies.get(req.getAgKey()), items));
+            itemsByIndex.put(i, items);
+        }
+
+        // 3️⃣ 헤더 저장 → persist 시점에 받은 or_key 로 품목 연결 (insert 는 커밋 시 batch)
+        orderRepository.saveAll(orders.values());
+
+        List<AgencyOrderItemEntity> allItems = new ArrayList<>();
+        orders.forEach((i, order) -> {
+            for (AgencyOrderItemEntity item : itemsByIndex.get(i)) {
+                item.setOrKey(order.getOrKey());
+                allItems.add(item);
+            }
+            results[i] = BulkOrderResultDTO.ok(i, order.getAgency().getAgKey(), order.getOrKey(), order.getOrderNumber());
+        });
+
+        itemRepository.saveAll(allItems);
+        orderCache.evictAgencies(orders.values().stream().map(o -> o.getAgency().getAgKey()).collect(Collectors.toSet()));
+
+        return List.of(results);
+    }
+
+    private String validate(BulkOrderRequestDTO req,
+                            Map<Integer, AgencyEntity> agencies,
+                            Map<Integer, ProductEntity> products) {
+        if (req.getAgKey() == null || !agencies.containsKey(req.getAgKey())) {
+            return "대리점 없음: " + req.getAgKey();
+        }
+        if (req.getItems() == null || req.getItems().isEmpty()) {
+            return "주문할 상품이 없습니다.";
+        }
+        for (OrderItemRequestDTO item : req.getItems()) {
+            if (!products.containsKey(item.getPdKey())) return "상품 없음: " + item.getPdKey();
+            if (item.getQuantity() <= 0) return "수량 오류: 상품키=" + item.getPdKey();
+        }
+        if (req.getReserveDate() != null && !req.getReserveDate().isBlank()) {
+            try {
+                LocalDate.parse(req.getReserveDate());
+            } catch (DateTimeParseException e) {
+                return "배송예정일 형식 오류: " + req.getReserveDate();
+            }
+        }
+        return null;
+    }
+
+    // 같은 상품은 수량 합산 (단가는 요청값, 없으면 상품 단가)
+    private List<AgencyOrderItemEntity> mergeItems(List<OrderItemRequestDTO> requested,
+                                                   Map<Integer, ProductEntity> products) {
+        Map<Integer, AgencyOrderItemEntity> merged = new LinkedHashMap<>();
+        for (OrderItemRequestDTO dto : requested) {
+            AgencyOrderItemEntity exist = merged.get(dto.getPdKey());
+            if (exist != null) {
+                exist.setOiQuantity(exist.getOiQuantity() + dto.getQuantity());
+                continue;
+            }
+            ProductEntity product = products.get(dto.getPdKey());
+            AgencyOrderItemEntity item = new AgencyOrderItemEntity();
+            item.setPdKey(product.getPdKey());
+            item.setProduct(product);
+            item.setOiProducts(product.getPdProducts());
+            item.setOiPrice(dto.getPdPrice() > 0 ? dto.getPdPrice() : product.getPdPrice());
+            item.setOiQuantity(dto.getQuantity());
+            item.setOrDelivery(false);
+            merged.put(dto.getPdKey(), item);
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private AgencyOrderEntity buildOrder(BulkOrderRequestDTO req, AgencyEntity agency,
+                                         List<AgencyOrderItemEntity> items) {
+        LocalDate today = LocalDate.now();
+
+        String orGu = "기본값";
+        if (agency.getAgAddress() != null && !agency.getAgAddress().isBlank()) {
+            orGu = agency.getAgAddress().split("\\s+")[0]; // 시만
+        }
+
+        int totalQuantity = items.stream().mapToInt(AgencyOrderItemEntity::getOiQuantity).sum();
+        int totalAmount = items.stream().mapToInt(i -> i.getOiQuantity() * i.getOiPrice()).sum();
+
+        AgencyOrderEntity order = new AgencyOrderEntity();
+        order.setAgency(agency);
+        order.setProduct(items.get(0).getProduct());
+        order.setOrStatus("승인 대기중");
+        order.setOrDate(Date.valueOf(today));
+        order.setOrReserve(req.getReserveDate() != null && !req.getReserveDate().isBlank()
+                ? Date.valueOf(req.getReserveDate())
+                : Date.valueOf(today.plusDays(3)));
+        order.setOrGu(orGu);
+        order.setOrProducts(summarize(items));
+        order.setOrQuantity(totalQuantity);
+        order.setOrPrice(totalAmount);
+        order.setOrTotal(totalAmount);
+        order.setOrderNumber(orderNumberAllocator.next());
+        return order;
+    }
+
+    // or_products 는 100자 컬럼 → 품목이 많으면 잘라서 저장
+    private String summarize(List<AgencyOrderItemEntity> items) {
+        String all = items.stream().map(AgencyOrderItemEntity::getOiProducts).collect(Collectors.joining(", "));
+        return all.length() <= OR_PRODUCTS_MAX ? all : all.substring(0, OR_PRODUCTS_MAX - 3) + "...";
+    }
+}
@@ -16,15 +16,22 @@ public class AgencyOrderItemService {
 
     private final AgencyOrderItemRepository itemRepository;
     private final AgencyOrderRepository orderRepository;
+    private final OrderCache orderCache;
 
     public AgencyOrderItemService(AgencyOrderRepository orderRepository,
-                                  AgencyOrderItemRepository itemRepository) {
+                                  AgencyOrderItemRepository itemRepository,
+                                  OrderCache orderCache) {
         this.orderRepository = orderRepository;
         this.itemRepository = itemRepository;
+        this.orderCache = orderCache;
     }
 
     // 특정 주문(orKey) 아이템 조회
     public List<AgencyOrderItemDTO> getItemsByOrderKey(int orKey) {
+        return orderCache.order(OrderCache.ITEMS, orKey, () -> loadItems(orKey));
+    }
+
+    private List<AgencyOrderItemDTO> loadItems(int orKey) {
         // 1️⃣ 주문 Entity 조회
         AgencyOrderEntity order = orderRepository.findById(orKey).orElse(null);
 
@@ -59,6 +66,10 @@ public class AgencyOrderItemService {
     }
 
     public AgencyOrderInfoDTO getOrderInfo(int orKey) {
+        return orderCache.order(OrderCache.INFO, orKey, () -> loadOrderInfo(orKey));
+    }
+
+    private AgencyOrderInfoDTO loadOrderInfo(int orKey) {
         AgencyOrderEntity order = orderRepository.findById(orKey)
                 .orElseThrow(() -> new RuntimeException("Order not found: " + orKey));
 
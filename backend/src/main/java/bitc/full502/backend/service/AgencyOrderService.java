@@ -1,15 +1,23 @@
 package bitc.full502.backend.service;
 
 import bitc.full502.backend.dto.AgencyOrderDTO;
+import bitc.full502.backend.dto.BulkConfirmResultDTO;
 import bitc.full502.backend.dto.OrderItemRequestDTO;
 import bitc.full502.backend.dto.OrderResponseDTO;
+import bitc.full502.backend.dto.OrderSearchCondition;
+import bitc.full502.backend.dto.OrderSearchPageDTO;
+import bitc.full502.backend.dto.ScheduleDayDTO;
+import bitc.full502.backend.dto.StockDemandDTO;
+import bitc.full502.backend.dto.StockShortageDTO;
 import bitc.full502.backend.entity.*;
 import bitc.full502.backend.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -20,20 +28,32 @@ import static org.springframework.transaction.annotation.Propagation.REQUIRES_NE
 @RequiredArgsConstructor
 public class AgencyOrderService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 500;
+
     private final AgencyOrderRepository repo;
     private final ProductRepository productRepository;
     private final AgencyRepository agencyRepository;
     private final DeliveryRepository deliveryRepository;
     private final AgencyProductRepository agencyProductRepository;
+    private final AgencyOrderItemRepository orderItemRepository;
 
-    private final LogisticProductRepository logisticProductRepository;
+    private final OrderNumberAllocator orderNumberAllocator;
+    private final OrderCache orderCache;
+    private final AgencyOrderTombstoneRepository tombstoneRepository;
+    private final OptimisticRetry optimisticRetry;
+    private final DeliveryDueQueue deliveryDueQueue;
+    private final LogisticStockReservation stockReservation;
+    private final InventoryLedger inventoryLedger;
+    private final WarehouseAllocator warehouseAllocator;
+    private final OrderMonthlyRollup orderMonthlyRollup;
+    private final Leaderboard leaderboard;
 
 
     //============================================================
     // 1️⃣ 물류팀 테스트용 서비스 메서드 (items 포함, 총액 계산)
     //============================================================
     public List<AgencyOrderDTO> findAll() {
-        return repo.findAll().stream().map(e -> {
+        return repo.findAllWithRefs().stream().map(e -> {
             AgencyOrderDTO dto = new AgencyOrderDTO();
             dto.setOrKey(e.getOrKey());
             dto.setOrderNumber(e.getOrderNumber());
@@ -70,21 +90,14 @@ public class AgencyOrderService {
         }).toList();
     }
 
-    private int mapGuToLgKey(String orGu) {
-        switch (orGu) {
-            case "부산": return 1;
-            case "서울": return 2;
-            case "울산": return 3;
-            case "강원": return 4;
-            case "대구": return 5;
-            default: throw new IllegalArgumentException("Unknown or_gu: " + orGu);
-        }
-    }
-
     //============================================================
     // 2️⃣ 단일 주문 조회
     //============================================================
     public AgencyOrderDTO findById(int orKey) {
+        return orderCache.order(OrderCache.FULL, orKey, () -> loadById(orKey));
+    }
+
+    private AgencyOrderDTO loadById(int orKey) {
         return repo.findById(orKey)
             .map(e -> {
                 AgencyOrderDTO dto = new AgencyOrderDTO();
@@ -200,19 +213,36 @@ public class AgencyOrderService {
 
         // 5️⃣ 주문번호 생성
         if (order.getOrderNumber() == null || order.getOrderNumber().isEmpty()) {
-            String today = new SimpleDateFormat("yyMMdd").format(new Date());
-            long countToday = repo.countByOrderNumberStartingWith(today);
-            order.setOrderNumber(today + String.format("%04d", countToday + 1));
+            order.setOrderNumber(orderNumberAllocator.next());
         }
     }
 
     //============================================================
     // 6️⃣ 대리점 주문 상태 업데이트 (기사명 포함)
+    //    - 버전 충돌 시 OptimisticRetry 가 트랜잭션을 새로 열어 재시도
+    //    - 재시도 때 첫 시도에서 본 상태와 다르면 (그 사이 다른 커밋이 상태를 바꿈)
+    //      같은 상태로 바뀌었으면 아무것도 안 하고, 다른 상태면 409
+    //    - 재고 배분 / 출고 / 대리점 재고 증가는 상태가 실제로 바뀔 때만 (같은 상태 재요청은 기사 정보만)
     //============================================================
-    @Transactional
     public void updateOrderStatusWithDriver(int orKey, String status, String dvName, Integer dvKey) {
+        String[] expected = new String[1];
+        optimisticRetry.run("updateOrderStatusWithDriver",
+                () -> doUpdateOrderStatusWithDriver(orKey, status, dvName, dvKey, expected));
+    }
+
+    private void doUpdateOrderStatusWithDriver(int orKey, String status, String dvName, Integer dvKey, String[] expected) {
         AgencyOrderEntity order = repo.findById(orKey)
                 .orElseThrow(() -> new RuntimeException("주문 없음: " + orKey));
+        String current = order.getOrStatus();
+        if (expected[0] == null) {
+            expected[0] = current;
+        } else if (!Objects.equals(expected[0], current)) {
+            if (Objects.equals(status, current)) return;
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "주문 상태가 처리 중 변경됨: " + expected[0] + " → " + current);
+        }
+        boolean changed = !Objects.equals(status, current);
+        orderCache.evictOrder(orKey, order.getAgency().getAgKey());
 
         order.setOrStatus(status);
         order.setDvName(dvName);
@@ -225,39 +255,32 @@ public class AgencyOrderService {
         } else {
             order.setDelivery(null);
         }
-        if ("배송중".equals(status) && order.getItems() != null) {
-            int lgKey = mapGuToLgKey(order.getOrGu()); // 주문에 있는 or_gu 기준으로 lg_key 구함
-            for (AgencyOrderItemEntity item : order.getItems()) {
-                int updated = logisticProductRepository.decreaseStockIfEnoughByPdAndLg(
-                        item.getPdKey(), lgKey, item.getOiQuantity());
-                if (updated == 0) {
-                    throw new RuntimeException("물류 재고 부족: 상품키=" + item.getPdKey());
-                }
+        if (changed && "배송중".equals(status) && order.getItems() != null) {
+            // 지역 경로(기본 → 대체 창고) 기준으로 배분, 한 창고로 안 되면 여러 창고로 나눠서 출고
+            Map<Integer, Integer> items = new LinkedHashMap<>();
+            order.getItems().forEach(item -> items.merge(item.getPdKey(), item.getOiQuantity(), Integer::sum));
+            WarehouseAllocator.Allocation allocation = warehouseAllocator.allocate(orKey, order.getOrGu(), items);
+            if (!allocation.isComplete()) {
+                throw new LogisticStockReservation.ShortageException(allocation.getUnfilled());
             }
+            // 전체 라인을 (lg_key, pd_key) 순서로 한 번에 차감 (배분 후 다른 출고가 먼저 가져가면 부족 예외)
+            stockReservation.reserve(allocation.getLines());
+        }
+        if (changed && "배송중".equals(status)) {
+            // 배송 완료 예정 큐에 등록 (DeliveryDueWorker 가 만기 시 자동완료)
+            deliveryDueQueue.schedule(orKey);
         }
 
 
         // 🚀 배송 완료 처리
-        if ("배송완료".equals(status) && order.getItems() != null) {
+        if (changed && "배송완료".equals(status) && order.getItems() != null) {
 
-            // 1️⃣ 배송 예정일 제거
+            // 1️⃣ 배송 예정일 제거 + 자동완료 큐에서 제외
             order.setOrReserve(null);
+            deliveryDueQueue.cancel(orKey);
 
-            // 2️⃣ 대리점 재고 증가
-            for (AgencyOrderItemEntity item : order.getItems()) {
-                List<AgencyProductEntity> agencyProducts = agencyProductRepository
-                        .findByAgency_AgKeyAndProduct_PdKey(order.getAgency().getAgKey(), item.getPdKey());
-
-                if (agencyProducts.isEmpty()) {
-                    throw new RuntimeException("대리점 재고 없음: " + item.getPdKey());
-                }
-
-                // 같은 상품이 여러 개 있으면 모두 재고 증가
-                for (AgencyProductEntity agencyProduct : agencyProducts) {
-                    agencyProduct.setStock(agencyProduct.getStock() + item.getOiQuantity());
-                    agencyProductRepository.save(agencyProduct);
-                }
-            }
+            // 2️⃣ 대리점 재고 증가 (한 번에, 없는 상품은 생성)
+            addDeliveredStock(order);
         }
 
         repo.save(order);
@@ -267,32 +290,32 @@ public class AgencyOrderService {
 
     //============================================================
     // 배송 완료 처리 + 재고 반영 (자동완료용)
+    //    - '배송중' 이 아니면 (이미 처리됨) 아무것도 안 하고 false
     //============================================================
-    @Transactional
-    public void autoCompleteDelivery(int orKey) {
+    public boolean autoCompleteDelivery(int orKey) {
+        return optimisticRetry.call("autoCompleteDelivery", () -> doAutoCompleteDelivery(orKey));
+    }
+
+    private boolean doAutoCompleteDelivery(int orKey) {
         // 주문 가져오기
         AgencyOrderEntity order = repo.findById(orKey)
                 .orElseThrow(() -> new RuntimeException("주문 없음: " + orKey));
 
+        // 재시도 / 배치 재처리 시 재고가 두 번 늘지 않도록
+        if (!"배송중".equals(order.getOrStatus())) {
+            return false;
+        }
+
         // 배송 상태 "배송완료"로 변경
         order.setOrStatus("배송완료");
         repo.save(order);
+        orderCache.evictOrder(orKey, order.getAgency().getAgKey());
 
 
 
-        // 대리점 재고 증가
+        // 대리점 재고 증가 (한 번에, 없는 상품은 생성)
         if (order.getItems() != null) {
-            for (AgencyOrderItemEntity item : order.getItems()) {
-                List<AgencyProductEntity> agencyProducts = agencyProductRepository
-                        .findByAgency_AgKeyAndProduct_PdKey(order.getAgency().getAgKey(), item.getPdKey());
-
-                if (agencyProducts.isEmpty())
-                    throw new RuntimeException("대리점 재고 없음: " + item.getPdKey());
-
-                AgencyProductEntity agencyProduct = agencyProducts.get(0); // 첫 번째 선택
-                agencyProduct.setStock(agencyProduct.getStock() + item.getOiQuantity());
-                agencyProductRepository.save(agencyProduct);
-            }
+            addDeliveredStock(order);
         }
 
         // 🚚 Delivery 업데이트
@@ -302,59 +325,26 @@ public class AgencyOrderService {
             delivery.setDvDelivery(true);
             deliveryRepository.save(delivery);
         }
+        return true;
+    }
+
+    // 주문 라인 전체를 대리점 재고에 DB 에서 바로 더함 (statement batch 1회) + 원장 기록
+    private void addDeliveredStock(AgencyOrderEntity order) {
+        int agKey = order.getAgency().getAgKey();
+        agencyProductRepository.incrementStock(order.getItems().stream()
+                .map(item -> new AgencyProductStockRepository.StockIncrement(agKey, item.getPdKey(), item.getOiQuantity()))
+                .toList());
+        inventoryLedger.recordAll(order.getItems().stream()
+                .map(item -> new InventoryMovementEntity(InventoryMovementEntity.AGENCY, agKey, item.getPdKey(),
+                        InventoryMovementEntity.DELIVERY, item.getOiQuantity(), order.getOrKey()))
+                .toList());
     }
 
 
 
     // 대리점용: 기사 포함 주문 조회
     public List<AgencyOrderDTO> getOrdersWithDriver(int agencyId, String status) {
-        List<AgencyOrderEntity> orders;
-
-        if (status == null || status.isBlank()) {
-            orders = repo.findByAgency_AgKey(agencyId);
-        } else {
-            orders = repo.findByAgencyAndStatus(agencyId, status);
-        }
-
-        return orders.stream().map(e -> {
-            AgencyOrderDTO dto = new AgencyOrderDTO();
-            dto.setOrKey(e.getOrKey());
-            dto.setOrderNumber(e.getOrderNumber());
-            dto.setOrStatus(e.getOrStatus());
-            dto.setOrDate(e.getOrDate());
-            dto.setOrReserve(e.getOrReserve());
-            dto.setOrGu(e.getOrGu());
-            dto.setOrProducts(e.getOrProducts());
-            dto.setOrPrice(e.getOrPrice());
-            dto.setOrQuantity(e.getOrQuantity());
-            dto.setOrTotal(e.getOrTotal());
-
-            if (e.getAgency() != null) {
-                dto.setAgName(e.getAgency().getAgName());
-                dto.setAgAddress(e.getAgency().getAgAddress());
-                dto.setAgPhone(e.getAgency().getAgPhone());
-            }
-
-            // 🚚 배송 기사명 포함
-            dto.setDvName(e.getDelivery() != null ? e.getDelivery().getDvName() : e.getDvName());
-
-            if (e.getItems() != null) {
-                List<AgencyOrderDTO.Item> items = e.getItems().stream().map(item -> {
-                    AgencyOrderDTO.Item dtoItem = new AgencyOrderDTO.Item();
-                    dtoItem.setQuantity(item.getOiQuantity());
-                    dtoItem.setPrice(item.getOiPrice());
-                    dtoItem.setName(item.getOiProducts());
-                    dtoItem.setPdKey(item.getPdKey());
-                    dtoItem.setSku(item.getPdKey() != 0 ? String.valueOf(item.getPdKey()) : "N/A");
-                    return dtoItem;
-                }).toList();
-                dto.setItems(items);
-            } else {
-                dto.setItems(List.of());
-            }
-
-            return dto;
-        }).toList();
+        return getOrders(agencyId, status);
     }
 
 
@@ -362,7 +352,7 @@ public class AgencyOrderService {
     // 7️⃣ OrderResponseDTO 변환 (기타 기능)
     //============================================================
     public List<OrderResponseDTO> getAllOrders() {
-        return repo.findAll().stream()
+        return repo.findAllWithRefs().stream()
             .map(this::toDTO)
             .collect(Collectors.toList());
     }
@@ -388,16 +378,17 @@ public class AgencyOrderService {
     // 8️⃣ 대리점 ID와 상태 기준 주문 조회
     //============================================================
     public List<AgencyOrderDTO> getOrders(int agencyId, String status) {
-    List<AgencyOrderEntity> orders;
+        // 대리점 전체 목록을 캐시에 두고 상태 필터는 메모리에서 처리
+        List<AgencyOrderDTO> all = orderCache.agency(OrderCache.WEB, agencyId,
+                () -> repo.findByAgency_AgKey(agencyId).stream().map(this::toAgencyOrderDTO).toList());
 
-    if (status == null || status.isBlank()) {
-        orders = repo.findByAgency_AgKey(agencyId);
-    } else {
-        orders = repo.findByAgencyAndStatus(agencyId, status);
+        if (status == null || status.isBlank()) {
+            return all;
+        }
+        return all.stream().filter(dto -> status.equals(dto.getOrStatus())).toList();
     }
 
-    // 바로 여기서 DTO 리스트로 변환
-    return orders.stream().map(e -> {
+    private AgencyOrderDTO toAgencyOrderDTO(AgencyOrderEntity e) {
         AgencyOrderDTO dto = new AgencyOrderDTO();
         dto.setOrKey(e.getOrKey());
         dto.setOrderNumber(e.getOrderNumber());
@@ -416,6 +407,7 @@ public class AgencyOrderService {
             dto.setAgPhone(e.getAgency().getAgPhone());
         }
 
+        // 🚚 배송 기사명 포함
         dto.setDvName(e.getDelivery() != null ? e.getDelivery().getDvName() : e.getDvName());
 
         if (e.getItems() != null) {
@@ -434,72 +426,118 @@ public class AgencyOrderService {
         }
 
         return dto;
-    }).toList();
-}
+    }
 
 
+    // 주문 삭제 (없으면 false)
     @Transactional
-    public void confirmOrders(List<Integer> orderIds) {
-        List<AgencyOrderEntity> orders = repo.findAllById(orderIds);
+    public boolean deleteOrder(int orKey) {
+        Optional<AgencyOrderEntity> order = repo.findById(orKey);
+        if (order.isEmpty()) {
+            return false;
+        }
+        int agKey = order.get().getAgency().getAgKey();
+        repo.delete(order.get());
+        // Android 증분 동기화에서 삭제 건으로 내려주기 위한 기록
+        tombstoneRepository.save(new AgencyOrderTombstoneEntity(orKey, agKey, null));
+        orderCache.evictOrder(orKey, agKey);
+        return true;
+    }
+
+    //============================================================
+    // 본사 일괄 승인 ('승인 대기중' → '배송 준비중' 조건부 UPDATE 한 번)
+    // - checkStock 이면 먼저 물류센터별 재고로 전부 처리 가능한지 점검, 부족하면 승인 안 함
+    //============================================================
+    @Transactional
+    public BulkConfirmResultDTO confirmOrders(List<Integer> orderIds, boolean checkStock) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return new BulkConfirmResultDTO(0, 0, List.of());
+        }
+        List<Integer> ids = orderIds.stream().distinct().toList();
+
+        if (checkStock) {
+            List<StockShortageDTO> shortages = findStockShortages(ids);
+            if (!shortages.isEmpty()) {
+                return new BulkConfirmResultDTO(ids.size(), 0, shortages);
+            }
+        }
+
+        orderCache.evictAgencies(repo.findAgencyKeysByOrKeyIn(ids));
+        ids.forEach(id -> orderCache.evictOrder(id, null));
 
-        for (AgencyOrderEntity order : orders) {
-            order.setOrStatus("배송 준비중");
+        // 대상 주문을 한 번만 골라서 잠금 → 월별 집계 / 순위표 / UPDATE 가 모두 같은 목록 사용
+        List<Integer> locked = repo.lockKeysInStatus(ids, "승인 대기중");
+        if (locked.isEmpty()) {
+            return new BulkConfirmResultDTO(ids.size(), 0, List.of());
         }
-        repo.saveAll(orders);
+
+        // JPQL UPDATE 는 엔티티 콜백을 안 타므로 월별 집계 delta / 순위표는 직접 기록
+        orderMonthlyRollup.moveAll(locked, "승인 대기중", "배송 준비중");
+        leaderboard.transitionAll(locked, "승인 대기중", "배송 준비중");
+        int confirmed = repo.updateStatusIfCurrent(locked, "승인 대기중", "배송 준비중");
+        return new BulkConfirmResultDTO(ids.size(), confirmed, List.of());
     }
 
+    // 지역 + 상품별 필요 수량 합계를 지역 경로 창고들에 배분 (메모리 색인, 앞 지역이 쓴 재고는 빼고)
+    private List<StockShortageDTO> findStockShortages(List<Integer> ids) {
+        List<StockDemandDTO> demands = orderItemRepository.sumDemandByGuAndProduct(ids, "승인 대기중");
+        if (demands.isEmpty()) return List.of();
+
+        Map<String, Map<Integer, Integer>> byGu = new LinkedHashMap<>();
+        for (StockDemandDTO d : demands) {
+            byGu.computeIfAbsent(d.getOrGu(), k -> new LinkedHashMap<>())
+                    .merge(d.getPdKey(), d.getQuantity().intValue(), Integer::sum);
+        }
+
+        WarehouseAllocator.StockPool pool = warehouseAllocator.indexPool();
+        List<StockShortageDTO> shortages = new ArrayList<>();
+        byGu.forEach((orGu, items) -> shortages.addAll(warehouseAllocator.allocateTotal(orGu, items, pool).getUnfilled()));
+        return shortages;
+    }
+
+    //============================================================
+    // 🔍 본사 주문 조회 (검색 조건은 DB WHERE 절로 처리)
+    //============================================================
     public List<OrderResponseDTO> searchOrders(Map<String, String> searchParams) {
-        return repo.findAll().stream()
-                .filter(order -> {
-                    if (searchParams.containsKey("orderNo") && !searchParams.get("orderNo").isEmpty()) {
-                        if (!String.valueOf(order.getOrKey()).contains(searchParams.get("orderNo"))) return false;
-                    }
-                    if (searchParams.containsKey("productName") && !searchParams.get("productName").isEmpty()) {
-                        if (order.getProduct() == null || !order.getProduct().getPdProducts().contains(searchParams.get("productName")))
-                            return false;
-                    }
-                    if (searchParams.containsKey("agency") && !searchParams.get("agency").isEmpty()) {
-                        if (order.getAgency() == null || !order.getAgency().getAgName().contains(searchParams.get("agency")))
-                            return false;
-                    }
-                    if (searchParams.containsKey("status") && !searchParams.get("status").isEmpty()) {
-                        if (!order.getOrStatus().equals(searchParams.get("status"))) return false;
-                    }
-                    if (searchParams.containsKey("orderDateFrom") && !searchParams.get("orderDateFrom").isEmpty()) {
-                        if (order.getOrDate().before(java.sql.Date.valueOf(searchParams.get("orderDateFrom"))))
-                            return false;
-                    }
-                    if (searchParams.containsKey("orderDateTo") && !searchParams.get("orderDateTo").isEmpty()) {
-                        if (order.getOrDate().after(java.sql.Date.valueOf(searchParams.get("orderDateTo"))))
-                            return false;
-                    }
-                    if (searchParams.containsKey("deliveryDateFrom") && !searchParams.get("deliveryDateFrom").isEmpty()) {
-                        if (order.getOrReserve().before(java.sql.Date.valueOf(searchParams.get("deliveryDateFrom"))))
-                            return false;
-                    }
-                    if (searchParams.containsKey("deliveryDateTo") && !searchParams.get("deliveryDateTo").isEmpty()) {
-                        if (order.getOrReserve().after(java.sql.Date.valueOf(searchParams.get("deliveryDateTo"))))
-                            return false;
-                    }
-                    if (searchParams.containsKey("quantityMin") && !searchParams.get("quantityMin").isEmpty()) {
-                        if (order.getOrQuantity() < Integer.parseInt(searchParams.get("quantityMin"))) return false;
-                    }
-                    if (searchParams.containsKey("quantityMax") && !searchParams.get("quantityMax").isEmpty()) {
-                        if (order.getOrQuantity() > Integer.parseInt(searchParams.get("quantityMax"))) return false;
-                    }
-                    if (searchParams.containsKey("totalMin") && !searchParams.get("totalMin").isEmpty()) {
-                        if (order.getOrTotal() < Integer.parseInt(searchParams.get("totalMin"))) return false;
-                    }
-                    if (searchParams.containsKey("totalMax") && !searchParams.get("totalMax").isEmpty()) {
-                        if (order.getOrTotal() > Integer.parseInt(searchParams.get("totalMax"))) return false;
-                    }
-
-                    return true;
-                })
+        OrderSearchCondition condition = OrderSearchCondition.from(searchParams);
+        AgencyOrderSpecification.SortKey sortKey = AgencyOrderSpecification.SortKey.of(searchParams.get("sortField"));
+        boolean asc = "asc".equalsIgnoreCase(searchParams.get("sortOrder"));
+
+        return repo.findAll(AgencyOrderSpecification.search(condition), sortKey.sort(asc)).stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
+    }
 
+    // keyset 페이지 조회 (cursor 없으면 첫 페이지, withCount=true 면 전체 건수 포함)
+    public OrderSearchPageDTO searchOrderPage(Map<String, String> searchParams, String sortField, String sortOrder,
+                                              String cursor, int size, boolean withCount) {
+        OrderSearchCondition condition = OrderSearchCondition.from(searchParams);
+        AgencyOrderSpecification.SortKey sortKey = AgencyOrderSpecification.SortKey.of(sortField);
+        boolean asc = "asc".equalsIgnoreCase(sortOrder);
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+
+        Specification<AgencyOrderEntity> spec = AgencyOrderSpecification.search(condition);
+        Specification<AgencyOrderEntity> pageSpec = (cursor == null || cursor.isBlank())
+                ? spec
+                : spec.and(AgencyOrderSpecification.after(sortKey, asc, cursor));
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<AgencyOrderEntity> rows = repo.findBy(pageSpec,
+                q -> q.sortBy(sortKey.sort(asc)).limit(pageSize + 1).all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<AgencyOrderEntity> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? AgencyOrderSpecification.encodeCursor(sortKey, page.get(page.size() - 1)) : null;
+        Long totalCount = withCount ? repo.count(spec) : null;
+
+        return new OrderSearchPageDTO(
+                page.stream().map(this::toDTO).collect(Collectors.toList()),
+                nextCursor,
+                hasNext,
+                totalCount
+        );
     }
+
     // 1. agKey 기준 조회 (대리점별 스케줄)
 public List<AgencyOrderDTO> getScheduleByAgKey(LocalDate from, LocalDate to, Integer agKey) {
     List<AgencyOrderEntity> entities = repo.findScheduleByAgKey(from, to, agKey);
@@ -508,7 +546,10 @@ public List<AgencyOrderDTO> getScheduleByAgKey(LocalDate from, LocalDate to, Int
 
 // 2. gu 기준 조회 (지역 구 필터링)
 public List<AgencyOrderDTO> getScheduleByGu(LocalDate from, LocalDate to, String gu) {
-    List<AgencyOrderEntity> entities = repo.findSchedule(from, to, gu);
+    // 지역 코드 컬럼 기준 (substring 비교 없이 (or_region, or_reserve) 인덱스 사용)
+    List<AgencyOrderEntity> entities = (gu == null || gu.isBlank())
+            ? repo.findSchedule(from, to)
+            : repo.findScheduleByRegion(from, to, AgencyOrderEntity.regionOf(gu));
     return toDTOList(entities);
 }
 
@@ -528,7 +569,29 @@ public List<AgencyOrderDTO> getSchedule(LocalDate from, LocalDate to, Object fil
     return List.of();
 }
 
-// 공통 DTO 변환 로직
+//============================================================
+// 📅 달력 집계 (일자별 건수 / 수량 / 금액, 주문 행은 클릭한 날만 조회)
+//============================================================
+// filterKey: null = 전체 (지역별), Integer = 대리점 키, String = 지역 (대리점별)
+public List<ScheduleDayDTO> getScheduleSummary(LocalDate from, LocalDate to, Object filterKey) {
+    if (filterKey == null) {
+        return repo.summarizeScheduleByRegion(from, to);
+    }
+    if (filterKey instanceof Integer agKey) {
+        return repo.summarizeScheduleForAgency(from, to, agKey);
+    }
+    if (filterKey instanceof String gu && !gu.isBlank()) {
+        return repo.summarizeScheduleForRegion(from, to, AgencyOrderEntity.regionOf(gu));
+    }
+    return repo.summarizeScheduleByRegion(from, to);
+}
+
+// 하루 상세 (달력에서 날짜 클릭 시)
+public List<AgencyOrderDTO> getScheduleDay(LocalDate date, Object filterKey) {
+    return getSchedule(date, date, filterKey);
+}
+
+// 공통 DTO 변환 로직 (중복 주문 제거, 조회 순서 = 예약일 + 대리점명 유지)
 private List<AgencyOrderDTO> toDTOList(List<AgencyOrderEntity> entities) {
     return entities.stream()
         .collect(Collectors.toMap(
@@ -555,7 +618,8 @@ private List<AgencyOrderDTO> toDTOList(List<AgencyOrderEntity> entities) {
                 }
                 return dto;
             },
-            (existing, duplicate) -> existing
+            (existing, duplicate) -> existing,
+            LinkedHashMap::new
         ))
         .values()
         .stream()
@@ -568,7 +632,7 @@ private List<AgencyOrderDTO> toDTOList(List<AgencyOrderEntity> entities) {
 
     if (isHQ) {
         if (statusList == null || statusList.isEmpty()) {
-            list = repo.findAll();
+            list = repo.findAllWithRefs();
         } else {
             list = repo.findByOrStatusIn(statusList);  // 다중 상태 메서드 호출
         }
@@ -657,6 +721,7 @@ private List<AgencyOrderDTO> toDTOList(List<AgencyOrderEntity> entities) {
         }).toList();
 
         repo.saveAll(entities);
+        orderCache.evictAgencies(List.of(agKey));
     }
 
     @Transactional(propagation = REQUIRES_NEW)
@@ -690,24 +755,19 @@ private List<AgencyOrderDTO> toDTOList(List<AgencyOrderEntity> entities) {
         order.setOrGu(orGu);
 
         // 4️⃣ order_number 생성 (오늘 날짜 + 순번)
-        String datePrefix = new SimpleDateFormat("yyMMdd").format(new Date(System.currentTimeMillis()));
-        int countToday = (int) repo.countByOrderNumberStartingWith(datePrefix);
-
-        if (countToday == 0) {
-            order.setOrderNumber(datePrefix + String.format("%02d", countToday + 1));
-        }
-        else {
-            countToday = repo.findMaxOrderNumber();
-            order.setOrderNumber(String.format("%02d", countToday + 1));
-        }
+        order.setOrderNumber(orderNumberAllocator.next());
 
         repo.saveAndFlush(order);
+        orderCache.evictOrder(order.getOrKey(), agKey);
 
         return order;
     }
 
-    //    @Transactional
     public void updateOrder(int orKey, List<OrderItemRequestDTO> items) {
+        optimisticRetry.run("updateOrder", () -> doUpdateOrder(orKey, items));
+    }
+
+    private void doUpdateOrder(int orKey, List<OrderItemRequestDTO> items) {
 
         Optional<AgencyOrderEntity> op = repo.findById(orKey);
 
@@ -751,5 +811,6 @@ private List<AgencyOrderDTO> toDTOList(List<AgencyOrderEntity> entities) {
         ao.setOrPrice(totalAmount); // 추가: orPrice 저장
 
         repo.save(ao);
+        orderCache.evictOrder(orKey, ao.getAgency().getAgKey());
     }
 }
@@ -5,6 +5,7 @@ import bitc.full502.backend.dto.AgencyProductResponseDTO;
 import bitc.full502.backend.dto.OrderItemRequestDTO;
 import bitc.full502.backend.dto.ProductItemDTO;
 import bitc.full502.backend.entity.AgencyProductEntity;
+import bitc.full502.backend.entity.InventoryMovementEntity;
 import bitc.full502.backend.repository.AgencyProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,7 @@ import java.util.stream.Collectors;
 public class AgencyProductService {
 
     private final AgencyProductRepository repository;
+    private final InventoryLedger inventoryLedger;
 
     public List<AgencyProductDTO> getAllAgencyProducts(String sortField, String sortOrder) {
         List<AgencyProductEntity> entities = repository.findAll();
@@ -119,6 +121,8 @@ public class AgencyProductService {
             // 재고 차감
             entity.setStock(entity.getStock() - order.getQuantity());
             repository.save(entity);
+            inventoryLedger.record(InventoryMovementEntity.AGENCY, entity.getAgency().getAgKey(),
+                    entity.getProduct().getPdKey(), InventoryMovementEntity.SHIPMENT, -order.getQuantity(), null);
 
             // 필요하면 주문 테이블에도 기록 가능 (여기서는 생략)
         }
@@ -0,0 +1,163 @@
+package bitc.full502.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * DashboardCache
+ * --------------
+ * 본사 대시보드 응답 캐시 (stale-while-revalidate)
+ * - 마지막 계산 결과를 바로 돌려주고, refreshAfter 보다 오래됐으면 백그라운드에서 다시 계산
+ * - 같은 키를 동시에 계산하지 않음 (처음 요청이 몰려도 계산 1번, 나머지는 그 결과를 기다림)
+ * - 다시 계산이 실패하면(DB 지연 / 장애) 이전 결과를 계속 주고 응답 헤더로 오래된 데이터임을 알림
+ * - 백그라운드 갱신은 SchedulerConfig 의 dashboardRefresher 풀에서 실행
+ */
+@Slf4j
+@Component
+public class DashboardCache {
+
+    public static final String AGE_HEADER = "X-Data-Age";      // 계산 후 지난 초
+    public static final String STALE_HEADER = "X-Data-Stale";  // true = 갱신 주기 지남 / 마지막 갱신 실패
+
+    private final Duration refreshAfter;
+    private final Executor refresher;
+    private final Map<String, Entry<?>> entries = new ConcurrentHashMap<>();
+
+    private final Counter freshCounter;
+    private final Counter staleCounter;
+    private final Counter loadCounter;
+    private final Counter failureCounter;
+
+    public DashboardCache(MeterRegistry meterRegistry,
+                          @Value("${app.dashboard.cache.refresh-after:30s}") Duration refreshAfter,
+                          @Qualifier("dashboardRefresher") Executor refresher) {
+        this.refreshAfter = refreshAfter;
+        this.refresher = refresher;
+        this.freshCounter = counter(meterRegistry, "dashboard.cache.requests", "fresh");
+        this.staleCounter = counter(meterRegistry, "dashboard.cache.requests", "stale");
+        this.loadCounter = counter(meterRegistry, "dashboard.cache.loads", "started");
+        this.failureCounter = counter(meterRegistry, "dashboard.cache.loads", "failed");
+    }
+
+    /** 응답 값 + 계산 시각 + 오래됨 여부 */
+    public record Snapshot<T>(T value, Instant computedAt, boolean stale) {
+
+        public ResponseEntity<T> toResponse() {
+            long age = Math.max(0, Duration.between(computedAt, Instant.now()).toSeconds());
+            return ResponseEntity.ok()
+                    .header(AGE_HEADER, String.valueOf(age))
+                    .header(STALE_HEADER, String.valueOf(stale))
+                    .body(value);
+        }
+    }
+
+    //============================================================
+    // 1️⃣ 조회 (없으면 계산, 오래됐으면 이전 값 + 백그라운드 갱신)
+    //============================================================
+    @SuppressWarnings("unchecked")
+    public <T> Snapshot<T> get(String key, Supplier<T> loader) {
+        Entry<T> entry = (Entry<T>) entries.computeIfAbsent(key, k -> new Entry<>());
+
+        if (entry.computedAt == null) {
+            // 아직 한 번도 계산 안 됨 → 계산 중인 것이 있으면 같이 기다림
+            await(load(entry, loader, false));
+            if (entry.computedAt == null) {
+                throw new RuntimeException("대시보드 데이터 계산 실패: " + key);
+            }
+            freshCounter.increment();
+            return new Snapshot<>(entry.value, entry.computedAt, false);
+        }
+
+        boolean expired = Duration.between(entry.computedAt, Instant.now()).compareTo(refreshAfter) > 0;
+        if (expired) {
+            load(entry, loader, true);
+        }
+        boolean stale = expired || entry.failed;
+        (stale ? staleCounter : freshCounter).increment();
+        return new Snapshot<>(entry.value, entry.computedAt, stale);
+    }
+
+    public void evict(String key) {
+        entries.remove(key);
+    }
+
+    //============================================================
+    // 2️⃣ 계산 (키당 동시에 하나만)
+    //============================================================
+    private <T> CompletableFuture<T> load(Entry<T> entry, Supplier<T> loader, boolean background) {
+        CompletableFuture<T> mine = new CompletableFuture<>();
+        while (!entry.inflight.compareAndSet(null, mine)) {
+            CompletableFuture<T> running = entry.inflight.get();
+            if (running != null) return running;
+            // 계산 중이던 것이 그 사이 끝남 → 값이 있으면 그대로, 없으면(첫 계산 실패) 다시 CAS 해서 직접 계산
+            if (entry.computedAt != null) return CompletableFuture.completedFuture(entry.value);
+        }
+
+        Runnable task = () -> {
+            try {
+                loadCounter.increment();
+                T value = loader.get();
+                entry.value = value;
+                entry.computedAt = Instant.now();
+                entry.failed = false;
+                mine.complete(value);
+            } catch (RuntimeException e) {
+                entry.failed = true;
+                failureCounter.increment();
+                log.warn("대시보드 데이터 갱신 실패 (이전 값 사용): {}", e.getMessage());
+                mine.completeExceptionally(e);
+            } finally {
+                entry.inflight.set(null);
+            }
+        };
+
+        if (background) {
+            try {
+                refresher.execute(task);
+            } catch (RejectedExecutionException e) {
+                // 종료 중 등으로 풀이 받지 않으면 이번 갱신은 건너뜀 (이전 값 유지, 다음 요청이 다시 시도)
+                entry.inflight.set(null);
+                mine.completeExceptionally(e);
+            }
+        } else {
+            task.run();
+        }
+        return mine;
+    }
+
+    private static <T> void await(CompletableFuture<T> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder(name).tag("result", result).register(meterRegistry);
+    }
+
+    private static class Entry<T> {
+        private volatile T value;
+        private volatile Instant computedAt;
+        private volatile boolean failed;
+        private final AtomicReference<CompletableFuture<T>> inflight = new AtomicReference<>();
+    }
+}
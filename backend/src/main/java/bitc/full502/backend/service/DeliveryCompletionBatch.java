@@ -0,0 +1,183 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.entity.AgencyOrderEntity;
+import bitc.full502.backend.entity.AgencyOrderItemEntity;
+import bitc.full502.backend.entity.DeliveryEntity;
+import bitc.full502.backend.entity.InventoryMovementEntity;
+import bitc.full502.backend.repository.AgencyOrderRepository;
+import bitc.full502.backend.repository.AgencyProductRepository;
+import bitc.full502.backend.repository.AgencyProductStockRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * DeliveryCompletionBatch
+ * -----------------------
+ * 배송 완료 시각이 된 '배송중' 주문 자동 배송완료 (DeliveryDueWorker 가 호출)
+ * - 넘겨받은 주문을 chunkSize 건씩 끊어서 청크마다 트랜잭션 하나로 커밋
+ * - 청크 안의 주문 / items 는 IN 쿼리 한 번으로 로딩, 대리점 재고는 incrementStock 한 번으로 증가 (없는 상품은 생성)
+ * - 청크가 실패하면(버전 충돌 / 대리점 없음 등 어떤 RuntimeException 이든) 그 청크만 한 건씩 (재시도 포함) 다시 처리
+ *   → 문제 있는 주문 하나 때문에 같은 청크의 나머지가 막히지 않고, 실패한 주문만 사유와 함께 skipped 로 보고
+ * - 메트릭: order.autocomplete.run(시간) / completed / skipped / throughput(건/초, 마지막 실행)
+ */
+@Slf4j
+@Service
+public class DeliveryCompletionBatch {
+
+    private static final String IN_TRANSIT = "배송중";
+
+    private final AgencyOrderRepository orderRepository;
+    private final AgencyProductRepository agencyProductRepository;
+    private final AgencyOrderService orderService;
+    private final OrderCache orderCache;
+    private final InventoryLedger inventoryLedger;
+    private final TransactionTemplate chunkTx;
+    private final int chunkSize;
+
+    private final Timer runTimer;
+    private final Counter completedCounter;
+    private final Counter skippedCounter;
+    private final AtomicLong lastThroughput = new AtomicLong();
+
+    public DeliveryCompletionBatch(AgencyOrderRepository orderRepository,
+                                   AgencyProductRepository agencyProductRepository,
+                                   AgencyOrderService orderService,
+                                   OrderCache orderCache,
+                                   InventoryLedger inventoryLedger,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.scheduler.auto-complete.chunk-size:100}") int chunkSize) {
+        this.orderRepository = orderRepository;
+        this.agencyProductRepository = agencyProductRepository;
+        this.orderService = orderService;
+        this.orderCache = orderCache;
+        this.inventoryLedger = inventoryLedger;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+
+        this.runTimer = Timer.builder("order.autocomplete.run").register(meterRegistry);
+        this.completedCounter = Counter.builder("order.autocomplete.completed").register(meterRegistry);
+        this.skippedCounter = Counter.builder("order.autocomplete.skipped").register(meterRegistry);
+        meterRegistry.gauge("order.autocomplete.throughput", lastThroughput);
+    }
+
+    /** 실행 결과 (skipped = 처리 실패한 주문 → 사유, deferred = lease 만료로 손대지 않은 주문) */
+    @Getter
+    @AllArgsConstructor
+    public static class Report {
+        private final int chunks;
+        private final int completed;
+        private final Map<Integer, String> skipped;
+        private final List<Integer> deferred;
+        private final long elapsedMillis;
+    }
+
+    //============================================================
+    // 1️⃣ 주문 목록 처리 (chunkSize 단위, keepGoing 이 false 면 남은 청크 중단)
+    //============================================================
+    public Report complete(List<Integer> orKeys, BooleanSupplier keepGoing) {
+        long start = System.nanoTime();
+        int chunks = 0;
+        int completed = 0;
+        Map<Integer, String> skipped = new LinkedHashMap<>();
+        List<Integer> deferred = new ArrayList<>();
+
+        for (int from = 0; from < orKeys.size(); from += chunkSize) {
+            if (chunks > 0 && !keepGoing.getAsBoolean()) {
+                // 처리 못 한 나머지는 다음에 다시 (실패가 아니므로 skipped 와 따로 보고)
+                deferred.addAll(orKeys.subList(from, orKeys.size()));
+                break;
+            }
+            ChunkResult result = processChunk(orKeys.subList(from, Math.min(from + chunkSize, orKeys.size())));
+            chunks++;
+            completed += result.completed;
+            skipped.putAll(result.skipped);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        completedCounter.increment(completed);
+        skippedCounter.increment(skipped.size());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        lastThroughput.set(elapsedMillis > 0 ? completed * 1000L / elapsedMillis : completed);
+
+        return new Report(chunks, completed, skipped, deferred, elapsedMillis);
+    }
+
+    //============================================================
+    // 2️⃣ 청크 하나 (트랜잭션 하나, 실패 시 건별 처리로 전환)
+    //============================================================
+    private ChunkResult processChunk(List<Integer> keys) {
+        try {
+            return chunkTx.execute(status -> completeChunk(keys));
+        } catch (RuntimeException e) {
+            // 청크 트랜잭션은 롤백됨 → 주문마다 따로 커밋해서 실패한 주문만 골라냄
+            log.warn("자동완료 청크 실패 → 건별 처리 ({}건): {}", keys.size(), e.toString());
+            ChunkResult result = new ChunkResult();
+            for (Integer orKey : keys) {
+                try {
+                    if (orderService.autoCompleteDelivery(orKey)) result.completed++;
+                } catch (RuntimeException ex) {
+                    result.skipped.put(orKey, ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName());
+                }
+            }
+            return result;
+        }
+    }
+
+    private ChunkResult completeChunk(List<Integer> keys) {
+        ChunkResult result = new ChunkResult();
+        List<AgencyOrderEntity> orders = orderRepository.findWithItemsByOrKeyIn(keys);
+
+        List<AgencyProductStockRepository.StockIncrement> increments = new ArrayList<>();
+        List<InventoryMovementEntity> movements = new ArrayList<>();
+        for (AgencyOrderEntity order : orders) {
+            // 조회 후 다른 곳에서 상태가 바뀐 주문은 제외
+            if (!IN_TRANSIT.equals(order.getOrStatus())) continue;
+
+            int agKey = order.getAgency().getAgKey();
+            for (AgencyOrderItemEntity item : order.getItems()) {
+                increments.add(new AgencyProductStockRepository.StockIncrement(agKey, item.getPdKey(), item.getOiQuantity()));
+                movements.add(new InventoryMovementEntity(InventoryMovementEntity.AGENCY, agKey, item.getPdKey(),
+                        InventoryMovementEntity.DELIVERY, item.getOiQuantity(), order.getOrKey()));
+            }
+
+            order.setOrStatus("배송완료");
+
+            DeliveryEntity delivery = order.getDelivery();
+            if (delivery != null) {
+                delivery.setDvStatus("대기중");
+                delivery.setDvDelivery(true);
+            }
+
+            orderCache.evictOrder(order.getOrKey(), agKey);
+            result.completed++;
+        }
+
+        // 청크 전체 대리점 재고를 statement batch 한 번으로 증가 (없는 상품은 생성)
+        agencyProductRepository.incrementStock(increments);
+        inventoryLedger.recordAll(movements);
+        return result;
+    }
+
+    private static class ChunkResult {
+        private int completed;
+        private final Map<Integer, String> skipped = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,159 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.entity.DeliveryDueEntity;
+import bitc.full502.backend.repository.DeliveryDueRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DeliveryDueQueue
+ * ----------------
+ * 배송 완료 예정 큐 (delivery_due 테이블 + 메모리 DelayQueue)
+ * - 주문이 '배송중' 이 되면 완료 예정 시각(now + transitTime)으로 등록
+ * - 테이블이 원본, 메모리 큐는 곧 만기될 항목만 들고 있음 (reload 로 채움)
+ * - 주문별 현재 만기 시각은 queued 에만 둠 → 취소 / 재등록으로 시각이 바뀐 옛 항목은 꺼낼 때 무시
+ * - 작업자는 가장 빠른 만기 시각까지 잠들어 있으므로 배송중 주문 수와 무관하게 대기
+ * - 처리에 계속 실패하는 주문은 정해진 횟수 후 보류 (테이블에 사유와 함께 남고 큐에서는 빠짐)
+ */
+@Component
+public class DeliveryDueQueue {
+
+    private static final int RELOAD_LIMIT = 1000;
+    private static final int ERROR_LENGTH = 255;   // delivery_due.last_error
+
+    private final DeliveryDueRepository dueRepository;
+    private final Duration transitTime;
+
+    private final DelayQueue<Due> queue = new DelayQueue<>();
+    // 주문 키 → 큐에 들어간 현재 만기 시각 (epoch ms)
+    private final Map<Integer, Long> queued = new ConcurrentHashMap<>();
+
+    public DeliveryDueQueue(DeliveryDueRepository dueRepository,
+                            @Value("${app.delivery.auto-complete-after:30s}") Duration transitTime) {
+        this.dueRepository = dueRepository;
+        this.transitTime = transitTime;
+    }
+
+    //============================================================
+    // 1️⃣ 등록 / 취소 (주문 트랜잭션 안에서 호출)
+    //============================================================
+    public void schedule(int orKey) {
+        LocalDateTime dueAt = LocalDateTime.now().plus(transitTime);
+        dueRepository.save(new DeliveryDueEntity(orKey, dueAt));
+        afterCommit(() -> offer(orKey, dueAt));
+    }
+
+    // 수동으로 배송완료 처리된 경우 등
+    // - 메모리 항목은 커밋 후에 제거 (롤백 / 재시도 시에는 그대로 남음)
+    // - DelayQueue 의 Due 는 그대로 두고, 만기 때 queued 에 없으니 무시됨
+    public void cancel(int orKey) {
+        dueRepository.deleteById(orKey);
+        afterCommit(() -> queued.remove(orKey));
+    }
+
+    //============================================================
+    // 2️⃣ 작업자용
+    //============================================================
+
+    // 만기 항목이 생기거나 timeout 이 지날 때까지 대기 → 만기된 주문 키 전부
+    public List<Integer> awaitDue(long timeoutMillis) throws InterruptedException {
+        List<Integer> keys = new ArrayList<>();
+        Due head = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (head == null) return keys;
+
+        List<Due> due = new ArrayList<>();
+        due.add(head);
+        queue.drainTo(due);
+        for (Due d : due) {
+            // 현재 만기 시각과 같은 항목만 (취소됐거나 다시 등록된 주문의 옛 항목은 버림)
+            if (queued.remove(d.orKey, d.dueMillis)) keys.add(d.orKey);
+        }
+        return keys;
+    }
+
+    // 테이블에서 lookahead 안에 만기되는 항목을 메모리로 (다른 노드에서 등록된 것 포함, 보류된 것 제외)
+    public void reload(Duration lookahead) {
+        List<DeliveryDueEntity> rows = dueRepository.findByParkedAtIsNullAndDueAtBeforeOrderByDueAt(
+                LocalDateTime.now().plus(lookahead), PageRequest.of(0, RELOAD_LIMIT));
+        rows.forEach(row -> offer(row.getOrKey(), row.getDueAt()));
+    }
+
+    // 큐에 등록되지 않은 '배송중' 주문 보정 (기동 시 1회, lease 잡은 노드만)
+    public int enqueueMissing() {
+        return dueRepository.enqueueMissing("배송중", LocalDateTime.now().plus(transitTime));
+    }
+
+    // 처리 끝난 항목 삭제
+    public void done(Collection<Integer> orKeys) {
+        if (!orKeys.isEmpty()) dueRepository.deleteByOrKeys(orKeys);
+    }
+
+    // 처리 실패한 항목은 사유 / 실패 횟수를 기록하고 delay 후 다시 시도
+    // - maxAttempts 번 실패한 항목은 보류 (계속 실패하는 주문을 영원히 다시 잡지 않음)
+    // @return 이번에 보류된 주문 키
+    public List<Integer> retryLater(Map<Integer, String> failures, Duration delay, int maxAttempts) {
+        if (failures.isEmpty()) return List.of();
+        LocalDateTime now = LocalDateTime.now();
+        failures.forEach((orKey, reason) -> dueRepository.recordFailure(orKey, now.plus(delay), abbreviate(reason)));
+        if (dueRepository.park(failures.keySet(), maxAttempts, now) == 0) return List.of();
+        return dueRepository.findParked(failures.keySet());
+    }
+
+    public int size() {
+        return queued.size();
+    }
+
+    // 같은 시각으로 이미 들어 있으면 건너뜀, 시각이 바뀌었으면 새 항목 추가 (옛 항목은 꺼낼 때 무시)
+    private void offer(int orKey, LocalDateTime dueAt) {
+        long dueMillis = dueAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Long previous = queued.put(orKey, dueMillis);
+        if (previous == null || previous != dueMillis) {
+            queue.offer(new Due(orKey, dueMillis));
+        }
+    }
+
+    private static String abbreviate(String reason) {
+        if (reason == null) return null;
+        return reason.length() <= ERROR_LENGTH ? reason : reason.substring(0, ERROR_LENGTH);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Due(int orKey, long dueMillis) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueMillis, ((Due) other).dueMillis);
+        }
+    }
+}
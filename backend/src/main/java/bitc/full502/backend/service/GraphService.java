@@ -21,7 +21,8 @@ public class GraphService {
     }
 
     public List<GraphDTO> getMonthlyGraph() {
-        List<Object[]> rawData = graphRepository.getMonthlyGraphData();
+        // 월별 집계 테이블 기준 (month 는 이미 YYYY-MM)
+        List<Object[]> rawData = graphRepository.getMonthlyRollupData();
         List<GraphDTO> result = new ArrayList<>();
 
         for (Object[] row : rawData) {
@@ -31,16 +32,6 @@ public class GraphService {
             int order = ((Number) row[3]).intValue();
             int status = ((Number) row[4]).intValue();
 
-            // month 포맷: YYYY-MM
-            if (month != null) {
-                String[] parts = month.split("-");
-                if (parts.length == 2) {
-                    String year = parts[0];
-                    String monthNum = String.format("%02d", Integer.parseInt(parts[1]));
-                    month = year + "-" + monthNum; // YYYY-MM 보장
-                }
-            }
-
             // 주소에서 '시'까지 추출
             String region = "미등록";
             if (fullAddress != null && !fullAddress.isBlank()) {
@@ -0,0 +1,148 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.entity.InventoryMovementEntity;
+import bitc.full502.backend.entity.InventorySnapshotEntity;
+import bitc.full502.backend.repository.InventoryMovementRepository;
+import bitc.full502.backend.repository.InventorySnapshotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * InventoryLedger
+ * ---------------
+ * 재고 이동 원장 (inventory_movement) + 주기 스냅샷 (inventory_snapshot)
+ * - 재고가 바뀌는 곳에서 같은 트랜잭션 안에 이동 1행씩 추가
+ * - 원장은 이력 / 시점 조회용이고 현재 재고의 원본은 여전히 stock 컬럼
+ *   기본 모드에서는 쓰는 쪽이 stock 행을 잠그고 UPDATE 한 뒤 원장에도 추가 → 인기 상품 행 잠금 경합은 그대로
+ *   (재고 부족 검사 / 기존 재고 화면이 stock 컬럼 기준이라 쓰기를 원장만으로 바꾸지 않음)
+ *   물류센터 차감을 원장 추가만으로 처리하는 것은 app.inventory.accelerator.enabled=true 일 때뿐 (StockAccelerator)
+ * - 물류센터 이동은 커밋 후 StockAvailabilityIndex 에도 반영
+ * - 시점 잔고 = 그 시점 이전 마지막 스냅샷 + 스냅샷 이후 이동 합계 → 주문을 훑지 않고 과거 재고 조회
+ * - created_at 은 flush 시각이라 커밋 순서와 다름 → 스냅샷 작업마다 settle 기간 안의 스냅샷(꼬리)은
+ *   그 이전 마지막 스냅샷부터 다시 계산 (늦게 커밋된 이동도 settle 기간 안이면 다음 작업에서 반영)
+ * - 원장 시작(기초 재고 등록 시각) 이전 시점은 조회 거부
+ */
+@Service
+public class InventoryLedger {
+
+    // 첫 스냅샷 이전 구간의 시작 (모든 이동보다 이전)
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final InventoryMovementRepository movementRepository;
+    private final InventorySnapshotRepository snapshotRepository;
+    private final StockAvailabilityIndex availabilityIndex;
+    private final Duration snapshotLag;
+    private final Duration snapshotRetention;
+    private final Duration snapshotSettle;
+
+    // 원장 시작 시각 (한 번 읽으면 바뀌지 않음)
+    private volatile LocalDateTime ledgerStart;
+
+    public InventoryLedger(InventoryMovementRepository movementRepository,
+                           InventorySnapshotRepository snapshotRepository,
+                           StockAvailabilityIndex availabilityIndex,
+                           @Value("${app.inventory.snapshot-lag:1m}") Duration snapshotLag,
+                           @Value("${app.inventory.snapshot-retention:90d}") Duration snapshotRetention,
+                           @Value("${app.inventory.snapshot-settle:6h}") Duration snapshotSettle) {
+        this.movementRepository = movementRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.availabilityIndex = availabilityIndex;
+        this.snapshotLag = snapshotLag;
+        this.snapshotRetention = snapshotRetention;
+        this.snapshotSettle = snapshotSettle;
+    }
+
+    //============================================================
+    // 1️⃣ 이동 기록 (호출하는 쪽 트랜잭션에 참여)
+    //============================================================
+    public void record(String locationType, int locationKey, int pdKey,
+                       String mvType, int quantity, Integer orKey) {
+        if (quantity == 0) return;
+        recordAll(List.of(new InventoryMovementEntity(locationType, locationKey, pdKey, mvType, quantity, orKey)));
+    }
+
+    // 여러 건 한 번에 (insert batch), 물류센터 이동은 커밋 후 가용 재고 색인에도 반영
+    public void recordAll(List<InventoryMovementEntity> movements) {
+        if (movements.isEmpty()) return;
+        movementRepository.saveAll(movements);
+        for (InventoryMovementEntity mv : movements) {
+            if (InventoryMovementEntity.LOGISTIC.equals(mv.getLocationType())) {
+                availabilityIndex.applyAfterCommit(mv.getLocationKey(), mv.getPdKey(), mv.getQuantity());
+            }
+        }
+    }
+
+    //============================================================
+    // 2️⃣ 시점 잔고 (to 직전까지, 상품키 → 수량)
+    //============================================================
+    @Transactional(readOnly = true)
+    public Map<Integer, Long> balances(String locationType, int locationKey, LocalDateTime to) {
+        LocalDateTime start = ledgerStart();
+        if (start != null && !to.isAfter(start)) {
+            throw new IllegalArgumentException("재고 원장 시작(" + start + ") 이전 시점은 조회할 수 없음");
+        }
+
+        Map<Integer, Long> result = new TreeMap<>();
+        LocalDateTime from = BEGINNING;
+
+        LocalDateTime snapAt = snapshotRepository.findLatestSnapAtBefore(to);
+        if (snapAt != null) {
+            for (InventorySnapshotEntity s : snapshotRepository
+                    .findBySnapAtAndLocationTypeAndLocationKey(snapAt, locationType, locationKey)) {
+                result.put(s.getPdKey(), s.getBalance());
+            }
+            from = snapAt;
+        }
+
+        for (Object[] row : movementRepository.sumByProduct(locationType, locationKey, from, to)) {
+            result.merge((Integer) row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+        return result;
+    }
+
+    // 기초 재고가 없으면 (빈 원장) null → 제한 없음
+    private LocalDateTime ledgerStart() {
+        LocalDateTime start = ledgerStart;
+        if (start == null) {
+            start = movementRepository.findFirstCreatedAt();
+            ledgerStart = start;
+        }
+        return start;
+    }
+
+    //============================================================
+    // 3️⃣ 스냅샷 (스케줄러에서 lease 잡고 호출)
+    //    - until - settle 이전 마지막 스냅샷(anchor)은 확정, 그 이후 스냅샷은 지우고
+    //      anchor 부터 같은 시각들 + until 로 차례로 다시 계산
+    //============================================================
+    @Transactional
+    public int snapshot() {
+        LocalDateTime until = LocalDateTime.now().minus(snapshotLag);
+        LocalDateTime anchor = snapshotRepository.findLatestSnapAtBefore(until.minus(snapshotSettle));
+        LocalDateTime prev = anchor != null ? anchor : BEGINNING;
+
+        List<LocalDateTime> tail = snapshotRepository.findSnapAtsAfter(prev);
+        snapshotRepository.deleteBySnapAtAfter(prev);
+
+        for (LocalDateTime snapAt : tail) {
+            if (!snapAt.isBefore(until)) break;
+            snapshotRepository.takeSnapshot(prev, snapAt);
+            prev = snapAt;
+        }
+        int rows = snapshotRepository.takeSnapshot(prev, until);
+
+        // 확정된 마지막 스냅샷(anchor)은 남겨 둠 (보관 기간이 지나도 다시 계산 기준점은 유지)
+        if (anchor != null) {
+            LocalDateTime cutoff = until.minus(snapshotRetention);
+            snapshotRepository.deleteBySnapAtBefore(cutoff.isBefore(anchor) ? cutoff : anchor);
+        }
+        return rows;
+    }
+}
@@ -1,14 +1,18 @@
 package bitc.full502.backend.service;
 
+import bitc.full502.backend.dto.InventoryBalanceDTO;
 import bitc.full502.backend.dto.InventoryDTO;
 import bitc.full502.backend.entity.AgencyOrderItemEntity;
 import bitc.full502.backend.repository.AgencyOrderItemRepository;
 import bitc.full502.backend.repository.AgencyProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -16,6 +20,7 @@ import java.util.stream.Collectors;
 public class InventoryService {
 
     private final AgencyProductRepository agencyProductRepository;
+    private final InventoryLedger inventoryLedger;
 
     public List<InventoryDTO> getAgencyInventory(int agencyId) {
         return agencyProductRepository.findByAgency_AgKey(agencyId).stream()
@@ -36,6 +41,18 @@ public class InventoryService {
                 ))
                 .collect(Collectors.toList());
     }
-}
-
 
+    // 원장 기준 date 가 끝나는 시점 재고 (LOGISTIC = 물류센터 lg_key, AGENCY = 대리점 ag_key)
+    // 원장 시작 이전 날짜면 400
+    public List<InventoryBalanceDTO> getBalancesAsOf(String locationType, int locationKey, LocalDate date) {
+        Map<Integer, Long> balances;
+        try {
+            balances = inventoryLedger.balances(locationType, locationKey, date.plusDays(1).atStartOfDay());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return balances.entrySet().stream()
+                .map(e -> new InventoryBalanceDTO(e.getKey(), e.getValue(), date.toString()))
+                .collect(Collectors.toList());
+    }
+}
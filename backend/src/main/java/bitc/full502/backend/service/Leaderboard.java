@@ -0,0 +1,398 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.dto.LeaderboardEntryDTO;
+import bitc.full502.backend.entity.AgencyOrderEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Leaderboard
+ * -----------
+ * 상품 / 대리점 순위표 (주 / 월 단위, 주문일 기준 기간)
+ * - 상품은 수량, 대리점은 금액으로 순위, 승인된 주문(CONFIRMED) / 배송완료(DELIVERED) 따로 집계
+ * - 이 노드에서 주문 상태가 바뀌면 커밋 후 그 주문만 DB 에서 다시 읽어 바로 반영 (품목 전체 스캔 없음)
+ * - 다른 노드에서 바뀐 주문은 poll() 이 주기적으로 or_updated_at 커서 - safetyWindow 이후 바뀐 / 삭제된 주문만 읽어 반영
+ *   (SalesCube.refresh 와 같은 방식, 커서는 실제로 읽은 or_updated_at 최댓값)
+ *   주문별로 반영된 상태 + 버전(or_version) 을 들고 있어서 같은 주문이 여러 번 와도 한 번만 반영, 늦게 온 옛 값은 무시
+ * - 점수 순으로 정렬된 채 유지하므로 상위 N 개 조회는 앞에서 N 개만 읽음
+ * - rebuild() 는 기동 시 / 매일 새벽에만 (보관 기간 이동)
+ *   재계산 중에 커밋된 주문은 모아 뒀다가 교체 직후 새 순위표에 다시 반영
+ */
+@Component
+public class Leaderboard {
+
+    private static final Set<String> CONFIRMED_STATUSES = Set.of("배송 준비중", "배송중", "배송완료");
+    private static final String DELIVERED_STATUS = "배송완료";
+
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final int retainWeeks;
+    private final int retainMonths;
+    private final Duration safetyWindow;
+
+    private volatile Boards boards;
+
+    // 재계산 중에 바뀐 주문 키 (swapLock 안에서만 접근)
+    private final Object swapLock = new Object();
+    private Set<Integer> changedDuringRebuild;
+
+    public Leaderboard(NamedParameterJdbcTemplate namedJdbcTemplate,
+                       @Value("${app.leaderboard.retain-weeks:8}") int retainWeeks,
+                       @Value("${app.leaderboard.retain-months:3}") int retainMonths,
+                       @Value("${app.sync.safety-window:10s}") Duration safetyWindow) {
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.retainWeeks = retainWeeks;
+        this.retainMonths = retainMonths;
+        this.safetyWindow = safetyWindow;
+    }
+
+    public enum Window { WEEK, MONTH }
+
+    public enum Measure { CONFIRMED, DELIVERED }
+
+    //============================================================
+    // 1️⃣ 조회 (date 가 속한 주 / 월)
+    //============================================================
+    public List<LeaderboardEntryDTO> topProducts(Window window, Measure measure, LocalDate date, int n) {
+        Boards b = current();
+        return top(b.products.get(bucket(window, measure, date)), b.productNames, n);
+    }
+
+    public List<LeaderboardEntryDTO> topAgencies(Window window, Measure measure, LocalDate date, int n) {
+        Boards b = current();
+        return top(b.agencies.get(bucket(window, measure, date)), b.agencyNames, n);
+    }
+
+    private List<LeaderboardEntryDTO> top(RankedCounter counter, Map<Integer, String> names, int n) {
+        List<LeaderboardEntryDTO> result = new ArrayList<>();
+        if (counter == null) return result;
+        for (RankedCounter.Rank r : counter.ranking) {
+            if (result.size() >= n) break;
+            if (r.score() <= 0) break;
+            result.add(new LeaderboardEntryDTO(result.size() + 1, r.key(), names.getOrDefault(r.key(), String.valueOf(r.key())), r.score()));
+        }
+        return result;
+    }
+
+    //============================================================
+    // 2️⃣ 상태 변경 반영 (주문 트랜잭션 안에서 호출 → 커밋 후 반영)
+    //============================================================
+
+    // 주문 한 건 (to == null 이면 삭제), 집계에 영향 없는 이동은 건너뜀
+    public void transition(AgencyOrderEntity order, String from, String to) {
+        if (sign(from, to, Measure.CONFIRMED) == 0 && sign(from, to, Measure.DELIVERED) == 0) return;
+        enqueue(List.of(order.getOrKey()));
+    }
+
+    // 일괄 상태 변경 (호출하는 쪽이 FOR UPDATE 로 잡은 주문 키 = UPDATE 대상과 같은 목록)
+    public void transitionAll(List<Integer> orKeys, String from, String to) {
+        if (orKeys.isEmpty()) return;
+        if (sign(from, to, Measure.CONFIRMED) == 0 && sign(from, to, Measure.DELIVERED) == 0) return;
+        enqueue(orKeys);
+    }
+
+    // 트랜잭션마다 주문 키 집합 하나, 커밋되면 한 번에 읽어서 반영 (트랜잭션 밖이면 바로)
+    @SuppressWarnings("unchecked")
+    private void enqueue(Collection<Integer> orKeys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(orKeys);
+            return;
+        }
+        Set<Integer> keys = (Set<Integer>) TransactionSynchronizationManager.getResource(this);
+        if (keys == null) {
+            Set<Integer> created = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(Leaderboard.this);
+                }
+            });
+            keys = created;
+        }
+        keys.addAll(orKeys);
+    }
+
+    private void apply(Collection<Integer> orKeys) {
+        if (orKeys.isEmpty()) return;
+        Boards b;
+        synchronized (swapLock) {
+            if (changedDuringRebuild != null) changedDuringRebuild.addAll(orKeys);
+            b = boards;
+        }
+        if (b == null) return; // 아직 적재 전이면 첫 rebuild 에 포함됨
+        refresh(b, orKeys);
+    }
+
+    // 주문들의 현재 상태 / 품목을 읽어서 반영된 값과 비교 (버전이 더 새로울 때만)
+    private void refresh(Boards b, Collection<Integer> orKeys) {
+        Map<Integer, Counted> now = new HashMap<>();
+        for (List<Integer> chunk : chunks(orKeys)) {
+            loadOrders("WHERE ao.or_key IN (:orKeys)", new MapSqlParameterSource("orKeys", chunk), now);
+        }
+        b.update(orKeys, now);
+    }
+
+    //============================================================
+    // 3️⃣ 다른 노드 변경분 (주기적으로, 커서 - safetyWindow 이후 바뀐 / 삭제된 주문만)
+    //    - 바뀐 주문은 (키, 버전) 만 먼저 읽고 반영된 버전보다 새로운 것만 품목까지 다시 읽음
+    //    - 이 노드에서 이미 반영한 주문은 버전이 같으므로 건너뜀
+    //============================================================
+    public int poll() {
+        Boards b = boards;
+        if (b == null) return 0; // 아직 적재 전 → 첫 rebuild 가 전부 읽음
+        MapSqlParameterSource params = new MapSqlParameterSource("since", Timestamp.valueOf(b.cursor.minus(safetyWindow)));
+
+        Map<Integer, Long> versions = new HashMap<>();
+        LocalDateTime[] cursor = {b.cursor};
+        namedJdbcTemplate.query("SELECT or_key, or_version, or_updated_at FROM agencyorder WHERE or_updated_at >= :since",
+                params, (RowCallbackHandler) rs -> {
+                    versions.put(rs.getInt(1), rs.getLong(2));
+                    LocalDateTime updatedAt = rs.getTimestamp(3).toLocalDateTime();
+                    if (updatedAt.isAfter(cursor[0])) cursor[0] = updatedAt;
+                });
+        List<Integer> deleted = new ArrayList<>();
+        namedJdbcTemplate.query("SELECT or_key FROM agencyorder_deleted WHERE deleted_at >= :since", params,
+                (RowCallbackHandler) rs -> deleted.add(rs.getInt(1)));
+
+        Set<Integer> changed = b.outdated(versions, deleted);
+        apply(changed);
+        b.cursor = cursor[0];
+        return changed.size();
+    }
+
+    // from → to 이동으로 measure 집계에 들어가면 +1, 빠지면 -1
+    private static int sign(String from, String to, Measure m) {
+        return (counts(to, m) ? 1 : 0) - (counts(from, m) ? 1 : 0);
+    }
+
+    private static boolean counts(String status, Measure m) {
+        if (status == null) return false;
+        return m == Measure.CONFIRMED ? CONFIRMED_STATUSES.contains(status) : DELIVERED_STATUS.equals(status);
+    }
+
+    //============================================================
+    // 4️⃣ 전체 재계산 (보관 기간 주문만, 기동 시 / 매일 새벽)
+    //============================================================
+    public synchronized int rebuild() {
+        LocalDate today = LocalDate.now();
+        LocalDate weekFrom = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(retainWeeks - 1L);
+        LocalDate monthFrom = today.withDayOfMonth(1).minusMonths(retainMonths - 1L);
+        LocalDate from = weekFrom.isBefore(monthFrom) ? weekFrom : monthFrom;
+
+        synchronized (swapLock) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        Boards next;
+        try {
+            next = load(from);
+        } catch (RuntimeException e) {
+            synchronized (swapLock) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        Set<Integer> changed;
+        synchronized (swapLock) {
+            boards = next;
+            changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+        }
+        // 재계산 중에 커밋된 주문 → 스캔이 봤든 못 봤든 버전 비교로 한 번만 반영
+        if (!changed.isEmpty()) refresh(next, changed);
+        return next.counted.size();
+    }
+
+    private Boards load(LocalDate from) {
+        // 커서는 스캔 전에 잡음 → 스캔 중 / 후에 바뀐 주문은 다음 poll 이 읽음 (이미 반영된 것은 버전으로 건너뜀)
+        Boards next = new Boards(from, maxUpdatedAt());
+        Map<Integer, Counted> orders = new HashMap<>();
+        loadOrders("WHERE ao.or_date >= :from AND ao.or_status IN (:statuses)",
+                new MapSqlParameterSource().addValue("from", Date.valueOf(from))
+                        .addValue("statuses", CONFIRMED_STATUSES), orders);
+        next.update(orders.keySet(), orders);
+        namedJdbcTemplate.query("SELECT ag_key, ag_name FROM agency", new MapSqlParameterSource(),
+                (RowCallbackHandler) rs -> next.agencyNames.put(rs.getInt(1), rs.getString(2)));
+        namedJdbcTemplate.query("SELECT pd_key, pd_products FROM product", new MapSqlParameterSource(),
+                (RowCallbackHandler) rs -> next.productNames.put(rs.getInt(1), rs.getString(2)));
+        return next;
+    }
+
+    private LocalDateTime maxUpdatedAt() {
+        List<Timestamp> max = namedJdbcTemplate.query("SELECT MAX(or_updated_at) FROM agencyorder",
+                new MapSqlParameterSource(), (rs, i) -> rs.getTimestamp(1));
+        return max.isEmpty() || max.get(0) == null ? LocalDate.EPOCH.atStartOfDay() : max.get(0).toLocalDateTime();
+    }
+
+    private Boards current() {
+        Boards b = boards;
+        if (b == null) {
+            synchronized (this) {
+                if (boards == null) rebuild();
+                b = boards;
+            }
+        }
+        return b;
+    }
+
+    // 주문 + 품목을 읽어서 주문별로 묶음 (품목 없는 주문은 집계할 것이 없으므로 빠짐)
+    private void loadOrders(String where, MapSqlParameterSource params, Map<Integer, Counted> into) {
+        namedJdbcTemplate.query("""
+                SELECT ao.or_key, ao.or_date, ao.ag_key, ao.or_status, ao.or_version, i.pd_key, i.oi_quantity, i.oi_total
+                  FROM agencyorder ao
+                  JOIN agencyorder_item i ON i.or_key = ao.or_key
+                """ + where, params, (RowCallbackHandler) rs -> {
+            int orKey = rs.getInt(1);
+            Counted c = into.get(orKey);
+            if (c == null) {
+                c = new Counted(rs.getString(4), rs.getLong(5), new ArrayList<>());
+                into.put(orKey, c);
+            }
+            c.lines().add(new Line(orKey, rs.getDate(2).toLocalDate(), rs.getInt(3), rs.getInt(6), rs.getInt(7), rs.getLong(8)));
+        });
+    }
+
+    private static List<List<Integer>> chunks(Collection<Integer> keys) {
+        List<Integer> all = new ArrayList<>(keys);
+        List<List<Integer>> result = new ArrayList<>();
+        for (int i = 0; i < all.size(); i += 1000) {
+            result.add(all.subList(i, Math.min(all.size(), i + 1000)));
+        }
+        return result;
+    }
+
+    private static String bucket(Window window, Measure measure, LocalDate date) {
+        LocalDate start = window == Window.WEEK
+                ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : date.withDayOfMonth(1);
+        return window + ":" + measure + ":" + start;
+    }
+
+    //============================================================
+    // 5️⃣ 내부 구조
+    //============================================================
+    private record Line(int orKey, LocalDate orDate, int agKey, int pdKey, int quantity, long total) {}
+
+    // 순위표에 반영된 주문 하나 (상태 + 버전 + 품목)
+    private record Counted(String status, long version, List<Line> lines) {}
+
+    // 기간 버킷별 상품 / 대리점 순위 + 주문별 반영 상태
+    private static class Boards {
+        final LocalDate from;
+        final Map<String, RankedCounter> products = new ConcurrentHashMap<>();
+        final Map<String, RankedCounter> agencies = new ConcurrentHashMap<>();
+        final Map<Integer, String> productNames = new HashMap<>();
+        final Map<Integer, String> agencyNames = new HashMap<>();
+        final Map<Integer, Counted> counted = new HashMap<>();
+        // poll 커서 (이 순위표에 반영된 or_updated_at 최댓값, poll 하는 스레드만 갱신)
+        volatile LocalDateTime cursor;
+
+        Boards(LocalDate from, LocalDateTime cursor) {
+            this.from = from;
+            this.cursor = cursor;
+        }
+
+        // 반영된 버전보다 새로운 주문 + 반영돼 있던 주문 중 삭제된 것
+        synchronized Set<Integer> outdated(Map<Integer, Long> versions, Collection<Integer> deleted) {
+            Set<Integer> result = new LinkedHashSet<>();
+            versions.forEach((orKey, version) -> {
+                Counted c = counted.get(orKey);
+                if (c == null || c.version() < version) result.add(orKey);
+            });
+            for (Integer orKey : deleted) {
+                if (counted.containsKey(orKey)) result.add(orKey);
+            }
+            return result;
+        }
+
+        // orKeys 각각: now 에 없으면 삭제된 주문, 있으면 반영된 버전보다 새로울 때만 빼고 다시 더함
+        synchronized void update(Collection<Integer> orKeys, Map<Integer, Counted> now) {
+            for (Integer orKey : orKeys) {
+                Counted before = counted.get(orKey);
+                Counted after = now.get(orKey);
+                if (after != null && before != null && before.version() >= after.version()) continue;
+                if (before != null) add(before, -1);
+                if (after == null || after.lines().get(0).orDate().isBefore(from)) {
+                    counted.remove(orKey);
+                } else {
+                    add(after, 1);
+                    counted.put(orKey, after);
+                }
+            }
+        }
+
+        private void add(Counted c, int sign) {
+            for (Measure m : Measure.values()) {
+                if (!counts(c.status(), m)) continue;
+                for (Line line : c.lines()) {
+                    add(m, line, sign);
+                }
+            }
+        }
+
+        private void add(Measure m, Line line, int sign) {
+            if (line.orDate().isBefore(from)) return; // 보관 기간 밖
+            for (Window w : Window.values()) {
+                String key = bucket(w, m, line.orDate());
+                products.computeIfAbsent(key, k -> new RankedCounter()).add(line.pdKey(), sign * (long) line.quantity());
+                agencies.computeIfAbsent(key, k -> new RankedCounter()).add(line.agKey(), sign * line.total());
+            }
+        }
+    }
+
+    /**
+     * 점수 내림차순으로 정렬된 카운터 (키 → 점수 맵 + 정렬 집합)
+     * - 갱신은 O(log M) (기존 순위 항목 제거 후 다시 넣음), 상위 N 조회는 앞에서 N 개
+     */
+    static class RankedCounter {
+        record Rank(int key, long score) {}
+
+        private static final Comparator<Rank> ORDER =
+                Comparator.comparingLong(Rank::score).reversed().thenComparingInt(Rank::key);
+
+        private final Map<Integer, Long> scores = new HashMap<>();
+        final ConcurrentSkipListSet<Rank> ranking = new ConcurrentSkipListSet<>(ORDER);
+
+        synchronized void add(int key, long delta) {
+            if (delta == 0) return;
+            Long old = scores.get(key);
+            long score = (old != null ? old : 0) + delta;
+            if (old != null) ranking.remove(new Rank(key, old));
+            if (score == 0) {
+                scores.remove(key);
+            } else {
+                scores.put(key, score);
+                ranking.add(new Rank(key, score));
+            }
+        }
+    }
+}
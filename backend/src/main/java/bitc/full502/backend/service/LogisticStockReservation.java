@@ -0,0 +1,155 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.dto.StockShortageDTO;
+import bitc.full502.backend.entity.InventoryMovementEntity;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * LogisticStockReservation
+ * ------------------------
+ * 출고('배송중') 시 물류센터 재고 일괄 차감
+ * - 주문 하나 또는 여러 주문의 라인을 (lg_key, pd_key) 단위로 합친 뒤 그 순서대로 정렬
+ * - 정렬된 순서로 JDBC batch 한 번에 차감 → 행 잠금 순서가 항상 같아서 동시 출고끼리 데드락 없음
+ * - 부족한 라인이 있으면 전부 모아서 ShortageException 으로 한 번에 보고 (트랜잭션 롤백)
+ * - 차감에 성공하면 재고 원장에 주문 라인별 SHIPMENT 기록
+ * - StockAccelerator 가 켜져 있으면 DB 대신 메모리 카운터에서 차감 (stock 반영은 write-behind)
+ */
+@Component
+@RequiredArgsConstructor
+public class LogisticStockReservation {
+
+    private static final Comparator<Slot> LOCK_ORDER =
+            Comparator.comparingInt(Slot::lgKey).thenComparingInt(Slot::pdKey);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InventoryLedger inventoryLedger;
+    private final StockAccelerator stockAccelerator;
+
+    /** 차감 요청 한 줄 (주문 + 물류센터 + 상품 + 수량) */
+    public record Line(Integer orKey, int lgKey, int pdKey, int quantity) {}
+
+    /** 재고 부족 (부족한 라인 전체) */
+    @Getter
+    public static class ShortageException extends RuntimeException {
+        private final List<StockShortageDTO> shortages;
+
+        public ShortageException(List<StockShortageDTO> shortages) {
+            super("물류 재고 부족: " + shortages.stream()
+                    .map(s -> "창고=" + s.getLgKey() + "/상품키=" + s.getPdKey()
+                            + " (필요 " + s.getRequired() + ", 재고 " + s.getAvailable() + ")")
+                    .collect(Collectors.joining(", ")));
+            this.shortages = shortages;
+        }
+    }
+
+    //============================================================
+    // 1️⃣ 일괄 차감 (부족 라인이 하나라도 있으면 전체 롤백)
+    //============================================================
+    @Transactional
+    public void reserve(Collection<Line> lines) {
+        // 같은 창고 + 상품은 합쳐서 한 번만 차감, (lg_key, pd_key) 순으로 정렬
+        TreeMap<Slot, Long> required = new TreeMap<>(LOCK_ORDER);
+        for (Line line : lines) {
+            required.merge(new Slot(line.lgKey(), line.pdKey()), (long) line.quantity(), Long::sum);
+        }
+        if (required.isEmpty()) return;
+
+        boolean accelerated = stockAccelerator.isEnabled();
+        if (accelerated) {
+            reserveInMemory(required);
+        } else {
+            reserveInDb(required);
+        }
+
+        // 원장에는 주문 라인 단위로 출고 기록 (메모리 차감이면 미반영 → flush 가 stock 에 반영)
+        inventoryLedger.recordAll(lines.stream()
+                .map(line -> {
+                    InventoryMovementEntity mv = new InventoryMovementEntity(InventoryMovementEntity.LOGISTIC,
+                            line.lgKey(), line.pdKey(), InventoryMovementEntity.SHIPMENT, -line.quantity(), line.orKey());
+                    mv.setApplied(!accelerated);
+                    return mv;
+                })
+                .toList());
+    }
+
+    // 창고 + 상품 당 1행 (V15 유니크 키) → flush 와 같은 행
+    private void reserveInDb(TreeMap<Slot, Long> required) {
+        List<Slot> slots = new ArrayList<>(required.keySet());
+        // batchSize = 전체 라인 수 → 배치 하나, 결과는 [0] 에 라인 순서대로
+        int[] updated = jdbcTemplate.batchUpdate("""
+                UPDATE logisticproduct
+                   SET stock = stock - ?, lp_version = lp_version + 1
+                 WHERE lg_key = ? AND pd_key = ? AND stock >= ?
+                """, slots, slots.size(), (ps, slot) -> {
+            long qty = required.get(slot);
+            ps.setLong(1, qty);
+            ps.setInt(2, slot.lgKey());
+            ps.setInt(3, slot.pdKey());
+            ps.setLong(4, qty);
+        })[0];
+
+        List<Slot> lacking = new ArrayList<>();
+        for (int i = 0; i < slots.size(); i++) {
+            if (updated[i] == 0) lacking.add(slots.get(i));
+        }
+        if (!lacking.isEmpty()) {
+            throw new ShortageException(shortages(lacking, required));
+        }
+    }
+
+    // 메모리 카운터에서 차감 (DB 잠금 없음), 부족하면 예외
+    // - 이미 차감한 라인은 예외로 트랜잭션이 롤백될 때 StockAccelerator 가 되돌림
+    private void reserveInMemory(TreeMap<Slot, Long> required) {
+        List<StockShortageDTO> shortages = new ArrayList<>();
+        required.forEach((slot, qty) -> {
+            if (!stockAccelerator.tryReserve(slot.lgKey(), slot.pdKey(), qty)) {
+                shortages.add(new StockShortageDTO(null, slot.lgKey(), slot.pdKey(), qty,
+                        stockAccelerator.available(slot.lgKey(), slot.pdKey())));
+            }
+        });
+
+        if (!shortages.isEmpty()) {
+            throw new ShortageException(shortages);
+        }
+    }
+
+    //============================================================
+    // 2️⃣ 부족 라인 현재 재고 조회 (이미 잠긴 행이므로 같은 트랜잭션에서 읽음)
+    //============================================================
+    private List<StockShortageDTO> shortages(List<Slot> slots, Map<Slot, Long> required) {
+        String tuples = slots.stream().map(s -> "(?, ?)").collect(Collectors.joining(", "));
+        Object[] args = slots.stream()
+                .flatMap(s -> Stream.of(s.lgKey(), s.pdKey()))
+                .toArray();
+
+        Map<Slot, Long> available = new HashMap<>();
+        jdbcTemplate.query("SELECT lg_key, pd_key, SUM(stock) FROM logisticproduct"
+                        + " WHERE (lg_key, pd_key) IN (" + tuples + ") GROUP BY lg_key, pd_key",
+                (RowCallbackHandler) rs -> available.put(new Slot(rs.getInt(1), rs.getInt(2)), rs.getLong(3)),
+                args);
+
+        List<StockShortageDTO> result = new ArrayList<>();
+        for (Slot slot : slots) {
+            result.add(new StockShortageDTO(null, slot.lgKey(), slot.pdKey(),
+                    required.get(slot), available.getOrDefault(slot, 0L)));
+        }
+        return result;
+    }
+
+    private record Slot(int lgKey, int pdKey) {}
+}
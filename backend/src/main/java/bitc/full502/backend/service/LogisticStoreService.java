@@ -1,6 +1,8 @@
 package bitc.full502.backend.service;
 
 import bitc.full502.backend.dto.LogisticStoreDTO;
+import bitc.full502.backend.entity.InventoryMovementEntity;
+import bitc.full502.backend.entity.LogisticProductEntity;
 import bitc.full502.backend.entity.LogisticStoreEntity;
 import bitc.full502.backend.repository.LogisticProductRepository;
 import bitc.full502.backend.repository.LogisticStoreRepository;
@@ -16,6 +18,8 @@ public class LogisticStoreService {
 
     private final LogisticStoreRepository logisticStoreRepository;
     private final LogisticProductRepository logisticProductRepository;
+    private final InventoryLedger inventoryLedger;
+    private final StockAccelerator stockAccelerator;
 
     public List<LogisticStoreDTO> searchStores(String companyName, String productCode, String productName,
                                                Integer priceMin, Integer priceMax,
@@ -51,5 +55,12 @@ public class LogisticStoreService {
     @Transactional
     public void increaseStock(Integer lpKey, Integer quantity) {
         logisticProductRepository.increaseStock(lpKey, quantity);
+
+        // 재고 원장에 입고 기록
+        LogisticProductEntity lp = logisticProductRepository.findById(lpKey)
+                .orElseThrow(() -> new RuntimeException("해당 데이터가 없습니다."));
+        inventoryLedger.record(InventoryMovementEntity.LOGISTIC, lp.getLogistic().getLgKey(),
+                lp.getProduct().getPdKey(), InventoryMovementEntity.RECEIPT, quantity, null);
+        stockAccelerator.creditAfterCommit(lp.getLogistic().getLgKey(), lp.getProduct().getPdKey(), quantity);
     }
 }
@@ -1,21 +1,26 @@
 package bitc.full502.backend.service;
 
+import bitc.full502.backend.Scheduler.ScheduledJobMonitor;
 import bitc.full502.backend.dto.NoticeDto;
 import bitc.full502.backend.entity.NoticeEntity;
 import bitc.full502.backend.repository.NoticeRepository;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NoticeServiceImpl implements NoticeService {
 
     private final NoticeRepository noticeRepository;
+    private final ScheduledJobMonitor jobMonitor;
 
     @Override
     public NoticeEntity createNotice(NoticeDto dto) {
@@ -98,10 +103,12 @@ public class NoticeServiceImpl implements NoticeService {
         return savedNotice;
     }
 
-    @Scheduled(cron = "0 0 0 * * ?")
+    @Scheduled(cron = "0 0 0 * * ?", scheduler = "maintenanceScheduler")
     @Transactional
     public void deleteExpiredNotices() {
-        noticeRepository.deleteByEndDateBefore(LocalDate.now());
-        System.out.println("만료된 공지사항 삭제 완료: " + LocalDate.now());
+        jobMonitor.run("notice-expire", Duration.ofDays(1), true, () -> {
+            noticeRepository.deleteByEndDateBefore(LocalDate.now());
+            log.info("만료된 공지사항 삭제 완료: {}", LocalDate.now());
+        });
     }
 }
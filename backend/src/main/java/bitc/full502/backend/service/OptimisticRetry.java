@@ -0,0 +1,82 @@
+package bitc.full502.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * OptimisticRetry
+ * ---------------
+ * @Version 충돌 시 트랜잭션을 새로 열어 다시 실행
+ * - 한 번 시도 = 트랜잭션 하나 (커밋 시점 충돌까지 잡기 위해 트랜잭션을 여기서 직접 관리)
+ * - 이미 바깥 트랜잭션 안이면 재시도할 수 없으므로 한 번만 실행하고 충돌은 호출자에게 넘김
+ * - 메트릭: order.transition.conflicts / retries / exhausted {operation}
+ */
+@Component
+public class OptimisticRetry {
+
+    private final TransactionTemplate tx;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticRetry(PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.retry.max-attempts:3}") int maxAttempts,
+                           @Value("${app.retry.backoff-ms:20}") long backoffMillis) {
+        this.tx = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    public void run(String operation, Runnable body) {
+        call(operation, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    public <T> T call(String operation, Supplier<T> body) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return body.get();
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return tx.execute(status -> body.get());
+            } catch (OptimisticLockingFailureException e) {
+                counter("order.transition.conflicts", operation).increment();
+                if (attempt >= maxAttempts) {
+                    counter("order.transition.exhausted", operation).increment();
+                    throw e;
+                }
+                counter("order.transition.retries", operation).increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    // 시도 횟수에 비례 + 랜덤 지연 (동시에 재시도해서 다시 충돌하는 것 방지)
+    private void backoff(int attempt) {
+        long delay = backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트", e);
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name).tag("operation", operation).register(meterRegistry);
+    }
+}
@@ -0,0 +1,153 @@
+package bitc.full502.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * OrderCache
+ * ----------
+ * 주문 조회 read-through 캐시 (Caffeine, CacheConfig 에서 크기/TTL 설정)
+ * - orderDetail  : 주문 1건 기준 (full / items / info)
+ * - agencyOrders : 대리점 1곳 기준 (web 목록 / android 목록, 상태 필터는 메모리에서)
+ * - 쓰기 경로에서 즉시 한 번 + 트랜잭션 종료 직후 한 번 더 evict
+ *   (Caffeine 은 같은 키를 로딩 중이면 invalidate 가 로딩 완료까지 기다리므로
+ *    커밋 전 값을 읽은 로딩이 캐시에 남지 않음)
+ * - evict 는 이 노드 캐시만 지우므로, 캐시 값마다 로딩 직전에 읽은 버전 스탬프를 같이 두고
+ *   조회할 때마다 스탬프를 다시 읽어 다르면 버리고 다시 로딩 (다른 노드 / 서비스 밖에서 바뀐 주문)
+ *   · 주문 1건 : or_version (PK 조회, 품목 변경도 헤더 합계가 바뀌므로 버전 증가)
+ *   · 대리점 목록 : 주문 수 + or_version 합 + 최대 or_key (ag_key, or_version 인덱스만 읽음)
+ *   · 대리점명 / 상품번호처럼 주문 행 밖의 값은 스탬프에 안 잡힘 → CacheConfig 의 TTL 까지
+ * - 캐시가 아끼는 것은 조인 / 품목 로딩 / DTO 변환이고, 적중해도 스탬프 조회 1번은 DB 에 감
+ */
+@Component
+public class OrderCache {
+
+    public static final String ORDER_DETAIL = "orderDetail";
+    public static final String AGENCY_ORDERS = "agencyOrders";
+
+    // orderDetail 키 종류
+    public static final String FULL = "full";
+    public static final String ITEMS = "items";
+    public static final String INFO = "info";
+
+    // agencyOrders 키 종류
+    public static final String WEB = "web";
+    public static final String ANDROID = "android";
+
+    private static final String[] DETAIL_KINDS = {FULL, ITEMS, INFO};
+    private static final String[] AGENCY_KINDS = {WEB, ANDROID};
+
+    private final Cache orderDetail;
+    private final Cache agencyOrders;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter staleCounter;
+
+    public OrderCache(CacheManager cacheManager, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.orderDetail = cacheManager.getCache(ORDER_DETAIL);
+        this.agencyOrders = cacheManager.getCache(AGENCY_ORDERS);
+        this.jdbcTemplate = jdbcTemplate;
+        this.staleCounter = Counter.builder("order.cache.stale").register(meterRegistry);
+    }
+
+    // 캐시 값 + 로딩 직전에 읽은 스탬프
+    private record Stamped(Object stamp, Object value) {}
+
+    // 대리점 주문 목록 스탬프 (추가 → 개수 / 최대 키, 수정 → 버전 합, 삭제 → 개수)
+    private record AgencyStamp(long count, long versionSum, long maxKey) {}
+
+    //============================================================
+    // 1️⃣ 조회 (없으면 loader 실행 후 저장)
+    //============================================================
+    public <T> T order(String kind, int orKey, Callable<T> loader) {
+        return load(orderDetail, kind + ":" + orKey, () -> orderStamp(orKey), loader);
+    }
+
+    public <T> T agency(String kind, int agKey, Callable<T> loader) {
+        return load(agencyOrders, kind + ":" + agKey, () -> agencyStamp(agKey), loader);
+    }
+
+    // 없는 주문이면 null
+    private Object orderStamp(int orKey) {
+        List<Long> version = jdbcTemplate.queryForList(
+                "SELECT or_version FROM agencyorder WHERE or_key = ?", Long.class, orKey);
+        return version.isEmpty() ? null : version.get(0);
+    }
+
+    private Object agencyStamp(int agKey) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*), COALESCE(SUM(or_version), 0), COALESCE(MAX(or_key), 0) FROM agencyorder WHERE ag_key = ?",
+                (rs, i) -> new AgencyStamp(rs.getLong(1), rs.getLong(2), rs.getLong(3)), agKey);
+    }
+
+    //============================================================
+    // 2️⃣ 무효화 (주문 변경 시 해당 주문 + 소속 대리점 목록)
+    //============================================================
+    public void evictOrder(int orKey, Integer agKey) {
+        evictNowAndAfterCommit(() -> {
+            for (String kind : DETAIL_KINDS) orderDetail.evict(kind + ":" + orKey);
+            if (agKey != null) evictAgencyNow(agKey);
+        });
+    }
+
+    public void evictAgencies(Collection<Integer> agKeys) {
+        evictNowAndAfterCommit(() -> agKeys.forEach(this::evictAgencyNow));
+    }
+
+    private void evictAgencyNow(int agKey) {
+        for (String kind : AGENCY_KINDS) agencyOrders.evict(kind + ":" + agKey);
+    }
+
+    private void evictNowAndAfterCommit(Runnable evict) {
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict.run();
+                }
+            });
+        }
+    }
+
+    // 캐시에 있던 값이면 스탬프를 다시 읽어 비교, 다르면 버리고 다시 로딩
+    // - 스탬프는 값보다 먼저 읽음 → 로딩 중에 바뀐 주문은 다음 조회에서 스탬프가 달라 다시 로딩
+    @SuppressWarnings("unchecked")
+    private <T> T load(Cache cache, String key, Supplier<Object> stamp, Callable<T> loader) {
+        boolean[] loaded = {false};
+        Callable<Stamped> stampedLoader = () -> {
+            loaded[0] = true;
+            Object s = stamp.get();
+            return new Stamped(s, loader.call());
+        };
+
+        Stamped cached = get(cache, key, stampedLoader);
+        if (!loaded[0] && !Objects.equals(cached.stamp(), stamp.get())) {
+            staleCounter.increment();
+            cache.evict(key);
+            cached = get(cache, key, stampedLoader);
+        }
+        return (T) cached.value();
+    }
+
+    // loader 에서 던진 예외는 Cache.ValueRetrievalException 으로 감싸지므로 원래 예외로 복원
+    private static Stamped get(Cache cache, String key, Callable<Stamped> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+}
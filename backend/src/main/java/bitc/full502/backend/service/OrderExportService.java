@@ -0,0 +1,120 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.dto.OrderExportRowDTO;
+import bitc.full502.backend.repository.AgencyOrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * OrderExportService
+ * ------------------
+ * 본사 주문 이력 내보내기
+ * - DB 커서(fetch size = Integer.MIN_VALUE, MySQL 스트리밍)로 한 줄씩 읽어서 바로 응답에 씀
+ * - 결과 전체를 List 로 만들지 않으므로 건수와 관계없이 메모리 사용량 일정
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    private static final String[] HEADERS = {
+            "주문키", "주문번호", "상태", "주문일", "배송예정일", "지역", "대리점", "배송기사",
+            "상품키", "상품명", "수량", "단가", "주문총액"
+    };
+
+    // XLSX 작성 시 메모리에 유지할 행 수 (나머지는 임시 파일로 flush)
+    private static final int XLSX_WINDOW = 200;
+
+    private final AgencyOrderRepository orderRepository;
+
+    //============================================================
+    // 1️⃣ CSV (UTF-8 BOM 포함 → 엑셀에서 한글 깨짐 방지)
+    //============================================================
+    @Transactional(readOnly = true)
+    public void writeCsv(OutputStream out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+        writer.write(String.join(",", HEADERS));
+        writer.newLine();
+
+        try (Stream<OrderExportRowDTO> rows = orderRepository.streamExportRows()) {
+            Iterator<OrderExportRowDTO> it = rows.iterator();
+            while (it.hasNext()) {
+                Object[] values = values(it.next());
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) writer.write(',');
+                    writer.write(csv(values[i]));
+                }
+                writer.newLine();
+            }
+        }
+        writer.flush();
+    }
+
+    //============================================================
+    // 2️⃣ XLSX (SXSSF 스트리밍 워크북)
+    //============================================================
+    @Transactional(readOnly = true)
+    public void writeXlsx(OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try (Stream<OrderExportRowDTO> rows = orderRepository.streamExportRows()) {
+            Sheet sheet = workbook.createSheet("주문내역");
+
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
+                header.createCell(i).setCellValue(HEADERS[i]);
+            }
+
+            int rowNum = 1;
+            Iterator<OrderExportRowDTO> it = rows.iterator();
+            while (it.hasNext()) {
+                Object[] values = values(it.next());
+                Row row = sheet.createRow(rowNum++);
+                for (int i = 0; i < values.length; i++) {
+                    Object v = values[i];
+                    if (v == null) continue;
+                    if (v instanceof Number n) {
+                        row.createCell(i).setCellValue(n.doubleValue());
+                    } else {
+                        row.createCell(i).setCellValue(v.toString());
+                    }
+                }
+            }
+
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private Object[] values(OrderExportRowDTO r) {
+        return new Object[]{
+                r.getOrKey(), r.getOrderNumber(), r.getOrStatus(), r.getOrDate(), r.getOrReserve(),
+                r.getOrGu(), r.getAgName(), r.getDvName(),
+                r.getPdKey(), r.getOiProducts(), r.getOiQuantity(), r.getOiPrice(), r.getOrTotal()
+        };
+    }
+
+    // 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번
+    private String csv(Object value) {
+        if (value == null) return "";
+        String s = value.toString();
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            return s;
+        }
+        return "\"" + s.replace("\"", "\"\"") + "\"";
+    }
+}
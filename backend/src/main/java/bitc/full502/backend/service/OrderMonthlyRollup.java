@@ -0,0 +1,101 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.entity.AgencyOrderEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * OrderMonthlyRollup
+ * ------------------
+ * 본사 대시보드용 월별 주문 집계 (order_monthly_rollup = 월 + 대리점 + 상태별 주문 수)
+ * - 주문 생성 / 상태 변경 / 삭제 시 order_rollup_delta 에 +1 / -1 행만 추가 (집계 행 잠금 없음)
+ * - fold() 가 주기적으로 delta 를 집계 테이블에 합치고 지움, 조회는 집계 + 아직 안 합친 delta
+ * - rebuild() 는 agencyorder 전체로 다시 계산 (백필 / 보정용)
+ */
+@Component
+public class OrderMonthlyRollup {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public OrderMonthlyRollup(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+    }
+
+    //============================================================
+    // 1️⃣ 변경 기록 (주문 트랜잭션 안에서 호출)
+    //============================================================
+
+    // 주문 한 건의 상태 이동 (from == null 이면 생성, to == null 이면 삭제)
+    public void move(AgencyOrderEntity order, String from, String to) {
+        if (order.getOrDate() == null || order.getAgency() == null) return;
+        String month = YearMonth.from(order.getOrDate().toLocalDate()).toString();
+        int agKey = order.getAgency().getAgKey();
+        if (from != null) insertDelta(month, agKey, from, -1);
+        if (to != null) insertDelta(month, agKey, to, 1);
+    }
+
+    // 일괄 상태 변경 (JPQL UPDATE 는 엔티티 콜백을 안 타므로 UPDATE 직전에 호출)
+    // orKeys = 호출하는 쪽이 from 상태로 FOR UPDATE 잠근 주문 (UPDATE 대상과 같은 목록)
+    public void moveAll(List<Integer> orKeys, String from, String to) {
+        if (orKeys.isEmpty()) return;
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("orKeys", orKeys)
+                .addValue("from", from)
+                .addValue("to", to);
+        namedJdbcTemplate.update("""
+                INSERT INTO order_rollup_delta (rd_month, ag_key, or_status, delta)
+                SELECT DATE_FORMAT(or_date, '%Y-%m'), ag_key, :from, -1
+                  FROM agencyorder
+                 WHERE or_key IN (:orKeys)
+                UNION ALL
+                SELECT DATE_FORMAT(or_date, '%Y-%m'), ag_key, :to, 1
+                  FROM agencyorder
+                 WHERE or_key IN (:orKeys)
+                """, params);
+    }
+
+    private void insertDelta(String month, int agKey, String status, int delta) {
+        jdbcTemplate.update("INSERT INTO order_rollup_delta (rd_month, ag_key, or_status, delta) VALUES (?, ?, ?, ?)",
+                month, agKey, status, delta);
+    }
+
+    //============================================================
+    // 2️⃣ delta 합치기 / 전체 재계산
+    //============================================================
+    @Transactional
+    public int fold() {
+        Long upTo = jdbcTemplate.queryForObject("SELECT MAX(rd_key) FROM order_rollup_delta", Long.class);
+        if (upTo == null) return 0;
+
+        jdbcTemplate.update("""
+                INSERT INTO order_monthly_rollup (rl_month, ag_key, or_status, order_cnt)
+                SELECT * FROM (
+                    SELECT rd_month, ag_key, or_status, SUM(delta) AS cnt
+                      FROM order_rollup_delta
+                     WHERE rd_key <= ?
+                     GROUP BY rd_month, ag_key, or_status) d
+                ON DUPLICATE KEY UPDATE order_cnt = order_cnt + d.cnt
+                """, upTo);
+        return jdbcTemplate.update("DELETE FROM order_rollup_delta WHERE rd_key <= ?", upTo);
+    }
+
+    @Transactional
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM order_rollup_delta");
+        jdbcTemplate.update("DELETE FROM order_monthly_rollup");
+        return jdbcTemplate.update("""
+                INSERT INTO order_monthly_rollup (rl_month, ag_key, or_status, order_cnt)
+                SELECT DATE_FORMAT(or_date, '%Y-%m'), ag_key, or_status, COUNT(*)
+                  FROM agencyorder
+                 GROUP BY DATE_FORMAT(or_date, '%Y-%m'), ag_key, or_status
+                """);
+    }
+}
@@ -0,0 +1,70 @@
+package bitc.full502.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * OrderNumberAllocator
+ * --------------------
+ * 주문번호(yyMMdd + 순번) 발급기
+ * - order_number_seq 테이블에 날짜별 다음 순번을 두고, 노드마다 blockSize 만큼 한 번에 예약
+ * - 예약한 블록은 메모리에서 소진하므로 주문 1건당 추가 조회가 없음
+ * - 블록 예약은 별도 트랜잭션으로 즉시 커밋 → 노드 간 번호 중복 없음
+ * - 재시작/롤백 시 남은 블록은 버려짐 (번호 중간이 비어도 무방)
+ */
+@Component
+public class OrderNumberAllocator {
+
+    private static final DateTimeFormatter PREFIX = DateTimeFormatter.ofPattern("yyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate reserveTx;
+    private final int blockSize;
+
+    // 현재 노드가 들고 있는 블록 [next, limit)
+    private String day;
+    private int next;
+    private int limit;
+
+    public OrderNumberAllocator(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.order-number.block-size:20}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.reserveTx = new TransactionTemplate(transactionManager);
+        this.reserveTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    public synchronized String next() {
+        String today = LocalDate.now().format(PREFIX);
+        if (!today.equals(day) || next >= limit) {
+            reserve(today);
+        }
+        return today + String.format("%02d", next++);
+    }
+
+    // 날짜별 행을 blockSize 만큼 증가시키고 예약된 구간을 받아옴
+    private void reserve(String today) {
+        Integer hi = reserveTx.execute(status -> {
+            jdbcTemplate.update("""
+                    INSERT INTO order_number_seq (seq_date, next_val) VALUES (?, ?)
+                    ON DUPLICATE KEY UPDATE next_val = next_val + ?
+                    """, today, 1 + blockSize, blockSize);
+            return jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM order_number_seq WHERE seq_date = ?", Integer.class, today);
+        });
+        if (hi == null) {
+            throw new IllegalStateException("주문번호 블록 예약 실패: " + today);
+        }
+        this.day = today;
+        this.limit = hi;
+        this.next = hi - blockSize;
+    }
+}
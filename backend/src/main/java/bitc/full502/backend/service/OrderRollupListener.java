@@ -0,0 +1,53 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.entity.AgencyOrderEntity;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 주문 엔티티 저장 / 상태 변경 / 삭제 → 월별 집계 delta + 순위표 반영 (AgencyOrderEntity @EntityListeners)
+ * - 읽어 올 때의 상태를 엔티티에 기억해 두고 flush 시점에 바뀐 경우만 기록
+ * - Hibernate 가 Spring 빈 컨테이너로 생성하므로 주입 가능 (EntityManagerFactory 생성 순서 때문에 지연 조회)
+ */
+public class OrderRollupListener {
+
+    private final ObjectProvider<OrderMonthlyRollup> rollup;
+    private final ObjectProvider<Leaderboard> leaderboard;
+
+    public OrderRollupListener(ObjectProvider<OrderMonthlyRollup> rollup, ObjectProvider<Leaderboard> leaderboard) {
+        this.rollup = rollup;
+        this.leaderboard = leaderboard;
+    }
+
+    @PostLoad
+    public void loaded(AgencyOrderEntity order) {
+        order.setLoadedStatus(order.getOrStatus());
+    }
+
+    @PostPersist
+    public void created(AgencyOrderEntity order) {
+        rollup.getObject().move(order, null, order.getOrStatus());
+        leaderboard.getObject().transition(order, null, order.getOrStatus());
+        order.setLoadedStatus(order.getOrStatus());
+    }
+
+    @PostUpdate
+    public void updated(AgencyOrderEntity order) {
+        String before = order.getLoadedStatus();
+        String after = order.getOrStatus();
+        if (before != null && before.equals(after)) return;
+        rollup.getObject().move(order, before, after);
+        leaderboard.getObject().transition(order, before, after);
+        order.setLoadedStatus(after);
+    }
+
+    @PostRemove
+    public void removed(AgencyOrderEntity order) {
+        String before = order.getLoadedStatus() != null ? order.getLoadedStatus() : order.getOrStatus();
+        rollup.getObject().move(order, before, null);
+        leaderboard.getObject().transition(order, before, null);
+    }
+}
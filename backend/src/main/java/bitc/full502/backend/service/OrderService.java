@@ -1,34 +1,113 @@
 package bitc.full502.backend.service;
 
 import bitc.full502.backend.dto.OrderDTO;
+import bitc.full502.backend.dto.OrderSyncDTO;
 import bitc.full502.backend.entity.AgencyOrderEntity;
+import bitc.full502.backend.entity.AgencyOrderTombstoneEntity;
 import bitc.full502.backend.repository.AgencyOrderRepository;
-import lombok.RequiredArgsConstructor;
+import bitc.full502.backend.repository.AgencyOrderTombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.text.SimpleDateFormat;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class OrderService {
 
     private final AgencyOrderRepository orderRepository;
+    private final AgencyOrderTombstoneRepository tombstoneRepository;
+    private final OrderCache orderCache;
+    private final JdbcTemplate jdbcTemplate;
     private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
 
+    // 커서 이전 구간도 다시 조회 (커밋이 문장 시각보다 늦은 트랜잭션 보정)
+    private final Duration safetyWindow;
+    // 삭제 기록 보관 기간 (이보다 오래된 커서는 전체 재동기화)
+    private final Duration tombstoneRetention;
+
+    public OrderService(AgencyOrderRepository orderRepository,
+                        AgencyOrderTombstoneRepository tombstoneRepository,
+                        OrderCache orderCache,
+                        JdbcTemplate jdbcTemplate,
+                        @Value("${app.sync.safety-window:10s}") Duration safetyWindow,
+                        @Value("${app.sync.tombstone-retention:30d}") Duration tombstoneRetention) {
+        this.orderRepository = orderRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.orderCache = orderCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.safetyWindow = safetyWindow;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
     public List<OrderDTO> getOrdersByAgency(int agKey) {
+        return orderCache.agency(OrderCache.ANDROID, agKey, () -> loadOrdersByAgency(agKey));
+    }
+
+    private List<OrderDTO> loadOrdersByAgency(int agKey) {
         List<AgencyOrderEntity> orders = orderRepository.findByAgencyAgKey(agKey);
 
-        return orders.stream().map(order -> new OrderDTO(
+        return orders.stream().map(this::toDTO).collect(Collectors.toList());
+    }
+
+    //============================================================
+    // Android 증분 동기화 (cursor 이후 추가/변경/삭제된 주문만)
+    // - or_updated_at / deleted_at 은 DB 가 기록하므로 커서도 DB 시각 (이 노드 시계와 무관)
+    // - 조회 전에 읽음 → 조회 중 / 후에 커밋된 변경은 다음 요청이 가져감
+    //============================================================
+    @Transactional(readOnly = true)
+    public OrderSyncDTO syncOrdersByAgency(int agKey, String cursor) {
+        LocalDateTime now = jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP(6)", LocalDateTime.class);
+        String nextCursor = now.toString();
+
+        LocalDateTime since = parseCursor(cursor);
+        if (since == null || since.isBefore(now.minus(tombstoneRetention))) {
+            // 처음 요청 / 잘못된 커서 / 보관 기간 지난 커서 → 전체 목록
+            return new OrderSyncDTO(true, getOrdersByAgency(agKey), List.of(), nextCursor);
+        }
+
+        LocalDateTime from = since.minus(safetyWindow);
+        List<OrderDTO> changed = orderRepository.findByAgency_AgKeyAndOrUpdatedAtAfter(agKey, from).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+        List<Integer> deleted = tombstoneRepository.findByAgKeyAndDeletedAtAfter(agKey, from).stream()
+                .map(AgencyOrderTombstoneEntity::getOrKey)
+                .collect(Collectors.toList());
+
+        return new OrderSyncDTO(false, changed, deleted, nextCursor);
+    }
+
+    // 보관 기간 지난 삭제 기록 정리 (스케줄러)
+    @Transactional
+    public long purgeTombstones() {
+        return tombstoneRepository.deleteByDeletedAtBefore(LocalDateTime.now().minus(tombstoneRetention));
+    }
+
+    private LocalDateTime parseCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            return LocalDateTime.parse(cursor);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private OrderDTO toDTO(AgencyOrderEntity order) {
+        return new OrderDTO(
                 order.getOrKey(),
                 order.getAgency().getAgKey(),
                 dateFormat.format(order.getOrDate()),
                 order.getOrStatus(),
-                dateFormat.format(order.getOrReserve()),
+                order.getOrReserve() != null ? dateFormat.format(order.getOrReserve()) : "",
                 order.getDelivery() != null ? order.getDelivery().getDvName() : "",
                 order.getDelivery() != null ? order.getDelivery().getDvPhone() : "",
                 order.getOrTotal()
-        )).collect(Collectors.toList());
+        );
     }
 }
@@ -25,6 +25,8 @@ public class ReadyOrderService {
     private final AgencyRepository agencyRepo;
     private final AgencyOrderRepository agencyOrderRepository;
     private final AgencyOrderItemRepository agencyOrderItemRepository;
+    private final OrderNumberAllocator orderNumberAllocator;
+    private final OrderCache orderCache;
 
 
     // 임시 저장 중복 방지 + 저장
@@ -95,18 +97,10 @@ public class ReadyOrderService {
         AgencyEntity agency = agencyRepo.findById(agKey)
                 .orElseThrow(() -> new RuntimeException("대리점 정보가 없습니다."));
 
-        LocalDate today = LocalDate.now();
-        Date sqlToday = Date.valueOf(today);
+        Date sqlToday = Date.valueOf(LocalDate.now());
 
-        // 1️⃣ DB 기준 오늘 최대 orderNumber 조회 → 중복 방지
-        String todayPrefix = String.format("%02d%02d%02d", today.getYear() % 100, today.getMonthValue(), today.getDayOfMonth());
-        String maxOrderNumber = agencyOrderRepository.findMaxOrderNumberLike(todayPrefix + "%"); // Repository에서 구현 필요
-
-        int seq = 1;
-        if (maxOrderNumber != null) {
-            seq = Integer.parseInt(maxOrderNumber.substring(6)) + 1;
-        }
-        String orderNumber = todayPrefix + String.format("%02d", seq);
+        // 1️⃣ 주문번호 발급 (날짜별 블록 예약 → 중복 방지)
+        String orderNumber = orderNumberAllocator.next();
 
         // 2️⃣ 주문 엔티티 생성
         AgencyOrderEntity order = new AgencyOrderEntity();
@@ -123,6 +117,7 @@ public class ReadyOrderService {
 
         agencyOrderRepository.save(order);
         agencyOrderRepository.flush();
+        orderCache.evictOrder(order.getOrKey(), agKey);
 
         // 3️⃣ 주문 아이템 저장
         for (ReadyOrderDTO dto : items) {
@@ -0,0 +1,638 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.dto.SalesPointDTO;
+import bitc.full502.backend.dto.SalesSeriesDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * SalesCube
+ * ---------
+ * 본사 매출 분석용 메모리 큐브 (주문 품목 1건 = 1행, 열 단위 int / long 배열)
+ * - 차원(지역 / 대리점 / 카테고리 / 상품 / 상태)은 사전 인코딩한 int 코드, 날짜는 epoch day
+ * - 조회는 DB 없이 배열을 청크로 나눠 병렬 스캔 → 기간(일 / 주 / 월) × 차원별 건수 / 수량 / 금액
+ * - refresh() 가 or_updated_at 커서 이후 바뀐 주문과 삭제 기록만 읽어서 새 스냅샷으로 교체 (바뀐 게 없으면 그대로)
+ * - 행은 or_key 순으로 주문 단위로 붙어 있으므로 (청크도 주문 경계에서 자름) 그룹별 주문 수는 직전 주문 키 비교로 셈
+ */
+@Component
+public class SalesCube {
+
+    private static final int MAX_GROUPS = 200_000;
+    private static final int MIN_CHUNK_ROWS = 50_000;
+    // 기간 번호 배열을 만들기 전에 거르는 최대 조회 일수 (20년)
+    private static final int MAX_DAYS = 366 * 20;
+    // 대리점 / 상품 이름 재조회 주기 (새 대리점 / 상품이 보이면 바로)
+    private static final Duration LABEL_TTL = Duration.ofMinutes(10);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration safetyWindow;
+
+    private volatile Snapshot snapshot;
+
+    public SalesCube(JdbcTemplate jdbcTemplate,
+                     @Value("${app.sync.safety-window:10s}") Duration safetyWindow) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.safetyWindow = safetyWindow;
+    }
+
+    public enum Granularity { DAY, WEEK, MONTH }
+
+    // NONE 외에는 Snapshot.dicts 순서와 같음
+    public enum Dimension { NONE, REGION, AGENCY, CATEGORY, PRODUCT, STATUS }
+
+    /** 조회 조건 (null 인 필터는 전체) */
+    public record Query(Granularity granularity, LocalDate from, LocalDate to, Dimension groupBy,
+                        String region, Integer agKey, String category, Integer pdKey, List<String> statuses) {}
+
+    //============================================================
+    // 1️⃣ 조회 (병렬 스캔)
+    //============================================================
+    public SalesSeriesDTO query(Query q) {
+        long start = System.nanoTime();
+        Snapshot s = current();
+
+        long fromDay = q.from().toEpochDay();
+        long toDay = q.to().toEpochDay();
+        if (toDay < fromDay) throw new IllegalArgumentException("to 가 from 보다 빠름");
+        if (toDay - fromDay + 1 > MAX_DAYS) {
+            throw new IllegalArgumentException("조회 기간이 너무 김: " + (toDay - fromDay + 1) + "일 (최대 " + MAX_DAYS + "일)");
+        }
+
+        // 기간 수는 계산으로 먼저 확인 (배열 할당 / 날짜 순회 전에)
+        int[] group = q.groupBy() == Dimension.NONE ? null : s.column(q.groupBy());
+        int cardinality = group == null ? 1 : Math.max(1, s.dict(q.groupBy()).size());
+        long periodCount = periodCount(q.from(), q.to(), q.granularity());
+        if (periodCount * cardinality > MAX_GROUPS) {
+            throw new IllegalArgumentException("조회 범위가 너무 큼: 기간 " + periodCount + " × 항목 " + cardinality);
+        }
+        int groups = (int) periodCount * cardinality;
+
+        // 날짜 → 기간 번호
+        List<LocalDate> periods = new ArrayList<>();
+        int[] periodOf = new int[(int) (toDay - fromDay + 1)];
+        LocalDate last = null;
+        for (long d = fromDay; d <= toDay; d++) {
+            LocalDate p = periodStart(LocalDate.ofEpochDay(d), q.granularity());
+            if (!p.equals(last)) {
+                periods.add(p);
+                last = p;
+            }
+            periodOf[(int) (d - fromDay)] = periods.size() - 1;
+        }
+
+        // 필터 값 → 코드 (사전에 없는 값이면 결과 없음)
+        int region = s.code(Dimension.REGION, q.region());
+        int agency = s.code(Dimension.AGENCY, q.agKey() != null ? String.valueOf(q.agKey()) : null);
+        int category = s.code(Dimension.CATEGORY, q.category());
+        int product = s.code(Dimension.PRODUCT, q.pdKey() != null ? String.valueOf(q.pdKey()) : null);
+        boolean[] statuses = null;
+        if (q.statuses() != null && !q.statuses().isEmpty()) {
+            statuses = new boolean[s.dict(Dimension.STATUS).size()];
+            for (String status : q.statuses()) {
+                int c = s.dict(Dimension.STATUS).code(status);
+                if (c >= 0) statuses[c] = true;
+            }
+        }
+        if (region == Dict.MISSING || agency == Dict.MISSING || category == Dict.MISSING || product == Dict.MISSING) {
+            return result(q, s, periods, new Partial(0), 1, start);
+        }
+
+        Filter filter = new Filter((int) fromDay, (int) toDay, periodOf, group, cardinality, region, agency, category, product, statuses);
+        int[] bounds = chunkBounds(s);
+        Partial total = IntStream.range(0, bounds.length - 1).parallel()
+                .mapToObj(c -> scan(s, filter, bounds[c], bounds[c + 1], groups))
+                .reduce(Partial::merge)
+                .orElseGet(() -> new Partial(groups));
+
+        return result(q, s, periods, total, cardinality, start);
+    }
+
+    private Partial scan(Snapshot s, Filter f, int from, int to, int groups) {
+        Partial p = new Partial(groups);
+        for (int i = from; i < to; i++) {
+            int day = s.day[i];
+            if (day < f.fromDay || day > f.toDay) continue;
+            if (f.region >= 0 && s.region[i] != f.region) continue;
+            if (f.agency >= 0 && s.agency[i] != f.agency) continue;
+            if (f.category >= 0 && s.category[i] != f.category) continue;
+            if (f.product >= 0 && s.product[i] != f.product) continue;
+            if (f.statuses != null && (s.status[i] >= f.statuses.length || !f.statuses[s.status[i]])) continue;
+
+            int g = f.periodOf[day - f.fromDay] * f.cardinality + (f.group != null ? f.group[i] : 0);
+            p.quantity[g] += s.quantity[i];
+            p.revenue[g] += s.revenue[i];
+            if (p.lastOrder[g] != s.orKey[i]) {
+                p.orders[g]++;
+                p.lastOrder[g] = s.orKey[i];
+            }
+        }
+        return p;
+    }
+
+    // 병렬 청크 경계 (주문 하나가 두 청크에 걸치지 않게 주문 키가 바뀌는 곳에서 자름)
+    private int[] chunkBounds(Snapshot s) {
+        int chunks = Math.max(1, Math.min(ForkJoinPool.getCommonPoolParallelism(), s.size / MIN_CHUNK_ROWS));
+        return chunkBounds(s.orKey, s.size, chunks);
+    }
+
+    // or_key 순 [0, size) 를 chunks 개로 (주문이 길면 뒤 청크가 비어 있을 수 있음)
+    static int[] chunkBounds(int[] orKey, int size, int chunks) {
+        int[] bounds = new int[chunks + 1];
+        bounds[chunks] = size;
+        for (int c = 1; c < chunks; c++) {
+            int b = Math.max(bounds[c - 1], (int) ((long) size * c / chunks));
+            while (b > bounds[c - 1] && b < size && orKey[b] == orKey[b - 1]) b++;
+            bounds[c] = b;
+        }
+        return bounds;
+    }
+
+    private SalesSeriesDTO result(Query q, Snapshot s, List<LocalDate> periods, Partial total, int cardinality, long start) {
+        List<SalesPointDTO> points = new ArrayList<>();
+        for (int g = 0; g < total.orders.length; g++) {
+            if (total.orders[g] == 0) continue;
+            LocalDate period = periods.get(g / cardinality);
+            String key = null;
+            String label = null;
+            if (q.groupBy() != Dimension.NONE) {
+                key = s.dict(q.groupBy()).value(g % cardinality);
+                label = s.label(q.groupBy(), key);
+            }
+            points.add(new SalesPointDTO(period.toString(), key, label, total.orders[g], total.quantity[g], total.revenue[g]));
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        return new SalesSeriesDTO(q.granularity().name(), q.groupBy().name(),
+                s.cursor != null ? s.cursor.toString() : null, s.size, elapsedMillis, points);
+    }
+
+    private static long periodCount(LocalDate from, LocalDate to, Granularity granularity) {
+        LocalDate first = periodStart(from, granularity);
+        LocalDate lastStart = periodStart(to, granularity);
+        return switch (granularity) {
+            case DAY -> ChronoUnit.DAYS.between(first, lastStart) + 1;
+            case WEEK -> ChronoUnit.WEEKS.between(first, lastStart) + 1;
+            case MONTH -> ChronoUnit.MONTHS.between(first, lastStart) + 1;
+        };
+    }
+
+    private static LocalDate periodStart(LocalDate day, Granularity granularity) {
+        return switch (granularity) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    //============================================================
+    // 2️⃣ 갱신 (처음엔 전체, 이후엔 커서 - safetyWindow 이후 바뀐 주문만)
+    //    - 스냅샷 행은 항상 or_key 순 → 바뀐 주문의 행 구간은 이진 탐색으로 지움 표시(BitSet),
+    //      나머지는 구간 단위 배열 복사 + 새로 읽은 행을 or_key 순서대로 끼워 넣음
+    //    - safetyWindow 안의 주문은 (버전, 수정 시각) 을 기억해 두고 다시 읽혀도 같으면 건너뜀
+    //    - 바뀐 주문 / 삭제가 없으면 스냅샷 그대로 (배열 복사 / 이름 재조회 없음)
+    //============================================================
+    public synchronized int refresh() {
+        Snapshot prev = snapshot;
+        LocalDateTime since = prev != null && prev.cursor != null ? prev.cursor.minus(safetyWindow) : null;
+
+        Fresh fresh = new Fresh(prev);
+        String sql = """
+                SELECT ao.or_key, ao.or_date, ao.or_region, ao.ag_key, ao.or_status, ao.or_updated_at, ao.or_version,
+                       i.pd_key, p.pd_category, i.oi_quantity, i.oi_total
+                  FROM agencyorder ao
+                  LEFT JOIN agencyorder_item i ON i.or_key = ao.or_key
+                  LEFT JOIN product p ON p.pd_key = i.pd_key
+                """ + (since != null ? " WHERE ao.or_updated_at >= ?" : "") + " ORDER BY ao.or_key, i.oi_key";
+        if (since != null) {
+            jdbcTemplate.query(sql, fresh, Timestamp.valueOf(since));
+            jdbcTemplate.query("SELECT or_key FROM agencyorder_deleted WHERE deleted_at >= ?",
+                    (RowCallbackHandler) rs -> fresh.deleted(rs.getInt(1)), Timestamp.valueOf(since));
+        } else {
+            jdbcTemplate.query(sql, fresh);
+        }
+
+        if (prev != null && fresh.changed.size == 0) return 0;
+
+        boolean reloadLabels = prev == null || fresh.newNames
+                || Duration.between(prev.labelsAt, LocalDateTime.now()).compareTo(LABEL_TTL) > 0;
+        snapshot = new Snapshot(merge(prev, fresh), fresh.dicts(), fresh.recent(safetyWindow),
+                reloadLabels ? loadLabels() : prev.labels, reloadLabels ? LocalDateTime.now() : prev.labelsAt,
+                fresh.cursor);
+        return fresh.changed.size;
+    }
+
+    // 이전 스냅샷 중 바뀌지 않은 주문 행 + 새로 읽은 행 (둘 다 or_key 순 → 결과도 or_key 순)
+    private static Columns merge(Snapshot prev, Fresh fresh) {
+        Columns in = fresh.rows;
+        if (prev == null) return in.trim();
+
+        Columns old = prev.rows;
+        BitSet dead = new BitSet(old.size);
+        for (int k = 0; k < fresh.changed.size; k++) {
+            int orKey = fresh.changed.values[k];
+            dead.set(lowerBound(old.orKey, 0, old.size, orKey), lowerBound(old.orKey, 0, old.size, orKey + 1));
+        }
+
+        Columns out = new Columns(old.size - dead.cardinality() + in.size);
+        int i = 0;
+        int j = 0;
+        while (j < in.size) {
+            int orKey = in.orKey[j];
+            int end = lowerBound(old.orKey, i, old.size, orKey);
+            copyLive(old, dead, i, end, out);
+            i = end;
+
+            int jEnd = j;
+            while (jEnd < in.size && in.orKey[jEnd] == orKey) jEnd++;
+            out.copy(in, j, jEnd);
+            j = jEnd;
+        }
+        copyLive(old, dead, i, old.size, out);
+        return out;
+    }
+
+    // [from, to) 중 지움 표시 안 된 구간만 복사
+    private static void copyLive(Columns src, BitSet dead, int from, int to, Columns out) {
+        int r = from;
+        while (r < to) {
+            int d = dead.nextSetBit(r);
+            int liveEnd = d < 0 || d > to ? to : d;
+            out.copy(src, r, liveEnd);
+            if (liveEnd == to) return;
+            r = Math.min(to, dead.nextClearBit(liveEnd));
+        }
+    }
+
+    // 정렬된 a[from, to) 에서 key 이상인 첫 위치
+    static int lowerBound(int[] a, int from, int to, int key) {
+        int lo = from;
+        int hi = to;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    public int size() {
+        Snapshot s = snapshot;
+        return s != null ? s.size : 0;
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            synchronized (this) {
+                if (snapshot == null) refresh();
+                s = snapshot;
+            }
+        }
+        return s;
+    }
+
+    // 대리점 / 상품 표시 이름 (작은 테이블, 새 대리점 / 상품이 들어왔거나 LABEL_TTL 이 지났을 때만)
+    private Map<Dimension, Map<String, String>> loadLabels() {
+        Map<String, String> agencies = new HashMap<>();
+        jdbcTemplate.query("SELECT ag_key, ag_name FROM agency",
+                (RowCallbackHandler) rs -> agencies.put(String.valueOf(rs.getInt(1)), rs.getString(2)));
+        Map<String, String> products = new HashMap<>();
+        jdbcTemplate.query("SELECT pd_key, pd_products FROM product",
+                (RowCallbackHandler) rs -> products.put(String.valueOf(rs.getInt(1)), rs.getString(2)));
+        return Map.of(Dimension.AGENCY, agencies, Dimension.PRODUCT, products);
+    }
+
+    //============================================================
+    // 3️⃣ 내부 구조
+    //============================================================
+
+    // 문자열 ↔ int 코드 (스냅샷마다 복사본, 발행 후에는 읽기 전용)
+    private static class Dict {
+        static final int ANY = -1;
+        static final int MISSING = -2;
+
+        private final List<String> values;
+        private final Map<String, Integer> codes;
+
+        Dict() {
+            this(new ArrayList<>(), new HashMap<>());
+        }
+
+        private Dict(List<String> values, Map<String, Integer> codes) {
+            this.values = values;
+            this.codes = codes;
+        }
+
+        Dict copy() {
+            return new Dict(new ArrayList<>(values), new HashMap<>(codes));
+        }
+
+        int encode(String value) {
+            String v = value != null ? value : "";
+            Integer c = codes.get(v);
+            if (c != null) return c;
+            values.add(v);
+            codes.put(v, values.size() - 1);
+            return values.size() - 1;
+        }
+
+        int code(String value) {
+            Integer c = codes.get(value);
+            return c != null ? c : -1;
+        }
+
+        String value(int code) {
+            return values.get(code);
+        }
+
+        int size() {
+            return values.size();
+        }
+    }
+
+    // 열 배열 묶음 (스냅샷 본체 / 새로 읽은 행 / 합친 결과)
+    static class Columns {
+        int size;
+        int[] orKey;
+        int[] day;
+        int[] region;
+        int[] agency;
+        int[] category;
+        int[] product;
+        int[] status;
+        int[] quantity;
+        long[] revenue;
+
+        Columns(int capacity) {
+            int n = Math.max(1, capacity);
+            orKey = new int[n];
+            day = new int[n];
+            region = new int[n];
+            agency = new int[n];
+            category = new int[n];
+            product = new int[n];
+            status = new int[n];
+            quantity = new int[n];
+            revenue = new long[n];
+        }
+
+        void append(int o, int d, int r, int a, int c, int p, int s, int q, long rev) {
+            if (size == orKey.length) resize(orKey.length * 2);
+            orKey[size] = o;
+            day[size] = d;
+            region[size] = r;
+            agency[size] = a;
+            category[size] = c;
+            product[size] = p;
+            status[size] = s;
+            quantity[size] = q;
+            revenue[size] = rev;
+            size++;
+        }
+
+        // src 의 [from, to) 행을 뒤에 붙임 (열마다 arraycopy 한 번)
+        void copy(Columns src, int from, int to) {
+            int n = to - from;
+            if (n <= 0) return;
+            if (size + n > orKey.length) resize(Math.max(size + n, orKey.length * 2));
+            System.arraycopy(src.orKey, from, orKey, size, n);
+            System.arraycopy(src.day, from, day, size, n);
+            System.arraycopy(src.region, from, region, size, n);
+            System.arraycopy(src.agency, from, agency, size, n);
+            System.arraycopy(src.category, from, category, size, n);
+            System.arraycopy(src.product, from, product, size, n);
+            System.arraycopy(src.status, from, status, size, n);
+            System.arraycopy(src.quantity, from, quantity, size, n);
+            System.arraycopy(src.revenue, from, revenue, size, n);
+            size += n;
+        }
+
+        Columns trim() {
+            if (size < orKey.length) resize(size);
+            return this;
+        }
+
+        private void resize(int n) {
+            orKey = Arrays.copyOf(orKey, n);
+            day = Arrays.copyOf(day, n);
+            region = Arrays.copyOf(region, n);
+            agency = Arrays.copyOf(agency, n);
+            category = Arrays.copyOf(category, n);
+            product = Arrays.copyOf(product, n);
+            status = Arrays.copyOf(status, n);
+            quantity = Arrays.copyOf(quantity, n);
+            revenue = Arrays.copyOf(revenue, n);
+        }
+    }
+
+    // 늘어나는 int 배열 (주문 키 목록)
+    private static class IntList {
+        int size;
+        int[] values = new int[64];
+
+        void add(int v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+    }
+
+    // safetyWindow 안에서 읽은 주문 (다음 갱신 때 다시 읽혀도 같으면 건너뜀)
+    private record Seen(long version, LocalDateTime updatedAt) {}
+
+    private static class Snapshot {
+        final Columns rows;
+        final int size;
+        final int[] orKey;
+        final int[] day;
+        final int[] region;
+        final int[] agency;
+        final int[] category;
+        final int[] product;
+        final int[] status;
+        final int[] quantity;
+        final long[] revenue;
+        final Dict[] dicts;  // REGION, AGENCY, CATEGORY, PRODUCT, STATUS
+        final Map<Integer, Seen> recent;
+        final Map<Dimension, Map<String, String>> labels;
+        final LocalDateTime labelsAt;
+        final LocalDateTime cursor;
+
+        Snapshot(Columns rows, Dict[] dicts, Map<Integer, Seen> recent,
+                 Map<Dimension, Map<String, String>> labels, LocalDateTime labelsAt, LocalDateTime cursor) {
+            this.rows = rows;
+            this.size = rows.size;
+            this.orKey = rows.orKey;
+            this.day = rows.day;
+            this.region = rows.region;
+            this.agency = rows.agency;
+            this.category = rows.category;
+            this.product = rows.product;
+            this.status = rows.status;
+            this.quantity = rows.quantity;
+            this.revenue = rows.revenue;
+            this.dicts = dicts;
+            this.recent = recent;
+            this.labels = labels;
+            this.labelsAt = labelsAt;
+            this.cursor = cursor;
+        }
+
+        Dict dict(Dimension d) {
+            return dicts[d.ordinal() - 1];
+        }
+
+        int[] column(Dimension d) {
+            return switch (d) {
+                case REGION -> region;
+                case AGENCY -> agency;
+                case CATEGORY -> category;
+                case PRODUCT -> product;
+                case STATUS -> status;
+                case NONE -> null;
+            };
+        }
+
+        // 필터 값 없으면 ANY, 사전에 없으면 MISSING
+        int code(Dimension d, String value) {
+            if (value == null || value.isBlank()) return Dict.ANY;
+            int c = dict(d).code(d == Dimension.REGION ? value.trim() : value);
+            return c >= 0 ? c : Dict.MISSING;
+        }
+
+        String label(Dimension d, String key) {
+            Map<String, String> names = labels.get(d);
+            return names != null ? names.getOrDefault(key, key) : key;
+        }
+
+        boolean contains(int key) {
+            int i = lowerBound(orKey, 0, size, key);
+            return i < size && orKey[i] == key;
+        }
+    }
+
+    // 갱신 한 번에 읽은 행 (or_key 순으로 들어옴)
+    // - 주문의 첫 행에서 바뀌었는지 판단, 안 바뀐 주문의 나머지 행은 건너뜀
+    // - 사전은 처음 새 값을 넣을 때 이전 스냅샷 것을 복사
+    private static class Fresh implements RowCallbackHandler {
+        final Snapshot prev;
+        final Columns rows = new Columns(1024);
+        final IntList changed = new IntList();
+        // 이번에 읽은 주문의 키 / 버전 / 수정 시각 (다음 갱신의 recent 후보)
+        final IntList seenKeys = new IntList();
+        final List<Seen> seen = new ArrayList<>();
+        LocalDateTime cursor;
+        boolean newNames;
+
+        private Dict[] dicts;
+        private int currentOrder = Integer.MIN_VALUE;
+        private boolean skipping;
+
+        Fresh(Snapshot prev) {
+            this.prev = prev;
+            this.cursor = prev != null ? prev.cursor : null;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            int orKey = rs.getInt(1);
+            if (orKey != currentOrder) {
+                currentOrder = orKey;
+                LocalDateTime updatedAt = rs.getTimestamp(6).toLocalDateTime();
+                Seen s = new Seen(rs.getLong(7), updatedAt);
+                seenKeys.add(orKey);
+                seen.add(s);
+                if (cursor == null || updatedAt.isAfter(cursor)) cursor = updatedAt;
+
+                skipping = prev != null && s.equals(prev.recent.get(orKey));
+                if (!skipping) changed.add(orKey);
+            }
+            if (skipping) return;
+
+            int pdKey = rs.getInt(8);
+            if (rs.wasNull()) return; // 품목 없는 주문
+            Dict[] d = dicts();
+            int agencies = d[1].size();
+            int products = d[3].size();
+            String region = rs.getString(3);
+            rows.append(orKey, (int) rs.getDate(2).toLocalDate().toEpochDay(),
+                    d[0].encode(region == null ? null : region.trim()), d[1].encode(String.valueOf(rs.getInt(4))),
+                    d[2].encode(rs.getString(9)), d[3].encode(String.valueOf(pdKey)), d[4].encode(rs.getString(5)),
+                    rs.getInt(10), rs.getLong(11));
+            if (d[1].size() != agencies || d[3].size() != products) newNames = true;
+        }
+
+        // 삭제 기록: 이전 스냅샷에 행이 있는 주문만 바뀐 것으로
+        void deleted(int orKey) {
+            if (prev != null && prev.contains(orKey)) changed.add(orKey);
+        }
+
+        Dict[] dicts() {
+            if (dicts == null) {
+                dicts = new Dict[5];
+                for (int i = 0; i < dicts.length; i++) {
+                    dicts[i] = prev != null ? prev.dicts[i].copy() : new Dict();
+                }
+            }
+            return dicts;
+        }
+
+        // 새 커서 - window 이후에 수정된 주문 (다음 갱신에서 다시 읽힐 범위)
+        Map<Integer, Seen> recent(Duration window) {
+            Map<Integer, Seen> result = new HashMap<>();
+            if (cursor == null) return result;
+            LocalDateTime from = cursor.minus(window);
+            for (int k = 0; k < seenKeys.size; k++) {
+                Seen s = seen.get(k);
+                if (!s.updatedAt().isBefore(from)) result.put(seenKeys.values[k], s);
+            }
+            return result;
+        }
+    }
+
+    private record Filter(int fromDay, int toDay, int[] periodOf, int[] group, int cardinality,
+                          int region, int agency, int category, int product, boolean[] statuses) {}
+
+    // 청크 하나의 그룹별 합계
+    private static class Partial {
+        final long[] orders;
+        final long[] quantity;
+        final long[] revenue;
+        final int[] lastOrder;
+
+        Partial(int groups) {
+            orders = new long[groups];
+            quantity = new long[groups];
+            revenue = new long[groups];
+            lastOrder = new int[groups];
+            Arrays.fill(lastOrder, Integer.MIN_VALUE);
+        }
+
+        Partial merge(Partial other) {
+            for (int g = 0; g < orders.length; g++) {
+                orders[g] += other.orders[g];
+                quantity[g] += other.quantity[g];
+                revenue[g] += other.revenue[g];
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package bitc.full502.backend.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * SchedulerLease
+ * --------------
+ * 여러 노드 중 한 곳에서만 스케줄 작업을 돌리기 위한 DB 임대(lease)
+ * - scheduler_lease 행 하나 = 작업 하나, lease_until 까지 owner 만 실행
+ * - 만료 시각은 DB 시계(NOW) 기준 → 노드 간 시계 차이 영향 없음
+ * - 실행 중 tryAcquire 를 다시 부르면 연장, 노드가 죽으면 ttl 후 다른 노드가 가져감
+ */
+@Component
+public class SchedulerLease {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner;
+
+    public SchedulerLease(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    // 비어 있거나(만료) 내가 가진 lease 면 ttl 만큼 (재)획득
+    public boolean tryAcquire(String name, Duration ttl) {
+        jdbcTemplate.update("INSERT IGNORE INTO scheduler_lease (name, owner, lease_until) VALUES (?, '', NOW(6))", name);
+        int updated = jdbcTemplate.update("""
+                UPDATE scheduler_lease
+                   SET owner = ?, lease_until = NOW(6) + INTERVAL ? SECOND
+                 WHERE name = ?
+                   AND (lease_until < NOW(6) OR owner = ?)
+                """, owner, ttl.toSeconds(), name, owner);
+        return updated == 1;
+    }
+
+    // 작업 종료 시 바로 반납 (다음 주기에 다른 노드가 가져갈 수 있게)
+    public void release(String name) {
+        jdbcTemplate.update("UPDATE scheduler_lease SET lease_until = NOW(6) WHERE name = ? AND owner = ?", name, owner);
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package bitc.full502.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * StockAccelerator
+ * ----------------
+ * 물류센터 재고 메모리 카운터 + write-behind (app.inventory.accelerator.enabled=true 일 때만 차감에 사용)
+ * - (lg_key, pd_key) 별 StripedStockCounter 로 DB 행 잠금 없이 차감 판단
+ * - 차감은 재고 원장에 applied = 0 행으로 남기고 (주문 트랜잭션 안), logisticproduct.stock 반영은 flush 가 모아서 처리
+ * - flush 는 DB 의 미반영 행을 기준으로 동작 → 노드가 죽어도 재기동 후(또는 다른 노드가) 그대로 이어서 반영
+ * - 메모리 카운터는 노드마다 따로 있으므로 차감을 처리하는 노드가 하나일 때만 켤 것
+ * - reconcile 이 주기적으로 조용한 카운터를 DB(stock + 미반영 원장) 기준으로 맞추고, 한 주기 동안 안 쓰인 카운터는 버림
+ *   (차감 / 입고가 진행 중인 카운터는 건너뛰고 다음 주기에 다시 시도)
+ */
+@Component
+public class StockAccelerator {
+
+    private static final int FLUSH_LIMIT = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate flushTx;
+    private final boolean enabled;
+    private final int stripeCount;
+
+    private final Map<Long, Tracked> counters = new ConcurrentHashMap<>();
+    private final Counter flushedCounter;
+    private final Counter reconciledCounter;
+
+    public StockAccelerator(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.inventory.accelerator.enabled:false}") boolean enabled,
+                            @Value("${app.inventory.accelerator.stripes:8}") int stripeCount) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushTx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.stripeCount = stripeCount;
+        this.flushedCounter = Counter.builder("inventory.accelerator.flushed").register(meterRegistry);
+        this.reconciledCounter = Counter.builder("inventory.accelerator.reconciled").register(meterRegistry);
+        meterRegistry.gauge("inventory.accelerator.counters", counters, Map::size);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    //============================================================
+    // 1️⃣ 메모리 카운터 (처음 쓰일 때 DB 재고 + 미반영 원장으로 채움)
+    //============================================================
+
+    // 차감 (주문 트랜잭션 안) → 롤백되면 완료 시점에 되돌림
+    public boolean tryReserve(int lgKey, int pdKey, long quantity) {
+        Tracked t = begin(lgKey, pdKey);
+        if (!t.counter.tryAcquire(quantity)) {
+            t.inflight.decrement();
+            return false;
+        }
+        t.ops.increment();
+        afterCompletion(t, committed -> {
+            if (!committed) t.counter.release(quantity);
+        });
+        return true;
+    }
+
+    // 입고 등 DB stock 을 직접 바꾼 경우 커밋 후 메모리에도 반영
+    // - 지금 메모리에 있는 카운터에만 반영, 없으면 건너뜀 (나중에 읽을 때 DB 값에 이미 포함)
+    //   이 트랜잭션 커밋 전에 다른 요청이 카운터를 읽었다면 입고분만큼 적게 잡히고 다음 reconcile 때 맞춰짐
+    public void creditAfterCommit(int lgKey, int pdKey, long quantity) {
+        if (!enabled) return;
+        Tracked t = join(key(lgKey, pdKey));
+        if (t == null) return;
+        afterCompletion(t, committed -> {
+            if (committed) t.counter.release(quantity);
+        });
+    }
+
+    public long available(int lgKey, int pdKey) {
+        return tracked(lgKey, pdKey).counter.available();
+    }
+
+    private Tracked tracked(int lgKey, int pdKey) {
+        return counters.computeIfAbsent(key(lgKey, pdKey),
+                k -> new Tracked(new StripedStockCounter(stripeCount, load(lgKey, pdKey))));
+    }
+
+    // 진행 중 표시 후 카운터 반환 (reconcile 이 방금 버린 카운터면 다시 읽음)
+    private Tracked begin(int lgKey, int pdKey) {
+        while (true) {
+            Tracked t = tracked(lgKey, pdKey);
+            t.inflight.increment();
+            if (!t.retired) return t;
+            t.inflight.decrement();
+        }
+    }
+
+    private Tracked join(long key) {
+        while (true) {
+            Tracked t = counters.get(key);
+            if (t == null) return null;
+            t.inflight.increment();
+            if (!t.retired) return t;
+            t.inflight.decrement();
+        }
+    }
+
+    // 트랜잭션이 끝나면 (커밋 / 롤백) action 후 진행 중 표시 해제, 트랜잭션 밖이면 바로 커밋된 것으로 처리
+    private void afterCompletion(Tracked t, Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            finish(t, action, true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                finish(t, action, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private static void finish(Tracked t, Consumer<Boolean> action, boolean committed) {
+        try {
+            action.accept(committed);
+        } finally {
+            t.ops.increment();
+            t.inflight.decrement();
+        }
+    }
+
+    //============================================================
+    // 2️⃣ reconcile (maintenance 스케줄러, 노드마다)
+    //    - 진행 중인 차감 / 입고가 없고 DB 를 읽는 동안 변경도 없었던 카운터만 DB 값과의 차이를 더함
+    //    - 지난 reconcile 이후 변경이 없었던 카운터는 버림 (다음에 쓰일 때 DB 에서 다시 읽음)
+    //============================================================
+    public int reconcile() {
+        int adjusted = 0;
+        for (Map.Entry<Long, Tracked> e : counters.entrySet()) {
+            Tracked t = e.getValue();
+            if (t.inflight.sum() != 0) continue;
+
+            long ops = t.ops.sum();
+            if (ops == t.reconciledOps) {
+                retire(e.getKey(), t);
+                continue;
+            }
+
+            long memory = t.counter.available();
+            long db = load((int) (e.getKey() >> 32), (int) (long) e.getKey());
+            if (t.inflight.sum() != 0 || t.ops.sum() != ops) continue; // 읽는 중에 바뀜 → 다음 주기
+
+            if (db != memory) {
+                // 차이만 더함 (음수면 줄어듦, 이후 들어온 차감은 그대로 유지)
+                t.counter.release(db - memory);
+                adjusted++;
+            }
+            t.reconciledOps = ops;
+        }
+        reconciledCounter.increment(adjusted);
+        return adjusted;
+    }
+
+    // retired 를 먼저 세우고 진행 중 표시를 다시 확인 → begin / join 과 엇갈려도 쓰는 중인 카운터는 안 버림
+    private void retire(long key, Tracked t) {
+        t.retired = true;
+        if (t.inflight.sum() == 0) {
+            counters.remove(key, t);
+        } else {
+            t.retired = false;
+        }
+    }
+
+    // 한 문장으로 읽어야 flush 가 중간에 끼어도 (stock, 미반영) 합계가 맞음
+    private long load(int lgKey, int pdKey) {
+        Long total = jdbcTemplate.queryForObject("""
+                SELECT (SELECT COALESCE(SUM(stock), 0) FROM logisticproduct WHERE lg_key = ? AND pd_key = ?)
+                     + (SELECT COALESCE(SUM(quantity), 0) FROM inventory_movement
+                         WHERE applied = 0 AND location_type = 'LOGISTIC' AND location_key = ? AND pd_key = ?)
+                """, Long.class, lgKey, pdKey, lgKey, pdKey);
+        return total != null ? total : 0;
+    }
+
+    private static long key(int lgKey, int pdKey) {
+        return ((long) lgKey << 32) | (pdKey & 0xffffffffL);
+    }
+
+    //============================================================
+    // 3️⃣ write-behind (미반영 원장 → logisticproduct.stock, 트랜잭션 하나)
+    //    - 미반영 행을 FOR UPDATE 로 잡으므로 여러 노드가 동시에 돌아도 한 번만 반영
+    //============================================================
+    public int flush() {
+        Integer flushed = flushTx.execute(status -> {
+            List<long[]> rows = jdbcTemplate.query("""
+                    SELECT mv_key, location_key, pd_key, quantity
+                      FROM inventory_movement
+                     WHERE applied = 0 AND location_type = 'LOGISTIC'
+                     ORDER BY mv_key
+                     LIMIT ?
+                       FOR UPDATE
+                    """, (rs, i) -> new long[]{rs.getLong(1), rs.getInt(2), rs.getInt(3), rs.getInt(4)}, FLUSH_LIMIT);
+            if (rows.isEmpty()) return 0;
+
+            // (lg_key, pd_key) 순으로 순증감 합산 → 행 잠금 순서 고정
+            TreeMap<Long, Long> deltas = new TreeMap<>();
+            List<Long> mvKeys = new ArrayList<>(rows.size());
+            for (long[] row : rows) {
+                mvKeys.add(row[0]);
+                deltas.merge(key((int) row[1], (int) row[2]), row[3], Long::sum);
+            }
+
+            List<Map.Entry<Long, Long>> changes = new ArrayList<>(deltas.entrySet());
+            changes.removeIf(e -> e.getValue() == 0);
+            // 창고 + 상품 당 1행 (V15 유니크 키) → reserveInDb 와 같은 행
+            if (!changes.isEmpty()) jdbcTemplate.batchUpdate("""
+                    UPDATE logisticproduct
+                       SET stock = stock + ?, lp_version = lp_version + 1
+                     WHERE lg_key = ? AND pd_key = ?
+                    """, changes, changes.size(), (ps, e) -> {
+                ps.setLong(1, e.getValue());
+                ps.setInt(2, (int) (e.getKey() >> 32));
+                ps.setInt(3, (int) (long) e.getKey());
+            });
+
+            String marks = String.join(",", Collections.nCopies(mvKeys.size(), "?"));
+            jdbcTemplate.update("UPDATE inventory_movement SET applied = 1 WHERE mv_key IN (" + marks + ")",
+                    mvKeys.toArray());
+            return rows.size();
+        });
+
+        int count = flushed != null ? flushed : 0;
+        flushedCounter.increment(count);
+        return count;
+    }
+
+    // 카운터 + 진행 중 / 변경 횟수 (핫 경로에서 경합이 없도록 LongAdder)
+    private static final class Tracked {
+        final StripedStockCounter counter;
+        final LongAdder inflight = new LongAdder();   // 끝나지 않은 차감 트랜잭션 + 커밋 전 입고
+        final LongAdder ops = new LongAdder();        // 변경 횟수 (reconcile 중 변경 감지 / 유휴 판단)
+        volatile boolean retired;
+        long reconciledOps = -1;                      // reconcile 스레드만 사용
+
+        Tracked(StripedStockCounter counter) {
+            this.counter = counter;
+        }
+    }
+}
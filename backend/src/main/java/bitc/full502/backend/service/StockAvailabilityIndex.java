@@ -0,0 +1,153 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.dto.AvailabilityDTO;
+import bitc.full502.backend.dto.AvailabilityLineDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * StockAvailabilityIndex
+ * ----------------------
+ * 물류센터 + 상품별 가용 재고 메모리 색인 ((lgKey << 32 | pdKey) 정렬 long[] + AtomicLongArray)
+ * - 가용 = logisticproduct.stock + 아직 stock 에 반영 안 된 원장 이동 (StockAccelerator 분)
+ * - 재고 변경은 InventoryLedger 가 커밋 후 apply 로 반영, 주기적으로 DB 에서 통째로 다시 읽어 교체 (reconcile)
+ * - 조회 전용 참고값 (실제 차감 가능 여부는 LogisticStockReservation 이 판단)
+ *   reconcile 도중 커밋된 변경은 다음 reconcile 때 맞춰짐
+ */
+@Component
+public class StockAvailabilityIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Snapshot snapshot;
+
+    public StockAvailabilityIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    //============================================================
+    // 1️⃣ 조회
+    //============================================================
+    public long available(int lgKey, int pdKey) {
+        Snapshot s = current();
+        int i = s.indexOf(key(lgKey, pdKey));
+        return i >= 0 ? s.values.get(i) : 0;
+    }
+
+    // 물류센터 하나가 items(상품키 → 수량) 를 전부 출고할 수 있는지
+    public AvailabilityDTO check(int lgKey, Map<Integer, Integer> items) {
+        List<AvailabilityLineDTO> lines = new ArrayList<>();
+        boolean canShip = true;
+        for (Map.Entry<Integer, Integer> item : items.entrySet()) {
+            long available = available(lgKey, item.getKey());
+            lines.add(new AvailabilityLineDTO(item.getKey(), item.getValue(), available));
+            if (available < item.getValue()) canShip = false;
+        }
+        return new AvailabilityDTO(lgKey, canShip, lines);
+    }
+
+    // 모든 물류센터 대상 (출고 가능한 곳 먼저, 그 안에서는 lgKey 순)
+    public List<AvailabilityDTO> checkAll(Map<Integer, Integer> items) {
+        List<AvailabilityDTO> result = new ArrayList<>();
+        for (int lgKey : current().lgKeys()) {
+            result.add(check(lgKey, items));
+        }
+        result.sort(Comparator.comparing((AvailabilityDTO a) -> !a.isCanShip()).thenComparingInt(AvailabilityDTO::getLgKey));
+        return result;
+    }
+
+    //============================================================
+    // 2️⃣ 변경 반영 (InventoryLedger 에서 호출)
+    //============================================================
+    public void applyAfterCommit(int lgKey, int pdKey, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(lgKey, pdKey, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(lgKey, pdKey, delta);
+            }
+        });
+    }
+
+    // 색인에 없는 (새 창고 + 상품) 조합은 다음 reconcile 때 들어옴
+    private void apply(int lgKey, int pdKey, long delta) {
+        Snapshot s = snapshot;
+        if (s == null) return;
+        int i = s.indexOf(key(lgKey, pdKey));
+        if (i >= 0) s.values.addAndGet(i, delta);
+    }
+
+    //============================================================
+    // 3️⃣ DB 에서 다시 읽기 (한 문장 → stock / 미반영 원장이 같은 시점 기준)
+    //============================================================
+    public synchronized int reconcile() {
+        List<long[]> rows = jdbcTemplate.query("""
+                SELECT x.lg_key, x.pd_key, SUM(x.qty)
+                  FROM (SELECT lg_key, pd_key, stock AS qty FROM logisticproduct
+                        UNION ALL
+                        SELECT location_key, pd_key, quantity FROM inventory_movement
+                         WHERE applied = 0 AND location_type = 'LOGISTIC') x
+                 GROUP BY x.lg_key, x.pd_key
+                 ORDER BY x.lg_key, x.pd_key
+                """, (rs, i) -> new long[]{key(rs.getInt(1), rs.getInt(2)), rs.getLong(3)});
+
+        long[] keys = new long[rows.size()];
+        long[] values = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            keys[i] = rows.get(i)[0];
+            values[i] = rows.get(i)[1];
+        }
+        snapshot = new Snapshot(keys, new AtomicLongArray(values));
+        return keys.length;
+    }
+
+    public int size() {
+        Snapshot s = snapshot;
+        return s != null ? s.keys.length : 0;
+    }
+
+    private Snapshot current() {
+        Snapshot s = snapshot;
+        if (s == null) {
+            synchronized (this) {
+                if (snapshot == null) reconcile();
+                s = snapshot;
+            }
+        }
+        return s;
+    }
+
+    private static long key(int lgKey, int pdKey) {
+        return ((long) lgKey << 32) | (pdKey & 0xffffffffL);
+    }
+
+    private record Snapshot(long[] keys, AtomicLongArray values) {
+
+        int indexOf(long key) {
+            return Arrays.binarySearch(keys, key);
+        }
+
+        // 정렬돼 있으므로 상위 32비트가 바뀌는 곳만 모으면 창고 목록
+        int[] lgKeys() {
+            int[] result = new int[keys.length];
+            int n = 0;
+            for (long k : keys) {
+                int lgKey = (int) (k >> 32);
+                if (n == 0 || result[n - 1] != lgKey) result[n++] = lgKey;
+            }
+            return Arrays.copyOf(result, n);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package bitc.full502.backend.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * StripedStockCounter
+ * -------------------
+ * 재고 수량을 여러 칸(stripe)에 나눠 담은 카운터 (인기 상품 하나에 스레드가 몰릴 때 CAS 경합 분산)
+ * - 차감: 임의의 칸부터 돌면서 수량이 충분한 칸에서 CAS 로 차감
+ * - 어느 칸도 혼자서는 부족하면 느린 경로: 전체 칸을 모아서 판단 후 다시 고르게 나눔
+ * - 합계는 항상 보존 (getAndSet / addAndGet 만 사용)
+ * - 음수 보정은 한 칸만 음수가 되면 다른 칸에서 초과 차감될 수 있으므로 전체 칸을 모아서 반영
+ */
+public class StripedStockCounter {
+
+    private final AtomicLong[] stripes;
+
+    public StripedStockCounter(int stripeCount, long initial) {
+        this.stripes = new AtomicLong[Math.max(1, stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new AtomicLong();
+        }
+        spread(initial);
+    }
+
+    // 재고가 충분하면 차감하고 true
+    public boolean tryAcquire(long quantity) {
+        int n = stripes.length;
+        int start = ThreadLocalRandom.current().nextInt(n);
+        for (int i = 0; i < n; i++) {
+            AtomicLong stripe = stripes[(start + i) % n];
+            long current;
+            while ((current = stripe.get()) >= quantity) {
+                if (stripe.compareAndSet(current, current - quantity)) return true;
+            }
+        }
+        return acquireSlow(quantity);
+    }
+
+    // 차감 취소 / 입고 (음수면 DB 기준 보정, 합계가 음수인 동안은 모아서 반영)
+    public void release(long quantity) {
+        if (quantity < 0 || stripes[0].get() < 0) {
+            adjustSlow(quantity);
+            return;
+        }
+        stripes[ThreadLocalRandom.current().nextInt(stripes.length)].addAndGet(quantity);
+    }
+
+    // 현재 합계 (동시 변경 중이면 근사값)
+    public long available() {
+        long total = 0;
+        for (AtomicLong stripe : stripes) total += stripe.get();
+        return total;
+    }
+
+    private synchronized boolean acquireSlow(long quantity) {
+        long total = 0;
+        for (AtomicLong stripe : stripes) total += stripe.getAndSet(0);
+
+        boolean enough = total >= quantity;
+        if (enough) total -= quantity;
+        spread(total);
+        return enough;
+    }
+
+    private synchronized void adjustSlow(long delta) {
+        long total = 0;
+        for (AtomicLong stripe : stripes) total += stripe.getAndSet(0);
+        spread(total + delta);
+    }
+
+    // 음수 합계는 0번 칸에 몰아 둠 (어느 칸도 차감 불가, 느린 경로도 합계로 판단)
+    private void spread(long total) {
+        if (total < 0) {
+            stripes[0].addAndGet(total);
+            return;
+        }
+        long base = total / stripes.length;
+        long rest = total % stripes.length;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i].addAndGet(base + (i < rest ? 1 : 0));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.dto.StockShortageDTO;
+import bitc.full502.backend.service.WarehouseRouting.Route;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * WarehouseAllocator
+ * ------------------
+ * 주문 출고 창고 배분 (지역 경로 = 기본 창고 → 대체 창고 순)
+ * - 경로 중 한 창고가 주문 전체를 감당하면 그 창고 하나로 (분할 없음)
+ * - 아니면 상품별로 경로 순서대로 가능한 만큼씩 나눠서 배분 (창고별 capacity 한도)
+ * - 재고는 경로 창고 + 주문 상품을 GROUP BY 쿼리 한 번으로 읽음 (승인 점검은 메모리 색인 사용)
+ * - 실제 차감은 LogisticStockReservation 이 하므로 여기서는 배분 계획만 만듦
+ */
+@Component
+@RequiredArgsConstructor
+public class WarehouseAllocator {
+
+    private final WarehouseRouting routing;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final StockAvailabilityIndex availabilityIndex;
+
+    /** 배분 결과 (lines = 창고별 차감 라인, unfilled = 못 채운 상품) */
+    @Getter
+    public static class Allocation {
+        private final List<LogisticStockReservation.Line> lines = new ArrayList<>();
+        private final List<StockShortageDTO> unfilled = new ArrayList<>();
+
+        public boolean isComplete() {
+            return unfilled.isEmpty();
+        }
+    }
+
+    /**
+     * 배분에 쓰는 창고별 남은 재고 (여러 주문을 이어서 배분하면 앞 주문이 쓴 만큼 줄어든 상태로 공유)
+     */
+    public static class StockPool {
+        private final Map<Long, Long> remaining = new HashMap<>();
+        private final ToLongBiFunction<Integer, Integer> source;
+
+        StockPool(ToLongBiFunction<Integer, Integer> source) {
+            this.source = source;
+        }
+
+        long get(int lgKey, int pdKey) {
+            return remaining.computeIfAbsent(key(lgKey, pdKey), k -> source.applyAsLong(lgKey, pdKey));
+        }
+
+        void take(int lgKey, int pdKey, long quantity) {
+            remaining.put(key(lgKey, pdKey), get(lgKey, pdKey) - quantity);
+        }
+
+        private static long key(int lgKey, int pdKey) {
+            return ((long) lgKey << 32) | (pdKey & 0xffffffffL);
+        }
+    }
+
+    //============================================================
+    // 1️⃣ 출고용 (경로 창고 재고를 DB 에서 한 번에 읽음)
+    //============================================================
+    public Allocation allocate(Integer orKey, String orGu, Map<Integer, Integer> items) {
+        List<Route> routes = routing.routes(orGu);
+        Map<Long, Long> stock = loadStock(routes, items);
+        StockPool pool = new StockPool((lgKey, pdKey) -> stock.getOrDefault(StockPool.key(lgKey, pdKey), 0L));
+        return allocate(orKey, orGu, routes, items, pool);
+    }
+
+    // 주문 1건 배분 (창고별 capacity 적용, 재고는 pool 기준)
+    Allocation allocate(Integer orKey, String orGu, List<Route> routes, Map<Integer, Integer> items, StockPool pool) {
+        return split(orKey, orGu, routes, items, pool, true);
+    }
+
+    // 승인 점검 등 여러 주문을 메모리 색인 기준으로 이어서 배분할 때
+    public StockPool indexPool() {
+        return new StockPool(availabilityIndex::available);
+    }
+
+    // 여러 주문 합계 수량을 배분하므로 주문당 capacity 는 적용하지 않음
+    public Allocation allocateTotal(String orGu, Map<Integer, Integer> items, StockPool pool) {
+        return split(null, orGu, routing.routes(orGu), items, pool, false);
+    }
+
+    //============================================================
+    // 2️⃣ 배분 계산
+    //============================================================
+    private Allocation split(Integer orKey, String orGu, List<Route> routes, Map<Integer, Integer> items,
+                             StockPool pool, boolean perOrder) {
+        Allocation result = new Allocation();
+        long total = items.values().stream().mapToLong(Integer::longValue).sum();
+
+        // 한 창고로 전부 가능하면 분할하지 않음
+        for (Route route : routes) {
+            if (perOrder && route.capacity() != null && route.capacity() < total) continue;
+            boolean enough = items.entrySet().stream()
+                    .allMatch(e -> pool.get(route.lgKey(), e.getKey()) >= e.getValue());
+            if (enough) {
+                items.forEach((pdKey, qty) -> take(result, pool, orKey, route.lgKey(), pdKey, qty));
+                return result;
+            }
+        }
+
+        // 상품별로 경로 순서대로 나눠 담기
+        Map<Integer, Long> used = new HashMap<>(); // 창고별 이 주문에서 맡은 수량 (capacity 비교)
+        for (Map.Entry<Integer, Integer> item : items.entrySet()) {
+            int pdKey = item.getKey();
+            long left = item.getValue();
+            for (Route route : routes) {
+                if (left == 0) break;
+                long room = perOrder && route.capacity() != null
+                        ? route.capacity() - used.getOrDefault(route.lgKey(), 0L)
+                        : Long.MAX_VALUE;
+                long qty = Math.min(left, Math.min(room, pool.get(route.lgKey(), pdKey)));
+                if (qty <= 0) continue;
+                take(result, pool, orKey, route.lgKey(), pdKey, qty);
+                used.merge(route.lgKey(), qty, Long::sum);
+                left -= qty;
+            }
+            if (left > 0) {
+                Integer primary = routes.isEmpty() ? null : routes.get(0).lgKey();
+                result.unfilled.add(new StockShortageDTO(orGu, primary, pdKey, item.getValue(), item.getValue() - left));
+            }
+        }
+
+        // 못 채운 상품이 있으면 차감 라인은 의미 없음 (pool 에서 뺀 것도 되돌림)
+        if (!result.unfilled.isEmpty()) {
+            result.lines.forEach(l -> pool.take(l.lgKey(), l.pdKey(), -l.quantity()));
+            result.lines.clear();
+        }
+        return result;
+    }
+
+    private void take(Allocation result, StockPool pool, Integer orKey, int lgKey, int pdKey, long qty) {
+        pool.take(lgKey, pdKey, qty);
+        result.lines.add(new LogisticStockReservation.Line(orKey, lgKey, pdKey, (int) qty));
+    }
+
+    // 경로 창고 × 주문 상품 가용 재고 (stock + 미반영 원장), GROUP BY 한 번
+    private Map<Long, Long> loadStock(List<Route> routes, Map<Integer, Integer> items) {
+        Map<Long, Long> stock = new LinkedHashMap<>();
+        if (routes.isEmpty() || items.isEmpty()) return stock;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("lgKeys", routes.stream().map(Route::lgKey).toList())
+                .addValue("pdKeys", new ArrayList<>(items.keySet()));
+        namedJdbcTemplate.query("""
+                SELECT x.lg_key, x.pd_key, SUM(x.qty)
+                  FROM (SELECT lg_key, pd_key, stock AS qty
+                          FROM logisticproduct
+                         WHERE lg_key IN (:lgKeys) AND pd_key IN (:pdKeys)
+                        UNION ALL
+                        SELECT location_key, pd_key, quantity
+                          FROM inventory_movement
+                         WHERE applied = 0 AND location_type = 'LOGISTIC'
+                           AND location_key IN (:lgKeys) AND pd_key IN (:pdKeys)) x
+                 GROUP BY x.lg_key, x.pd_key
+                """, params, (RowCallbackHandler) rs ->
+                stock.put(StockPool.key(rs.getInt(1), rs.getInt(2)), rs.getLong(3)));
+        return stock;
+    }
+}
@@ -0,0 +1,49 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.repository.RegionWarehouseRouteRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * WarehouseRouting
+ * ----------------
+ * 지역 → 물류센터 경로 조회 (region_warehouse_route, 지역 단위 캐시)
+ * - 경로 테이블은 거의 바뀌지 않으므로 TTL(app.cache.routes-ttl) 지나면 다시 읽음
+ * - 경로가 없는 지역은 빈 목록 (→ 출고 불가로 보고)
+ */
+@Component
+public class WarehouseRouting {
+
+    public static final String WAREHOUSE_ROUTES = "warehouseRoutes";
+
+    private final RegionWarehouseRouteRepository routeRepository;
+    private final Cache routes;
+
+    /** 경로 한 줄 (캐시에 담기는 값) */
+    public record Route(int lgKey, int priority, Integer capacity) {}
+
+    public WarehouseRouting(RegionWarehouseRouteRepository routeRepository, CacheManager cacheManager) {
+        this.routeRepository = routeRepository;
+        this.routes = cacheManager.getCache(WAREHOUSE_ROUTES);
+    }
+
+    public List<Route> routes(String orGu) {
+        if (orGu == null) return List.of();
+        return routes.get(orGu, () -> routeRepository.findByOrGuOrderByPriority(orGu).stream()
+                .map(r -> new Route(r.getLgKey(), r.getPriority(), r.getCapacity()))
+                .toList());
+    }
+
+    // 지역의 기본 창고 (없으면 null)
+    public Integer primary(String orGu) {
+        List<Route> list = routes(orGu);
+        return list.isEmpty() ? null : list.get(0).lgKey();
+    }
+
+    public void evictAll() {
+        routes.clear();
+    }
+}
@@ -0,0 +1,19 @@
+-- 대리점 + 상품 당 재고 행 1개 (incrementStock 의 INSERT ... ON DUPLICATE KEY UPDATE 기준)
+-- 중복 행은 ap_key 가 가장 작은 행으로 재고를 합치고 나머지는 삭제
+UPDATE agencyproduct ap
+  JOIN (SELECT MIN(ap_key) AS keep_key, SUM(stock) AS total
+          FROM agencyproduct
+         GROUP BY ag_key, pd_key
+        HAVING COUNT(*) > 1) d ON ap.ap_key = d.keep_key
+   SET ap.stock = d.total,
+       ap.ap_version = ap.ap_version + 1;
+
+DELETE ap
+  FROM agencyproduct ap
+  JOIN (SELECT ag_key, pd_key, MIN(ap_key) AS keep_key
+          FROM agencyproduct
+         GROUP BY ag_key, pd_key
+        HAVING COUNT(*) > 1) d ON ap.ag_key = d.ag_key AND ap.pd_key = d.pd_key AND ap.ap_key <> d.keep_key;
+
+ALTER TABLE agencyproduct
+    ADD UNIQUE KEY uk_agencyproduct_agency_product (ag_key, pd_key);
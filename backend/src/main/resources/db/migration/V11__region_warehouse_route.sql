@@ -0,0 +1,20 @@
+-- 지역 → 물류센터 출고 경로 (기존 코드의 지역 → 창고 고정 매핑을 테이블로)
+-- priority 1 = 기본 창고 (기존 매핑과 같음), 이후는 재고 부족 시 나눠 보낼 대체 창고
+-- capacity = 주문 1건에서 그 창고가 맡을 최대 수량 (NULL 이면 제한 없음)
+CREATE TABLE region_warehouse_route (
+    rw_key   INT         NOT NULL AUTO_INCREMENT,
+    or_gu    VARCHAR(20) NOT NULL,
+    lg_key   INT         NOT NULL,
+    priority INT         NOT NULL,
+    capacity INT         NULL,
+    PRIMARY KEY (rw_key),
+    UNIQUE KEY uk_route_gu_priority (or_gu, priority),
+    UNIQUE KEY uk_route_gu_lg (or_gu, lg_key)
+);
+
+INSERT INTO region_warehouse_route (or_gu, lg_key, priority) VALUES
+    ('부산', 1, 1), ('부산', 3, 2), ('부산', 5, 3),
+    ('서울', 2, 1), ('서울', 4, 2),
+    ('울산', 3, 1), ('울산', 1, 2), ('울산', 5, 3),
+    ('강원', 4, 1), ('강원', 2, 2),
+    ('대구', 5, 1), ('대구', 3, 2), ('대구', 1, 3);
@@ -0,0 +1,17 @@
+-- 주문 / 물류센터 지역 코드 (앞 2글자) 컬럼
+-- 기존 SUBSTRING(or_gu, 1, 2) 비교는 인덱스를 못 타서 달력 조회마다 agencyorder 전체 스캔
+-- 이후 값은 엔티티 @PrePersist / @PreUpdate 에서 유지
+
+ALTER TABLE agencyorder ADD COLUMN or_region VARCHAR(2) NOT NULL DEFAULT '';
+UPDATE agencyorder SET or_region = LEFT(TRIM(or_gu), 2);
+
+ALTER TABLE logistic ADD COLUMN lg_region VARCHAR(2) NULL;
+UPDATE logistic SET lg_region = LEFT(TRIM(lg_name), 2);
+
+-- 스케줄(달력): 지역 조회 → (or_region, or_reserve) range, 전체 조회 → (or_reserve) range
+CREATE INDEX idx_agencyorder_region_reserve ON agencyorder (or_region, or_reserve);
+CREATE INDEX idx_agencyorder_reserve ON agencyorder (or_reserve);
+
+-- 물류센터 주문 목록: logistic(lg_id) 1행 → (or_region, or_status, or_date) ref 조회
+CREATE INDEX idx_agencyorder_region_status_date ON agencyorder (or_region, or_status, or_date);
+CREATE INDEX idx_logistic_region ON logistic (lg_region);
@@ -0,0 +1,24 @@
+-- 본사 대시보드 월별 주문 집계 (월 + 대리점 + 상태별 주문 수)
+-- 주문 변경은 order_rollup_delta 에 +1 / -1 로 쌓이고 OrderRollupScheduler 가 주기적으로 합침
+CREATE TABLE order_monthly_rollup (
+    rl_month  CHAR(7)     NOT NULL,
+    ag_key    INT         NOT NULL,
+    or_status VARCHAR(50) NOT NULL,
+    order_cnt INT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (rl_month, ag_key, or_status)
+);
+
+CREATE TABLE order_rollup_delta (
+    rd_key    BIGINT      NOT NULL AUTO_INCREMENT,
+    rd_month  CHAR(7)     NOT NULL,
+    ag_key    INT         NOT NULL,
+    or_status VARCHAR(50) NOT NULL,
+    delta     INT         NOT NULL,
+    PRIMARY KEY (rd_key)
+);
+
+-- 기존 주문 백필
+INSERT INTO order_monthly_rollup (rl_month, ag_key, or_status, order_cnt)
+SELECT DATE_FORMAT(or_date, '%Y-%m'), ag_key, or_status, COUNT(*)
+  FROM agencyorder
+ GROUP BY DATE_FORMAT(or_date, '%Y-%m'), ag_key, or_status;
@@ -0,0 +1,2 @@
+-- 매출 큐브 증분 갱신: 대리점 구분 없이 or_updated_at 커서 이후 바뀐 주문 (range 스캔)
+CREATE INDEX idx_agencyorder_updated ON agencyorder (or_updated_at);
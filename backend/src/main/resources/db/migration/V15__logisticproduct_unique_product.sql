@@ -0,0 +1,27 @@
+-- 물류센터 + 상품 당 재고 행 1개 (출고 차감 / write-behind / 메모리 카운터가 모두 같은 행 기준)
+-- 중복 행은 lp_key 가 가장 작은 행으로 재고를 합치고, 입고 기록을 그 행으로 옮긴 뒤 나머지는 삭제
+UPDATE logisticproduct lp
+  JOIN (SELECT MIN(lp_key) AS keep_key, SUM(stock) AS total
+          FROM logisticproduct
+         GROUP BY lg_key, pd_key
+        HAVING COUNT(*) > 1) d ON lp.lp_key = d.keep_key
+   SET lp.stock = d.total,
+       lp.lp_version = lp.lp_version + 1;
+
+UPDATE logisticstore ls
+  JOIN logisticproduct lp ON ls.lp_key = lp.lp_key
+  JOIN (SELECT lg_key, pd_key, MIN(lp_key) AS keep_key
+          FROM logisticproduct
+         GROUP BY lg_key, pd_key
+        HAVING COUNT(*) > 1) d ON lp.lg_key = d.lg_key AND lp.pd_key = d.pd_key AND lp.lp_key <> d.keep_key
+   SET ls.lp_key = d.keep_key;
+
+DELETE lp
+  FROM logisticproduct lp
+  JOIN (SELECT lg_key, pd_key, MIN(lp_key) AS keep_key
+          FROM logisticproduct
+         GROUP BY lg_key, pd_key
+        HAVING COUNT(*) > 1) d ON lp.lg_key = d.lg_key AND lp.pd_key = d.pd_key AND lp.lp_key <> d.keep_key;
+
+ALTER TABLE logisticproduct
+    ADD UNIQUE KEY uk_logisticproduct_logistic_product (lg_key, pd_key);
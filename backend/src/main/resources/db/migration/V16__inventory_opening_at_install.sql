@@ -0,0 +1,10 @@
+-- 기초 재고 이동(V8)을 2000-01-01 대신 원장 도입 시각(V8 적용 시각)으로
+-- (2000-01-01 로 두면 원장 도입 이전 날짜도 기초 재고가 있는 것처럼 조회됨)
+UPDATE inventory_movement
+   SET created_at = COALESCE((SELECT MAX(installed_on) FROM flyway_schema_history WHERE version = '8'), NOW(6))
+ WHERE mv_type = 'ADJUSTMENT'
+   AND or_key IS NULL
+   AND created_at = '2000-01-01 00:00:00';
+
+-- 기존 스냅샷은 기초 재고를 2000-01-01 에 둔 합계 → 비우고 다음 스냅샷 작업이 원장 전체로 다시 만듦
+DELETE FROM inventory_snapshot;
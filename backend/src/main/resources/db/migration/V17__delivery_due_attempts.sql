@@ -0,0 +1,9 @@
+-- 배송 완료 예정 큐: 자동완료 실패 횟수 / 마지막 실패 사유 / 보류 시각
+-- - 실패할 때마다 attempts 증가, app.delivery.max-attempts 번 실패하면 parked_at 을 채워 보류
+-- - 보류된 항목은 reload / 기동 시 보정 등록에서 빠지고 사유와 함께 남음 (수동 배송완료 또는 다시 배송중이 되면 정리)
+ALTER TABLE delivery_due
+    ADD COLUMN attempts   INT          NOT NULL DEFAULT 0,
+    ADD COLUMN last_error VARCHAR(255) NULL,
+    ADD COLUMN parked_at  DATETIME(6)  NULL,
+    DROP INDEX idx_delivery_due_at,
+    ADD INDEX idx_delivery_due_parked_at (parked_at, due_at);
@@ -0,0 +1,2 @@
+-- 주문 캐시 대리점 목록 스탬프 (ag_key 별 COUNT / SUM(or_version) / MAX(or_key)) 를 인덱스만 읽고 계산
+CREATE INDEX idx_agencyorder_agency_version ON agencyorder (ag_key, or_version);
@@ -0,0 +1,8 @@
+-- 증분 동기화 / 큐브 / 순위표 커서 기준 시각을 DB 시계로 (노드마다 다른 JVM 시계 차이 제거)
+-- - or_updated_at : INSERT 기본값 + 행이 바뀔 때마다 ON UPDATE (엔티티 @UpdateTimestamp 대신)
+-- - deleted_at    : INSERT 기본값 (엔티티 @CreationTimestamp 대신)
+ALTER TABLE agencyorder
+    MODIFY COLUMN or_updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6);
+
+ALTER TABLE agencyorder_deleted
+    MODIFY COLUMN deleted_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
@@ -0,0 +1,5 @@
+-- 본사 주문 조회(/api/agencyorder/search) keyset 페이지용 인덱스
+-- 정렬값 + or_key 순서로 커서 이후 행을 인덱스 범위 스캔
+CREATE INDEX idx_agencyorder_status_key ON agencyorder (or_status, or_key);
+CREATE INDEX idx_agencyorder_date_key ON agencyorder (or_date, or_key);
+CREATE INDEX idx_agencyorder_total_key ON agencyorder (or_total, or_key);
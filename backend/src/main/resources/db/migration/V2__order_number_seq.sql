@@ -0,0 +1,14 @@
+-- 날짜별 주문번호 순번 (OrderNumberAllocator 가 블록 단위로 예약)
+CREATE TABLE order_number_seq (
+    seq_date CHAR(6) NOT NULL,
+    next_val INT     NOT NULL,
+    PRIMARY KEY (seq_date)
+);
+
+-- 기존 주문번호(yyMMdd + 순번) 이후부터 발급되도록 날짜별 최대 순번으로 초기화
+INSERT INTO order_number_seq (seq_date, next_val)
+SELECT LEFT(order_number, 6),
+       MAX(CAST(SUBSTRING(order_number, 7) AS UNSIGNED)) + 1
+  FROM agencyorder
+ WHERE order_number REGEXP '^[0-9]{7,}$'
+ GROUP BY LEFT(order_number, 6);
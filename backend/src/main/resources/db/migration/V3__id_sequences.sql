@@ -0,0 +1,20 @@
+-- 엔티티 키 블록 할당용 테이블 (@TableGenerator, pooled-lo, allocationSize = 50)
+-- next_val = 다음 블록의 시작값
+CREATE TABLE id_sequences (
+    seq_name VARCHAR(64) NOT NULL,
+    next_val BIGINT      NOT NULL,
+    PRIMARY KEY (seq_name)
+);
+
+-- 기존 AUTO_INCREMENT 로 발급된 키 이후부터 할당되도록 초기화
+INSERT INTO id_sequences (seq_name, next_val)
+SELECT 'agencyorder', COALESCE(MAX(or_key), 0) + 1 FROM agencyorder;
+
+INSERT INTO id_sequences (seq_name, next_val)
+SELECT 'agencyorder_item', COALESCE(MAX(oi_key), 0) + 1 FROM agencyorder_item;
+
+INSERT INTO id_sequences (seq_name, next_val)
+SELECT 'ready', COALESCE(MAX(rd_key), 0) + 1 FROM ready;
+
+INSERT INTO id_sequences (seq_name, next_val)
+SELECT 'agencyproduct', COALESCE(MAX(ap_key), 0) + 1 FROM agencyproduct;
@@ -0,0 +1,15 @@
+-- Android 주문 목록 증분 동기화용 변경 시각 (엔티티 @UpdateTimestamp 로 갱신)
+ALTER TABLE agencyorder
+    ADD COLUMN or_updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6);
+
+CREATE INDEX idx_agencyorder_agency_updated ON agencyorder (ag_key, or_updated_at);
+
+-- 삭제된 주문 기록 (보관 기간 지나면 스케줄러가 정리)
+CREATE TABLE agencyorder_deleted (
+    or_key     INT         NOT NULL,
+    ag_key     INT         NOT NULL,
+    deleted_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (or_key),
+    INDEX idx_agencyorder_deleted_agency (ag_key, deleted_at),
+    INDEX idx_agencyorder_deleted_at (deleted_at)
+);
@@ -0,0 +1,4 @@
+-- 낙관적 락 버전 컬럼 (@Version)
+ALTER TABLE agencyorder      ADD COLUMN or_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE agencyproduct    ADD COLUMN ap_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE logisticproduct  ADD COLUMN lp_version BIGINT NOT NULL DEFAULT 0;
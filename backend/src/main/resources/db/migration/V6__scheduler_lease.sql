@@ -0,0 +1,7 @@
+-- 스케줄 작업 lease (여러 노드 중 한 곳에서만 실행)
+CREATE TABLE scheduler_lease (
+    name        VARCHAR(64)  NOT NULL,
+    owner       VARCHAR(128) NOT NULL,
+    lease_until DATETIME(6)  NOT NULL,
+    PRIMARY KEY (name)
+);
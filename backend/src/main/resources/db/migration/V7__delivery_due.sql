@@ -0,0 +1,8 @@
+-- 배송 완료 예정 큐 (주문이 '배송중' 이 될 때 등록, 완료 처리 후 삭제)
+-- 기존 '배송중' 주문은 앱 기동 시 DeliveryDueWorker 가 보정 등록
+CREATE TABLE delivery_due (
+    or_key INT         NOT NULL,
+    due_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (or_key),
+    INDEX idx_delivery_due_at (due_at)
+);
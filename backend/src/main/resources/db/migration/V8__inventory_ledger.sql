@@ -0,0 +1,44 @@
+-- 재고 이동 원장 (추가만, quantity 는 부호 있는 증감)
+-- location_type = LOGISTIC(lg_key) / AGENCY(ag_key), mv_type = RECEIPT / SHIPMENT / DELIVERY / ADJUSTMENT
+CREATE TABLE inventory_movement (
+    mv_key        BIGINT      NOT NULL AUTO_INCREMENT,
+    location_type VARCHAR(10) NOT NULL,
+    location_key  INT         NOT NULL,
+    pd_key        INT         NOT NULL,
+    mv_type       VARCHAR(20) NOT NULL,
+    quantity      INT         NOT NULL,
+    or_key        INT         NULL,
+    created_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (mv_key),
+    INDEX idx_movement_location_time (location_type, location_key, created_at),
+    INDEX idx_movement_time (created_at)
+);
+
+-- 주기 스냅샷 (같은 snap_at = 스냅샷 작업 1회)
+CREATE TABLE inventory_snapshot (
+    sn_key        BIGINT      NOT NULL AUTO_INCREMENT,
+    snap_at       DATETIME(6) NOT NULL,
+    location_type VARCHAR(10) NOT NULL,
+    location_key  INT         NOT NULL,
+    pd_key        INT         NOT NULL,
+    balance       BIGINT      NOT NULL,
+    PRIMARY KEY (sn_key),
+    UNIQUE KEY uk_snapshot_location (snap_at, location_type, location_key, pd_key)
+);
+
+-- 기초 재고 = 현재 stock 컬럼 (원장 시작 이전 시각으로 등록 → 첫 스냅샷에 포함)
+INSERT INTO inventory_movement (location_type, location_key, pd_key, mv_type, quantity, or_key, created_at)
+SELECT 'LOGISTIC', lg_key, pd_key, 'ADJUSTMENT', SUM(stock), NULL, '2000-01-01 00:00:00'
+  FROM logisticproduct
+ GROUP BY lg_key, pd_key
+HAVING SUM(stock) <> 0;
+
+INSERT INTO inventory_movement (location_type, location_key, pd_key, mv_type, quantity, or_key, created_at)
+SELECT 'AGENCY', ag_key, pd_key, 'ADJUSTMENT', SUM(stock), NULL, '2000-01-01 00:00:00'
+  FROM agencyproduct
+ GROUP BY ag_key, pd_key
+HAVING SUM(stock) <> 0;
+
+-- 이후 키는 id_sequences 에서 블록 할당
+INSERT INTO id_sequences (seq_name, next_val)
+SELECT 'inventory_movement', COALESCE(MAX(mv_key), 0) + 1 FROM inventory_movement;
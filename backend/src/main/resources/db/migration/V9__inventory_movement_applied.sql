@@ -0,0 +1,5 @@
+-- 메모리 재고 차감(StockAccelerator) 분은 applied = 0 으로 기록 → write-behind 가 stock 반영 후 1
+-- 기존 이동은 모두 stock 에 반영된 상태
+ALTER TABLE inventory_movement
+    ADD COLUMN applied BIT(1) NOT NULL DEFAULT b'1',
+    ADD INDEX idx_movement_pending (applied, location_type, mv_key);
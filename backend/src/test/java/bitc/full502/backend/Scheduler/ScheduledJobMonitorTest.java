@@ -0,0 +1,51 @@
+package bitc.full502.backend.Scheduler;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 스케줄 작업 lag (fixedDelay 는 이전 종료 기준 → 실행 시간이 길어도 lag 아님, fixedRate / cron 은 이전 시작 기준)
+ */
+class ScheduledJobMonitorTest {
+
+    private static final Duration PERIOD = Duration.ofMillis(100);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ScheduledJobMonitor monitor = new ScheduledJobMonitor(registry);
+
+    @Test
+    void longFixedDelayRunIsNotCountedAsLag() {
+        // 300ms 걸린 실행 직후 다음 실행 (fixedDelay 스케줄러라면 delay 뒤에 시작하지만 여기서는 바로 = 늦지 않음)
+        monitor.runFixedDelay("fixed-delay", PERIOD, true, () -> sleep(300));
+        monitor.runFixedDelay("fixed-delay", PERIOD, true, () -> {});
+
+        Timer lag = registry.timer("scheduler.job.lag", "job", "fixed-delay");
+        assertEquals(1, lag.count());
+        assertTrue(lag.max(TimeUnit.MILLISECONDS) < PERIOD.toMillis());
+    }
+
+    @Test
+    void fixedRateLagIsMeasuredFromThePreviousStart() {
+        monitor.run("fixed-rate", PERIOD, true, () -> sleep(300));
+        monitor.run("fixed-rate", PERIOD, true, () -> {});
+
+        // 예정 시각(시작 + 100ms) 보다 200ms 이상 늦게 시작
+        Timer lag = registry.timer("scheduler.job.lag", "job", "fixed-rate");
+        assertTrue(lag.max(TimeUnit.MILLISECONDS) >= 150);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
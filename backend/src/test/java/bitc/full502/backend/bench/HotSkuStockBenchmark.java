@@ -0,0 +1,162 @@
+package bitc.full502.backend.bench;
+
+import bitc.full502.backend.service.StripedStockCounter;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인기 상품 하나(lg_key, pd_key)에 차감이 몰릴 때 초당 차감 수 비교 (JUnit 테스트 아님, main 으로 실행)
+ * 1) db          : 차감마다 logisticproduct 행 UPDATE (기존 방식, 행 잠금 경합)
+ * 2) memory      : StripedStockCounter 차감만
+ * 3) memory+log  : StripedStockCounter 차감 + 재고 원장 INSERT (StockAccelerator 실제 경로, 행 잠금 없음)
+ *
+ * 실행 예)
+ *   java -cp <test classpath> -Dbench.url=jdbc:mysql://localhost:3306/db -Dbench.user=... -Dbench.password=...
+ *        -Dbench.lgKey=1 -Dbench.pdKey=1 -Dbench.threads=16 -Dbench.seconds=10
+ *        bitc.full502.backend.bench.HotSkuStockBenchmark
+ * db 모드는 실제 재고를 차감하므로 재고가 충분한 상품으로 실행 (성공한 차감만 집계)
+ * 끝나면 차감한 재고는 되돌리고 벤치용 원장 행(or_key = -1)은 삭제
+ */
+public class HotSkuStockBenchmark {
+
+    private static final String URL = System.getProperty("bench.url");
+    private static final String USER = System.getProperty("bench.user", "root");
+    private static final String PASSWORD = System.getProperty("bench.password", "");
+    private static final int LG_KEY = Integer.getInteger("bench.lgKey", 1);
+    private static final int PD_KEY = Integer.getInteger("bench.pdKey", 1);
+    private static final int THREADS = Integer.getInteger("bench.threads", 16);
+    private static final int SECONDS = Integer.getInteger("bench.seconds", 10);
+    private static final int STRIPES = Integer.getInteger("bench.stripes", 8);
+
+    public static void main(String[] args) throws Exception {
+        if (URL == null) {
+            System.err.println("-Dbench.url 필요 (memory 만 측정)");
+            report("memory", run(counterOnly(new StripedStockCounter(STRIPES, Long.MAX_VALUE / 2))));
+            return;
+        }
+
+        report("db", run(dbUpdate()));
+        report("memory", run(counterOnly(new StripedStockCounter(STRIPES, Long.MAX_VALUE / 2))));
+        report("memory+log", run(counterWithLedger(new StripedStockCounter(STRIPES, Long.MAX_VALUE / 2))));
+        cleanup();
+    }
+
+    private interface Worker {
+        // 스레드마다 한 번 호출, keepGoing 동안 차감 반복 후 성공 횟수 반환
+        long loop(AtomicBoolean keepGoing) throws Exception;
+    }
+
+    //============================================================
+    // 1️⃣ 측정 대상
+    //============================================================
+    private static final LongAdder dbDecrements = new LongAdder();
+
+    private static Worker dbUpdate() {
+        return keepGoing -> {
+            long n = 0;
+            try (Connection con = DriverManager.getConnection(URL, USER, PASSWORD);
+                 PreparedStatement ps = con.prepareStatement("""
+                         UPDATE logisticproduct SET stock = stock - 1, lp_version = lp_version + 1
+                          WHERE lg_key = ? AND pd_key = ? AND stock >= 1
+                         """)) {
+                ps.setInt(1, LG_KEY);
+                ps.setInt(2, PD_KEY);
+                while (keepGoing.get()) {
+                    if (ps.executeUpdate() > 0) n++;
+                }
+            }
+            dbDecrements.add(n);
+            return n;
+        };
+    }
+
+    private static Worker counterOnly(StripedStockCounter counter) {
+        return keepGoing -> {
+            long n = 0;
+            while (keepGoing.get()) {
+                if (counter.tryAcquire(1)) n++;
+            }
+            return n;
+        };
+    }
+
+    private static Worker counterWithLedger(StripedStockCounter counter) {
+        return keepGoing -> {
+            long n = 0;
+            try (Connection con = DriverManager.getConnection(URL, USER, PASSWORD);
+                 PreparedStatement ps = con.prepareStatement("""
+                         INSERT INTO inventory_movement
+                             (location_type, location_key, pd_key, mv_type, quantity, or_key, created_at, applied)
+                         VALUES ('LOGISTIC', ?, ?, 'SHIPMENT', -1, -1, NOW(6), b'1')
+                         """)) {
+                ps.setInt(1, LG_KEY);
+                ps.setInt(2, PD_KEY);
+                while (keepGoing.get()) {
+                    if (counter.tryAcquire(1)) {
+                        ps.executeUpdate();
+                        n++;
+                    }
+                }
+            }
+            return n;
+        };
+    }
+
+    //============================================================
+    // 2️⃣ 실행 / 결과
+    //============================================================
+    private static long run(Worker worker) throws Exception {
+        AtomicBoolean keepGoing = new AtomicBoolean(true);
+        LongAdder total = new LongAdder();
+        CountDownLatch done = new CountDownLatch(THREADS);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            Thread t = new Thread(() -> {
+                try {
+                    total.add(worker.loop(keepGoing));
+                } catch (Exception e) {
+                    System.err.println("벤치 스레드 실패: " + e.getMessage());
+                } finally {
+                    done.countDown();
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+
+        Thread.sleep(SECONDS * 1000L);
+        keepGoing.set(false);
+        done.await();
+        return total.sum();
+    }
+
+    private static void report(String mode, long count) {
+        System.out.printf("%-11s threads=%d  %,d 건 / %d초  →  %,.0f decrements/sec%n",
+                mode, THREADS, count, SECONDS, count / (double) SECONDS);
+    }
+
+    // 벤치에서 바꾼 데이터 원복
+    private static void cleanup() throws Exception {
+        try (Connection con = DriverManager.getConnection(URL, USER, PASSWORD)) {
+            try (PreparedStatement ps = con.prepareStatement("""
+                    UPDATE logisticproduct SET stock = stock + ? WHERE lg_key = ? AND pd_key = ?
+                    """)) {
+                ps.setLong(1, dbDecrements.sum());
+                ps.setInt(2, LG_KEY);
+                ps.setInt(3, PD_KEY);
+                ps.executeUpdate();
+            }
+            try (PreparedStatement ps = con.prepareStatement("DELETE FROM inventory_movement WHERE or_key = -1")) {
+                ps.executeUpdate();
+            }
+        }
+    }
+}
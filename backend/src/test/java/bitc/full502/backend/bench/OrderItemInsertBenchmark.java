@@ -0,0 +1,125 @@
+package bitc.full502.backend.bench;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 주문 품목 insert 초당 행 수 비교 (JUnit 테스트 아님, main 으로 실행)
+ * 1) identity : 행마다 INSERT 실행 후 생성 키 조회 (IDENTITY 키 → Hibernate 가 batch 못 함, 기존 방식)
+ * 2) pooled   : 키를 메모리 블록(50개)에서 붙이고 batch_size 만큼 addBatch → executeBatch
+ *               (@TableGenerator + hibernate.jdbc.batch_size + rewriteBatchedStatements, 현재 방식)
+ *
+ * 실행 예)
+ *   java -cp <test classpath> -Dbench.url=jdbc:mysql://localhost:3306/db -Dbench.user=... -Dbench.password=...
+ *        -Dbench.rows=20000 -Dbench.batch=50
+ *        bitc.full502.backend.bench.OrderItemInsertBenchmark
+ * agencyorder_item 과 같은 구조의 임시 테이블(접속 종료 시 사라짐)에만 쓰므로 원복할 데이터 없음
+ * URL 에 rewriteBatchedStatements 가 없으면 붙여서 접속 (운영 설정과 같게)
+ */
+public class OrderItemInsertBenchmark {
+
+    private static final String URL = System.getProperty("bench.url");
+    private static final String USER = System.getProperty("bench.user", "root");
+    private static final String PASSWORD = System.getProperty("bench.password", "");
+    private static final int ROWS = Integer.getInteger("bench.rows", 20_000);
+    private static final int BATCH = Integer.getInteger("bench.batch", 50);
+    private static final int ROWS_PER_TX = Integer.getInteger("bench.rowsPerTx", 500);
+
+    public static void main(String[] args) throws Exception {
+        if (URL == null) {
+            System.err.println("-Dbench.url 필요 (DB insert 만 측정하는 벤치)");
+            return;
+        }
+        String url = URL.contains("rewriteBatchedStatements") ? URL
+                : URL + (URL.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+
+        try (Connection con = DriverManager.getConnection(url, USER, PASSWORD)) {
+            try (Statement st = con.createStatement()) {
+                st.execute("CREATE TEMPORARY TABLE bench_item LIKE agencyorder_item");
+            }
+            con.setAutoCommit(false);
+
+            // 워밍업 (JIT / 접속 / 버퍼 풀)
+            identity(con, ROWS / 10);
+            pooled(con, ROWS / 10);
+            truncate(con);
+
+            report("identity", ROWS, identity(con, ROWS));
+            truncate(con);
+            report("pooled", ROWS, pooled(con, ROWS));
+        }
+    }
+
+    //============================================================
+    // 1️⃣ 측정 대상
+    //============================================================
+    private static long identity(Connection con, int rows) throws Exception {
+        long start = System.nanoTime();
+        try (PreparedStatement ps = con.prepareStatement("""
+                INSERT INTO bench_item (or_key, pd_key, oi_products, oi_price, oi_quantity)
+                VALUES (?, ?, ?, ?, ?)
+                """, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < rows; i++) {
+                bind(ps, 1, i);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                }
+                if ((i + 1) % ROWS_PER_TX == 0) con.commit();
+            }
+            con.commit();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static long pooled(Connection con, int rows) throws Exception {
+        long start = System.nanoTime();
+        // 키는 @TableGenerator 처럼 메모리에서 (블록 예약 UPDATE 는 50행당 1번이라 생략)
+        long nextKey = 1_000_000_000L;
+        try (PreparedStatement ps = con.prepareStatement("""
+                INSERT INTO bench_item (oi_key, or_key, pd_key, oi_products, oi_price, oi_quantity)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """)) {
+            for (int i = 0; i < rows; i++) {
+                ps.setLong(1, nextKey++);
+                bind(ps, 2, i);
+                ps.addBatch();
+                if ((i + 1) % BATCH == 0) ps.executeBatch();
+                if ((i + 1) % ROWS_PER_TX == 0) {
+                    ps.executeBatch();
+                    con.commit();
+                }
+            }
+            ps.executeBatch();
+            con.commit();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void bind(PreparedStatement ps, int from, int i) throws Exception {
+        ps.setInt(from, 1 + i / 3);          // 주문 1건당 품목 3줄
+        ps.setInt(from + 1, 1 + i % 20);
+        ps.setString(from + 2, "벤치 상품 " + (i % 20));
+        ps.setInt(from + 3, 1000);
+        ps.setInt(from + 4, 1 + i % 5);
+    }
+
+    //============================================================
+    // 2️⃣ 결과
+    //============================================================
+    private static void truncate(Connection con) throws Exception {
+        try (Statement st = con.createStatement()) {
+            st.execute("DELETE FROM bench_item");
+        }
+        con.commit();
+    }
+
+    private static void report(String mode, int rows, long nanos) {
+        double seconds = nanos / 1e9;
+        System.out.printf("%-9s batch=%d  %,d 행 / %.2f초  →  %,.0f rows/sec%n",
+                mode, BATCH, rows, seconds, rows / seconds);
+    }
+}
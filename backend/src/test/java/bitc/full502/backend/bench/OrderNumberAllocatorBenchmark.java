@@ -0,0 +1,208 @@
+package bitc.full502.backend.bench;
+
+import bitc.full502.backend.service.OrderNumberAllocator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 주문번호 동시 발급 초당 건수 비교 (JUnit 테스트 아님, main 으로 실행)
+ * 1) max    : 발급마다 오늘 최대 번호 조회 + 1 로 INSERT (기존 방식, 유니크 충돌은 실패로 집계)
+ * 2) block  : OrderNumberAllocator 그대로 (order_number_seq 블록 예약 + 메모리 발급)
+ * 3) memory : OrderNumberAllocator + 메모리 순번 테이블 (DB 없이 발급 경로의 스레드 경합만)
+ *
+ * 실행 예)
+ *   java -cp <test classpath> -Dbench.url=jdbc:mysql://localhost:3306/db -Dbench.user=... -Dbench.password=...
+ *        -Dbench.threads=16 -Dbench.seconds=10 -Dbench.blockSize=20
+ *        bitc.full502.backend.bench.OrderNumberAllocatorBenchmark
+ * block 모드는 order_number_seq 의 오늘 순번을 실제로 올리므로 로컬 / 버리는 DB 로만 실행
+ * max 모드는 벤치용 테이블(bench_order_number)을 만들고 끝나면 삭제
+ * max / block 모드는 발급한 번호를 모아 같은 번호가 두 번 나오면 중복으로 집계 (memory 는 건수만)
+ */
+public class OrderNumberAllocatorBenchmark {
+
+    private static final String URL = System.getProperty("bench.url");
+    private static final String USER = System.getProperty("bench.user", "root");
+    private static final String PASSWORD = System.getProperty("bench.password", "");
+    private static final int THREADS = Integer.getInteger("bench.threads", 16);
+    private static final int SECONDS = Integer.getInteger("bench.seconds", 10);
+    private static final int BLOCK_SIZE = Integer.getInteger("bench.blockSize", 20);
+
+    public static void main(String[] args) throws Exception {
+        if (URL == null) {
+            System.err.println("-Dbench.url 필요 (memory 만 측정)");
+            report("memory", run(allocator(memoryAllocator()), false));
+            return;
+        }
+
+        report("max", run(maxPlusOne(), true));
+        report("block", run(allocator(dbAllocator()), true));
+        report("memory", run(allocator(memoryAllocator()), false));
+    }
+
+    private interface Worker {
+        // 스레드마다 한 번 호출, keepGoing 동안 발급 반복 (발급할 때마다 issued)
+        void loop(AtomicBoolean keepGoing, Issued issued, LongAdder failures) throws Exception;
+    }
+
+    // 발급 건수 + 중복 확인 (numbers 가 null 이면 건수만)
+    private record Issued(LongAdder count, Set<String> numbers, LongAdder duplicates) {
+        void add(String number) {
+            count.increment();
+            if (numbers != null && !numbers.add(number)) duplicates.increment();
+        }
+    }
+
+    private record Result(long issued, long duplicates, long failures) {}
+
+    //============================================================
+    // 1️⃣ 측정 대상
+    //============================================================
+    private static Worker maxPlusOne() throws Exception {
+        try (Connection con = DriverManager.getConnection(URL, USER, PASSWORD);
+             Statement st = con.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_order_number");
+            st.execute("CREATE TABLE bench_order_number (order_number VARCHAR(20) NOT NULL, PRIMARY KEY (order_number))");
+        }
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyMMdd"));
+
+        return (keepGoing, issued, failures) -> {
+            try (Connection con = DriverManager.getConnection(URL, USER, PASSWORD);
+                 PreparedStatement max = con.prepareStatement("""
+                         SELECT MAX(CAST(SUBSTRING(order_number, 7) AS UNSIGNED))
+                           FROM bench_order_number WHERE order_number LIKE ?
+                         """);
+                 PreparedStatement insert = con.prepareStatement(
+                         "INSERT INTO bench_order_number (order_number) VALUES (?)")) {
+                max.setString(1, today + "%");
+                while (keepGoing.get()) {
+                    long last;
+                    try (ResultSet rs = max.executeQuery()) {
+                        rs.next();
+                        last = rs.getLong(1);
+                    }
+                    String number = today + String.format("%02d", last + 1);
+                    try {
+                        insert.setString(1, number);
+                        insert.executeUpdate();
+                        issued.add(number);
+                    } catch (SQLIntegrityConstraintViolationException e) {
+                        failures.increment(); // 다른 스레드가 같은 번호를 먼저 씀
+                    }
+                }
+            }
+        };
+    }
+
+    private static Worker allocator(OrderNumberAllocator allocator) {
+        return (keepGoing, issued, failures) -> {
+            while (keepGoing.get()) {
+                issued.add(allocator.next());
+            }
+        };
+    }
+
+    private static OrderNumberAllocator dbAllocator() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, USER, PASSWORD);
+        return new OrderNumberAllocator(new JdbcTemplate(dataSource), new DataSourceTransactionManager(dataSource), BLOCK_SIZE);
+    }
+
+    // order_number_seq 대신 메모리 맵 (블록 예약 비용 0 → 발급 경로의 synchronized 경합만 남음)
+    private static OrderNumberAllocator memoryAllocator() {
+        Map<String, AtomicInteger> seq = new ConcurrentHashMap<>();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            public int update(String sql, Object... args) {
+                seq.computeIfAbsent((String) args[0], d -> new AtomicInteger(1)).addAndGet((Integer) args[2]);
+                return 1;
+            }
+
+            @Override
+            public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+                return requiredType.cast(seq.get((String) args[0]).get());
+            }
+        };
+        PlatformTransactionManager noTx = new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+        return new OrderNumberAllocator(jdbcTemplate, noTx, BLOCK_SIZE);
+    }
+
+    //============================================================
+    // 2️⃣ 실행 / 결과
+    //============================================================
+    private static Result run(Worker worker, boolean checkDuplicates) throws Exception {
+        AtomicBoolean keepGoing = new AtomicBoolean(true);
+        Issued issued = new Issued(new LongAdder(), checkDuplicates ? ConcurrentHashMap.newKeySet() : null, new LongAdder());
+        LongAdder failures = new LongAdder();
+        CountDownLatch done = new CountDownLatch(THREADS);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            Thread t = new Thread(() -> {
+                try {
+                    worker.loop(keepGoing, issued, failures);
+                } catch (Exception e) {
+                    System.err.println("벤치 스레드 실패: " + e.getMessage());
+                } finally {
+                    done.countDown();
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+
+        Thread.sleep(SECONDS * 1000L);
+        keepGoing.set(false);
+        done.await();
+        cleanup();
+        return new Result(issued.count().sum(), issued.duplicates().sum(), failures.sum());
+    }
+
+    private static void report(String mode, Result r) {
+        System.out.printf("%-6s threads=%d  %,d 건 / %d초  →  %,.0f numbers/sec  (중복 %,d / 충돌 실패 %,d)%n",
+                mode, THREADS, r.issued(), SECONDS, r.issued() / (double) SECONDS, r.duplicates(), r.failures());
+    }
+
+    // max 모드 벤치 테이블 정리
+    private static void cleanup() throws Exception {
+        if (URL == null) return;
+        try (Connection con = DriverManager.getConnection(URL, USER, PASSWORD);
+             Statement st = con.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_order_number");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package bitc.full502.backend.repository;
+
+import bitc.full502.backend.entity.AgencyOrderEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 주문 목록 조회 쿼리 수 회귀 테스트 (N+1 재발 방지)
+ * - 목록 메서드 + AgencyOrderService 의 DTO 변환이 건드리는 연관(agency / delivery / product / items)을 그대로 따라감
+ * - agency / delivery / product 는 fetch plan 으로 같은 SELECT, items 는 @BatchSize 로 IN 절 1번
+ *   → 주문 건수와 무관하게 목록 1 + items 1
+ * - Hibernate Statistics 의 prepared statement 수로 셈, 데이터는 fixtures/agency-order-list.sql
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Sql("/fixtures/agency-order-list.sql")
+class AgencyOrderListQueryCountTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private AgencyOrderRepository repo;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findAllWithRefsLoadsReferencesAndItemsInTwoQueries() {
+        // findAll() 경로: 연관 3개 + items
+        assertEquals(2, countQueries(() -> repo.findAllWithRefs(), true, 6));
+    }
+
+    @Test
+    void findByAgencyLoadsReferencesInOneQuery() {
+        // getOrders() 경로: 대리점 1 = 4건, 대리점 2 = 2건 → 건수가 달라도 같은 쿼리 수
+        assertEquals(1, countQueries(() -> repo.findByAgency_AgKey(1), false, 4));
+        assertEquals(1, countQueries(() -> repo.findByAgency_AgKey(2), false, 2));
+    }
+
+    @Test
+    void findByStatusInLoadsReferencesInOneQuery() {
+        // findMineByLoginId() 본사 + 상태 필터 경로
+        assertEquals(1, countQueries(() -> repo.findByOrStatusIn(List.of("승인 대기중")), false, 3));
+        assertEquals(1, countQueries(() -> repo.findByOrStatusIn(List.of("승인 대기중", "배송중", "배송완료")), false, 6));
+    }
+
+    // 영속성 컨텍스트를 비운 뒤 목록 조회 + 연관 접근까지의 쿼리 수
+    private long countQueries(Supplier<List<AgencyOrderEntity>> list, boolean withItems, int expectedRows) {
+        em.clear();
+        statistics.clear();
+
+        List<AgencyOrderEntity> orders = list.get();
+        for (AgencyOrderEntity o : orders) {
+            o.getAgency().getAgName();
+            if (o.getDelivery() != null) o.getDelivery().getDvName();
+            o.getProduct().getPdProducts();
+            if (withItems) o.getItems().forEach(i -> i.getOiProducts());
+        }
+
+        assertEquals(expectedRows, orders.size());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,119 @@
+package bitc.full502.backend.repository;
+
+import bitc.full502.backend.repository.AgencyProductStockRepository.StockIncrement;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 대리점 재고 동시 증가 시 누락(lost update) 없는지 확인
+ * - DB 는 테스트 컨테이너 MySQL (test 프로필), 데이터는 fixtures/agency-product-stock.sql
+ * - 스레드들이 각자 커밋해야 하므로 테스트 트랜잭션 없이 실행, fixture 가 매번 초기 상태로 되돌림
+ * - 없는 행 동시 생성은 gap lock 교착이 나던 경우 (UPDATE 후 INSERT) → 지금은 upsert 만 하므로 교착 없이 한 행
+ * - Docker 없으면 건너뜀 (설정된 DB 로 대신 접속하지 않음)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql("/fixtures/agency-product-stock.sql")
+class AgencyProductStockRepositoryTest {
+
+    private static final int THREADS = 8;
+    private static final int CALLS_PER_THREAD = 25;
+    private static final int AG_KEY = 1;
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private AgencyProductRepository agencyProductRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentIncrementsOnExistingRowDoNotLoseUpdates() throws Exception {
+        // fixture: (1, 1) 재고 10
+        incrementConcurrently(1);
+
+        assertEquals(10 + THREADS * CALLS_PER_THREAD * 2, stock(1));
+        assertEquals(1, rows(1));
+    }
+
+    @Test
+    void concurrentIncrementsOnMissingRowCreateOneRow() throws Exception {
+        // fixture: (1, 2) 행 없음 → 여러 스레드가 동시에 생성 시도
+        incrementConcurrently(2);
+
+        assertEquals(THREADS * CALLS_PER_THREAD * 2, stock(2));
+        assertEquals(1, rows(2));
+    }
+
+    @Test
+    void returnsOnlyNewlyCreatedRows() {
+        // (1, 1) 은 증가, (1, 2) 는 생성
+        int created = agencyProductRepository.incrementStock(List.of(
+                new StockIncrement(AG_KEY, 1, 3),
+                new StockIncrement(AG_KEY, 2, 4)));
+
+        assertEquals(1, created);
+        assertEquals(13, stock(1));
+        assertEquals(4, stock(2));
+        assertEquals(0, agencyProductRepository.incrementStock(List.of(new StockIncrement(AG_KEY, 2, 1))));
+    }
+
+    private void incrementConcurrently(int pdKey) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                        // 한 호출에 같은 상품 두 줄 → 합쳐서 +2
+                        agencyProductRepository.incrementStock(List.of(
+                                new StockIncrement(AG_KEY, pdKey, 1),
+                                new StockIncrement(AG_KEY, pdKey, 1)));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private int stock(int pdKey) {
+        return jdbcTemplate.queryForObject(
+                "SELECT stock FROM agencyproduct WHERE ag_key = ? AND pd_key = ?", Integer.class, AG_KEY, pdKey);
+    }
+
+    private int rows(int pdKey) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM agencyproduct WHERE ag_key = ? AND pd_key = ?", Integer.class, AG_KEY, pdKey);
+    }
+}
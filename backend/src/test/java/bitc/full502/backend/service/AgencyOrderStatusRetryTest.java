@@ -0,0 +1,143 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.entity.AgencyEntity;
+import bitc.full502.backend.entity.AgencyOrderEntity;
+import bitc.full502.backend.entity.AgencyOrderItemEntity;
+import bitc.full502.backend.repository.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기사 포함 상태 변경 재시도 (첫 시도 커밋이 버전 충돌 → 그 사이 다른 커밋이 상태를 바꾼 주문을 다시 읽음)
+ * - 트랜잭션 매니저는 처음 몇 번의 커밋을 충돌로 실패시키는 가짜, 저장소 / 협력 객체는 mock
+ * - 실패한 시도의 부수효과는 실제로는 롤백되므로, 호출 횟수는 "성공한 시도에서 또 했는지" 로 봄
+ */
+class AgencyOrderStatusRetryTest {
+
+    private static final int OR_KEY = 7;
+    private static final int AG_KEY = 3;
+
+    private final AgencyOrderRepository repo = mock(AgencyOrderRepository.class);
+    private final DeliveryRepository deliveryRepository = mock(DeliveryRepository.class);
+    private final AgencyProductRepository agencyProductRepository = mock(AgencyProductRepository.class);
+    private final DeliveryDueQueue deliveryDueQueue = mock(DeliveryDueQueue.class);
+    private final LogisticStockReservation stockReservation = mock(LogisticStockReservation.class);
+    private final InventoryLedger inventoryLedger = mock(InventoryLedger.class);
+    private final WarehouseAllocator warehouseAllocator = mock(WarehouseAllocator.class);
+    private final ConflictingTransactionManager txManager = new ConflictingTransactionManager();
+
+    private final AgencyOrderService service = new AgencyOrderService(
+            repo, mock(ProductRepository.class), mock(AgencyRepository.class), deliveryRepository,
+            agencyProductRepository, mock(AgencyOrderItemRepository.class),
+            mock(OrderNumberAllocator.class), mock(OrderCache.class), mock(AgencyOrderTombstoneRepository.class),
+            new OptimisticRetry(txManager, new SimpleMeterRegistry(), 3, 0),
+            deliveryDueQueue, stockReservation, inventoryLedger, warehouseAllocator,
+            mock(OrderMonthlyRollup.class), mock(Leaderboard.class));
+
+    @Test
+    void retryAfterConcurrentCompletionDoesNotAddStockTwice() {
+        // 운영자가 배송완료 → 첫 시도 커밋 전에 자동완료가 먼저 커밋
+        txManager.conflicts.set(1);
+        when(repo.findById(OR_KEY)).thenReturn(Optional.of(order("배송중")), Optional.of(order("배송완료")));
+
+        service.updateOrderStatusWithDriver(OR_KEY, "배송완료", "김기사", null);
+
+        // 재고 증가 / 원장 기록 / 저장은 롤백된 첫 시도에서만
+        verify(agencyProductRepository, times(1)).incrementStock(any());
+        verify(inventoryLedger, times(1)).recordAll(any());
+        verify(repo, times(1)).save(any());
+        assertEquals(2, txManager.begun.get());
+    }
+
+    @Test
+    void retryAfterOtherStatusChangeIsRejected() {
+        // 운영자가 배송중 → 그 사이 다른 요청이 주문을 배송완료로 바꿔 커밋
+        txManager.conflicts.set(1);
+        when(repo.findById(OR_KEY)).thenReturn(Optional.of(order("배송 준비중")), Optional.of(order("배송완료")));
+        when(warehouseAllocator.allocate(anyInt(), anyString(), anyMap())).thenReturn(new WarehouseAllocator.Allocation());
+
+        ResponseStatusException e = assertThrows(ResponseStatusException.class,
+                () -> service.updateOrderStatusWithDriver(OR_KEY, "배송중", "김기사", null));
+
+        assertEquals(HttpStatus.CONFLICT, e.getStatusCode());
+        verify(stockReservation, times(1)).reserve(any());
+        verify(deliveryDueQueue, times(1)).schedule(OR_KEY);
+    }
+
+    @Test
+    void sameStatusRequestOnlyUpdatesTheDriver() {
+        AgencyOrderEntity order = order("배송완료");
+        when(repo.findById(OR_KEY)).thenReturn(Optional.of(order));
+
+        service.updateOrderStatusWithDriver(OR_KEY, "배송완료", "박기사", null);
+
+        assertEquals("박기사", order.getDvName());
+        verify(agencyProductRepository, never()).incrementStock(any());
+        verify(inventoryLedger, never()).recordAll(any());
+        verify(deliveryDueQueue, never()).cancel(anyInt());
+        verify(repo, times(1)).save(order);
+    }
+
+    private static AgencyOrderEntity order(String status) {
+        AgencyEntity agency = new AgencyEntity();
+        agency.setAgKey(AG_KEY);
+        AgencyOrderItemEntity item = new AgencyOrderItemEntity();
+        item.setOrKey(OR_KEY);
+        item.setPdKey(10);
+        item.setOiQuantity(2);
+
+        AgencyOrderEntity order = new AgencyOrderEntity();
+        order.setOrKey(OR_KEY);
+        order.setAgency(agency);
+        order.setOrStatus(status);
+        order.setOrGu("부산 해운대구");
+        order.setItems(List.of(item));
+        return order;
+    }
+
+    // 처음 conflicts 번의 커밋은 버전 충돌 (다른 트랜잭션이 먼저 커밋한 것처럼)
+    private static class ConflictingTransactionManager implements PlatformTransactionManager {
+        final AtomicInteger conflicts = new AtomicInteger();
+        final AtomicInteger begun = new AtomicInteger();
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            begun.incrementAndGet();
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            if (conflicts.getAndDecrement() > 0) {
+                throw new OptimisticLockingFailureException("주문 버전 충돌");
+            }
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.service.DashboardCache.Snapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 대시보드 응답 캐시 (첫 계산 합치기 / 오래된 값 + 백그라운드 갱신 / 갱신 실패 시 이전 값 / 풀 거절)
+ * - 백그라운드 갱신은 큐에만 쌓고 테스트가 직접 실행 (실행 시점 고정)
+ */
+class DashboardCacheTest {
+
+    private static final String KEY = "dashboard.test";
+    private static final Duration REFRESH_AFTER = Duration.ofMillis(200);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<Runnable> queued = new ArrayList<>();
+    private final DashboardCache cache = new DashboardCache(registry, REFRESH_AFTER, queued::add);
+
+    @Test
+    void concurrentFirstLoadsCallTheLoaderOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Snapshot<String>>> futures = new ArrayList<>();
+            futures.add(pool.submit(() -> cache.get(KEY, () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "v1";
+            })));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // 첫 계산이 끝나기 전에 들어온 요청은 같은 계산을 기다림
+            List<Thread> waiting = new ArrayList<>();
+            for (int i = 1; i < callers; i++) {
+                futures.add(pool.submit(() -> {
+                    synchronized (waiting) {
+                        waiting.add(Thread.currentThread());
+                    }
+                    return cache.get(KEY, () -> {
+                        loads.incrementAndGet();
+                        return "other";
+                    });
+                }));
+            }
+            awaitParked(waiting, callers - 1);
+            release.countDown();
+
+            for (Future<Snapshot<String>> f : futures) {
+                Snapshot<String> s = f.get(5, TimeUnit.SECONDS);
+                assertEquals("v1", s.value());
+                assertFalse(s.stale());
+            }
+            assertEquals(1, loads.get());
+            assertEquals(1, count("dashboard.cache.loads", "started"));
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void expiredEntryReturnsOldValueAsStaleAndRefreshesInBackground() throws Exception {
+        assertEquals("v1", cache.get(KEY, () -> "v1").value());
+        Thread.sleep(REFRESH_AFTER.toMillis() + 50);
+
+        Snapshot<String> stale = cache.get(KEY, () -> "v2");
+        assertEquals("v1", stale.value());
+        assertTrue(stale.stale());
+        // 갱신이 끝나기 전 요청은 갱신을 또 걸지 않음
+        assertTrue(cache.get(KEY, () -> "v3").stale());
+        assertEquals(1, queued.size());
+
+        queued.remove(0).run();
+
+        Snapshot<String> fresh = cache.get(KEY, () -> "v4");
+        assertEquals("v2", fresh.value());
+        assertFalse(fresh.stale());
+        assertEquals(2, count("dashboard.cache.requests", "stale"));
+        assertEquals(2, count("dashboard.cache.requests", "fresh"));
+    }
+
+    @Test
+    void failedRefreshKeepsTheOldValueAndFailedFirstLoadThrows() throws Exception {
+        cache.get(KEY, () -> "v1");
+        Thread.sleep(REFRESH_AFTER.toMillis() + 50);
+
+        cache.get(KEY, () -> {
+            throw new IllegalStateException("DB 지연");
+        });
+        queued.remove(0).run();
+
+        Snapshot<String> after = cache.get(KEY, () -> "v2");
+        assertEquals("v1", after.value());
+        assertTrue(after.stale());
+        assertEquals(1, count("dashboard.cache.loads", "failed"));
+
+        // 이전 값이 없으면 실패를 그대로 전달
+        assertThrows(IllegalStateException.class, () -> cache.get("dashboard.other", () -> {
+            throw new IllegalStateException("DB 지연");
+        }));
+    }
+
+    @Test
+    void rejectedRefreshIsRetriedOnTheNextRequest() throws Exception {
+        AtomicInteger rejected = new AtomicInteger();
+        DashboardCache rejecting = new DashboardCache(registry, REFRESH_AFTER, task -> {
+            if (rejected.getAndIncrement() == 0) throw new RejectedExecutionException("종료 중");
+            task.run();
+        });
+
+        rejecting.get(KEY, () -> "v1");
+        Thread.sleep(REFRESH_AFTER.toMillis() + 50);
+
+        Snapshot<String> skipped = rejecting.get(KEY, () -> "v2");
+        assertEquals("v1", skipped.value());
+        assertTrue(skipped.stale());
+        // 거절된 갱신이 계산 중으로 남지 않아야 다음 요청이 다시 갱신함 (여기서는 바로 실행)
+        assertEquals("v2", rejecting.get(KEY, () -> "v2").value());
+    }
+
+    @Test
+    void firstLoadsRacingAFinishingLoadNeverSeeAMissingFuture() throws Exception {
+        // 바로 끝나는 계산에 여러 요청이 동시에 붙음 → 계산이 끝나는 순간과 겹쳐도 값을 받아야 함
+        int threads = 8;
+        int keys = 2_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            for (int k = 0; k < keys; k++) {
+                String key = "dashboard.race." + k;
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Snapshot<String>>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(pool.submit(() -> {
+                        start.await();
+                        return cache.get(key, () -> key);
+                    }));
+                }
+                start.countDown();
+                for (Future<Snapshot<String>> f : futures) {
+                    assertEquals(key, f.get(5, TimeUnit.SECONDS).value());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private double count(String name, String result) {
+        return registry.counter(name, "result", result).count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 기다리는 스레드가 모두 계산 결과를 기다리며 멈출 때까지
+    private static void awaitParked(List<Thread> threads, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            synchronized (threads) {
+                if (threads.size() == expected && threads.stream().allMatch(DashboardCacheTest::parked)) return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("요청 스레드가 계산을 기다리지 않음");
+    }
+
+    private static boolean parked(Thread t) {
+        Thread.State state = t.getState();
+        return state == Thread.State.WAITING || state == Thread.State.TIMED_WAITING;
+    }
+}
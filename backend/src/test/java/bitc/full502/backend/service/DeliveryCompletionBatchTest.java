@@ -0,0 +1,83 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.repository.AgencyOrderRepository;
+import bitc.full502.backend.repository.AgencyProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 배송 자동완료 배치 (청크 실패 시 건별 처리 / lease 만료로 남은 주문은 실패와 따로 보고)
+ * - 저장소 / 주문 서비스는 mock, 트랜잭션 매니저는 아무것도 안 하는 가짜
+ */
+class DeliveryCompletionBatchTest {
+
+    private final AgencyOrderRepository orderRepository = mock(AgencyOrderRepository.class);
+    private final AgencyOrderService orderService = mock(AgencyOrderService.class);
+
+    @Test
+    void anyChunkFailureFallsBackToPerOrderAndReportsOnlyTheFailingOrder() {
+        // 버전 충돌이 아닌 예외 (데이터 문제 등) 로 청크가 실패
+        when(orderRepository.findWithItemsByOrKeyIn(anyList())).thenThrow(new IllegalStateException("대리점 없음"));
+        when(orderService.autoCompleteDelivery(1)).thenReturn(true);
+        when(orderService.autoCompleteDelivery(2)).thenThrow(new IllegalStateException("대리점 없음: 2"));
+        when(orderService.autoCompleteDelivery(3)).thenReturn(false);   // 이미 다른 곳에서 완료됨
+
+        DeliveryCompletionBatch.Report report = batch(100).complete(List.of(1, 2, 3), () -> true);
+
+        assertEquals(1, report.getChunks());
+        assertEquals(1, report.getCompleted());
+        assertEquals(Map.of(2, "대리점 없음: 2"), report.getSkipped());
+        assertTrue(report.getDeferred().isEmpty());
+    }
+
+    @Test
+    void ordersLeftByAnExpiredLeaseAreDeferredNotFailed() {
+        boolean[] lease = {true};
+        DeliveryCompletionBatch.Report report = batch(1).complete(List.of(1, 2, 3), () -> {
+            boolean held = lease[0];
+            lease[0] = false;
+            return held;
+        });
+
+        assertEquals(2, report.getChunks());
+        assertTrue(report.getSkipped().isEmpty());
+        assertEquals(List.of(3), report.getDeferred());
+        verify(orderService, never()).autoCompleteDelivery(3);
+    }
+
+    private DeliveryCompletionBatch batch(int chunkSize) {
+        return new DeliveryCompletionBatch(orderRepository, mock(AgencyProductRepository.class), orderService,
+                mock(OrderCache.class), mock(InventoryLedger.class), new NoOpTransactionManager(),
+                new SimpleMeterRegistry(), chunkSize);
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
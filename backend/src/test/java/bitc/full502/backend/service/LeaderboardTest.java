@@ -0,0 +1,134 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.dto.LeaderboardEntryDTO;
+import bitc.full502.backend.service.Leaderboard.Measure;
+import bitc.full502.backend.service.Leaderboard.Window;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 순위표 다른 노드 변경분 반영 (poll: 커서 이후 바뀐 / 삭제된 주문만, 이미 반영된 버전은 건너뜀)
+ * - DB 대신 NamedParameterJdbcTemplate 을 덮어써서 주문 행을 직접 넘김
+ */
+class LeaderboardTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 1, 5, 9, 0);
+
+    private final FakeJdbc jdbc = new FakeJdbc();
+    private final Leaderboard leaderboard = new Leaderboard(jdbc, 8, 3, Duration.ofSeconds(10));
+
+    @Test
+    void pollPicksUpOrdersChangedOrDeletedOnAnotherNode() {
+        jdbc.orders = new ArrayList<>(List.of(
+                new Order(1, 10, "배송완료", 1, UPDATED, 100, 2, 2000)));
+        leaderboard.rebuild();
+        assertEquals(List.of("100:2"), top());
+
+        // 다른 노드: 주문 2 배송완료, 주문 1 삭제 (이 노드 transition 은 호출되지 않음)
+        jdbc.orders = new ArrayList<>(List.of(
+                new Order(2, 10, "배송완료", 3, UPDATED.plusMinutes(1), 101, 5, 5000)));
+        jdbc.deleted = List.of(1);
+        assertEquals(2, leaderboard.poll());
+        assertEquals(List.of("101:5"), top());
+
+        // safetyWindow 안에서 다시 읽혀도 버전이 같으면 건너뜀
+        jdbc.deleted = List.of();
+        assertEquals(0, leaderboard.poll());
+        assertEquals(List.of("101:5"), top());
+
+        // 같은 주문이 다시 바뀌면 (버전 증가) 빼고 다시 더함
+        jdbc.orders = new ArrayList<>(List.of(
+                new Order(2, 10, "배송중", 4, UPDATED.plusMinutes(2), 101, 5, 5000)));
+        assertEquals(1, leaderboard.poll());
+        assertEquals(List.of(), top());
+    }
+
+    private List<String> top() {
+        List<String> result = new ArrayList<>();
+        for (LeaderboardEntryDTO e : leaderboard.topProducts(Window.WEEK, Measure.DELIVERED, TODAY, 10)) {
+            result.add(e.getKey() + ":" + e.getScore());
+        }
+        return result;
+    }
+
+    private record Order(int orKey, int agKey, String status, long version, LocalDateTime updatedAt,
+                         int pdKey, int quantity, long total) {}
+
+    // 주문 + 품목 조회 / (키, 버전) 조회 / 삭제 기록 / 최대 수정 시각 → orders, deleted 에서, 이름 조회는 빈 결과
+    private static class FakeJdbc extends NamedParameterJdbcTemplate {
+        List<Order> orders = new ArrayList<>();
+        List<Integer> deleted = List.of();
+
+        FakeJdbc() {
+            super(new JdbcTemplate());
+        }
+
+        @Override
+        public <T> List<T> query(String sql, SqlParameterSource params, RowMapper<T> rowMapper) {
+            List<T> result = new ArrayList<>();
+            query(sql, params, (RowCallbackHandler) rs -> result.add(rowMapper.mapRow(rs, result.size())));
+            return result;
+        }
+
+        @Override
+        public void query(String sql, SqlParameterSource params, RowCallbackHandler rch) {
+            List<Object[]> rows = new ArrayList<>();
+            if (sql.contains("MAX(or_updated_at)")) {
+                rows.add(new Object[]{orders.stream().map(Order::updatedAt).max(LocalDateTime::compareTo)
+                        .map(Timestamp::valueOf).orElse(null)});
+            } else if (sql.contains("JOIN agencyorder_item")) {
+                Collection<?> keys = params.hasValue("orKeys") ? (Collection<?>) params.getValue("orKeys") : null;
+                for (Order o : orders) {
+                    if (keys != null && !keys.contains(o.orKey())) continue;
+                    rows.add(new Object[]{o.orKey(), Date.valueOf(TODAY), o.agKey(), o.status(), o.version(),
+                            o.pdKey(), o.quantity(), o.total()});
+                }
+            } else if (sql.contains("FROM agencyorder WHERE or_updated_at")) {
+                LocalDateTime since = ((Timestamp) params.getValue("since")).toLocalDateTime();
+                for (Order o : orders) {
+                    if (o.updatedAt().isBefore(since)) continue;
+                    rows.add(new Object[]{o.orKey(), o.version(), Timestamp.valueOf(o.updatedAt())});
+                }
+            } else if (sql.contains("FROM agencyorder_deleted")) {
+                deleted.forEach(k -> rows.add(new Object[]{k}));
+            }
+
+            Object[][] current = new Object[1][];
+            ResultSet rs = mock(ResultSet.class, inv -> {
+                Object v = current[0][(Integer) inv.getArgument(0) - 1];
+                return switch (inv.getMethod().getName()) {
+                    case "getInt" -> v == null ? 0 : ((Number) v).intValue();
+                    case "getLong" -> v == null ? 0L : ((Number) v).longValue();
+                    default -> v;
+                };
+            });
+            try {
+                for (Object[] row : rows) {
+                    current[0] = row;
+                    rch.processRow(rs);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
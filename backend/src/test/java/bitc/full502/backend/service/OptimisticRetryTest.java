@@ -0,0 +1,121 @@
+package bitc.full502.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 버전 충돌 재시도 (시도마다 새 트랜잭션 / 최대 횟수 / 바깥 트랜잭션 안이면 한 번만 / 메트릭)
+ * - 트랜잭션 매니저는 begin / commit / rollback 횟수만 세는 가짜
+ */
+class OptimisticRetryTest {
+
+    private static final String OP = "test";
+
+    private final CountingTransactionManager txManager = new CountingTransactionManager();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final OptimisticRetry retry = new OptimisticRetry(txManager, registry, 3, 0);
+
+    @Test
+    void retriesConflictsInNewTransactionsUntilSuccess() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = retry.call(OP, () -> {
+            if (attempts.incrementAndGet() < 3) throw new OptimisticLockingFailureException("충돌");
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(3, attempts.get());
+        assertEquals(3, txManager.begun.get());
+        assertEquals(2, txManager.rolledBack.get());
+        assertEquals(1, txManager.committed.get());
+        assertEquals(2, count("order.transition.conflicts"));
+        assertEquals(2, count("order.transition.retries"));
+        assertEquals(0, count("order.transition.exhausted"));
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> retry.run(OP, () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("충돌");
+        }));
+
+        assertEquals(3, attempts.get());
+        assertEquals(3, txManager.rolledBack.get());
+        assertEquals(3, count("order.transition.conflicts"));
+        assertEquals(2, count("order.transition.retries"));
+        assertEquals(1, count("order.transition.exhausted"));
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> retry.run(OP, () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("다른 오류");
+        }));
+
+        assertEquals(1, attempts.get());
+        assertEquals(1, txManager.rolledBack.get());
+        assertEquals(0, count("order.transition.conflicts"));
+    }
+
+    @Test
+    void runsOnceWithoutOwnTransactionInsideOuterTransaction() {
+        AtomicInteger attempts = new AtomicInteger();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThrows(OptimisticLockingFailureException.class, () -> retry.run(OP, () -> {
+                attempts.incrementAndGet();
+                throw new OptimisticLockingFailureException("충돌");
+            }));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertEquals(1, attempts.get());
+        assertEquals(0, txManager.begun.get());
+        assertEquals(0, count("order.transition.conflicts"));
+    }
+
+    private double count(String name) {
+        return registry.counter(name, "operation", OP).count();
+    }
+
+    private static class CountingTransactionManager implements PlatformTransactionManager {
+        final AtomicInteger begun = new AtomicInteger();
+        final AtomicInteger committed = new AtomicInteger();
+        final AtomicInteger rolledBack = new AtomicInteger();
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            begun.incrementAndGet();
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            committed.incrementAndGet();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rolledBack.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package bitc.full502.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 주문 캐시 버전 스탬프 (다른 노드가 바꾼 주문은 이 노드 evict 없이도 다음 조회에서 다시 로딩)
+ * - 스탬프 조회는 JdbcTemplate 을 덮어써서 현재 버전 / 대리점 집계를 직접 넘김
+ */
+class OrderCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FakeJdbc jdbc = new FakeJdbc();
+    private final OrderCache cache = new OrderCache(
+            new ConcurrentMapCacheManager(OrderCache.ORDER_DETAIL, OrderCache.AGENCY_ORDERS), jdbc, registry);
+
+    @Test
+    void orderChangedElsewhereIsReloadedOnTheNextRead() {
+        AtomicInteger loads = new AtomicInteger();
+        jdbc.orderVersion = 1L;
+
+        assertEquals("v1", cache.order(OrderCache.FULL, 7, () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.order(OrderCache.FULL, 7, () -> "v" + loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+
+        // 다른 노드에서 커밋 (이 노드의 evictOrder 는 호출되지 않음)
+        jdbc.orderVersion = 2L;
+        assertEquals("v2", cache.order(OrderCache.FULL, 7, () -> "v" + loads.incrementAndGet()));
+        assertEquals("v2", cache.order(OrderCache.FULL, 7, () -> "v" + loads.incrementAndGet()));
+        assertEquals(2, loads.get());
+        assertEquals(1, registry.counter("order.cache.stale").count());
+    }
+
+    @Test
+    void agencyListIsReloadedWhenAnyOfItsOrdersChanges() {
+        AtomicInteger loads = new AtomicInteger();
+        jdbc.agency = new long[]{3, 10, 30};
+        cache.agency(OrderCache.WEB, 5, () -> loads.incrementAndGet());
+
+        // 수정 (버전 합), 추가 (개수 / 최대 키), 삭제 + 추가 (최대 키) 모두 다시 로딩
+        jdbc.agency = new long[]{3, 11, 30};
+        assertEquals(2, (int) cache.agency(OrderCache.WEB, 5, () -> loads.incrementAndGet()));
+        jdbc.agency = new long[]{4, 11, 31};
+        assertEquals(3, (int) cache.agency(OrderCache.WEB, 5, () -> loads.incrementAndGet()));
+        jdbc.agency = new long[]{4, 11, 32};
+        assertEquals(4, (int) cache.agency(OrderCache.WEB, 5, () -> loads.incrementAndGet()));
+
+        // 그대로면 캐시 값
+        assertEquals(4, (int) cache.agency(OrderCache.WEB, 5, () -> loads.incrementAndGet()));
+    }
+
+    // or_version 조회 → orderVersion (null = 없는 주문), 대리점 집계 → agency (개수, 버전 합, 최대 키)
+    private static class FakeJdbc extends JdbcTemplate {
+        Long orderVersion;
+        long[] agency = {0, 0, 0};
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            List<T> result = new ArrayList<>();
+            if (orderVersion != null) result.add((T) orderVersion);
+            return result;
+        }
+
+        @Override
+        public <T> T queryForObject(String sql, RowMapper<T> rowMapper, Object... args) {
+            ResultSet rs = mock(ResultSet.class, inv -> agency[(Integer) inv.getArgument(0) - 1]);
+            try {
+                return rowMapper.mapRow(rs, 0);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.dto.OrderSyncDTO;
+import bitc.full502.backend.repository.AgencyOrderRepository;
+import bitc.full502.backend.repository.AgencyOrderTombstoneRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Android 증분 동기화 커서 (이 노드 시계가 아니라 DB 시각 기준)
+ * - DB 시각은 JdbcTemplate mock 이 돌려주는 고정 값 (노드 시계와 일부러 크게 다르게)
+ */
+class OrderSyncCursorTest {
+
+    private static final int AG_KEY = 3;
+    private static final Duration SAFETY_WINDOW = Duration.ofSeconds(10);
+    private static final LocalDateTime DB_NOW = LocalDateTime.of(2020, 3, 1, 12, 0);
+
+    private final AgencyOrderRepository orderRepository = mock(AgencyOrderRepository.class);
+    private final AgencyOrderTombstoneRepository tombstoneRepository = mock(AgencyOrderTombstoneRepository.class);
+    private final OrderCache orderCache = mock(OrderCache.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final OrderService service = new OrderService(orderRepository, tombstoneRepository, orderCache, jdbcTemplate,
+            SAFETY_WINDOW, Duration.ofDays(30));
+
+    @Test
+    void cursorIsTheDatabaseTimeAndDeltaStartsOneSafetyWindowEarlier() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(LocalDateTime.class))).thenReturn(DB_NOW);
+        LocalDateTime since = DB_NOW.minusMinutes(5);
+
+        OrderSyncDTO sync = service.syncOrdersByAgency(AG_KEY, since.toString());
+
+        assertFalse(sync.isFull());
+        assertEquals(DB_NOW.toString(), sync.getCursor());
+        verify(orderRepository).findByAgency_AgKeyAndOrUpdatedAtAfter(AG_KEY, since.minus(SAFETY_WINDOW));
+        verify(tombstoneRepository).findByAgKeyAndDeletedAtAfter(AG_KEY, since.minus(SAFETY_WINDOW));
+    }
+
+    @Test
+    void cursorOlderThanTombstoneRetentionByDatabaseTimeForcesFullSync() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(LocalDateTime.class))).thenReturn(DB_NOW);
+        when(orderCache.agency(anyString(), anyInt(), any())).thenReturn(List.of());
+
+        OrderSyncDTO sync = service.syncOrdersByAgency(AG_KEY, DB_NOW.minusDays(31).toString());
+
+        assertTrue(sync.isFull());
+        assertEquals(DB_NOW.toString(), sync.getCursor());
+    }
+}
@@ -0,0 +1,90 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.service.Leaderboard.RankedCounter;
+import bitc.full502.backend.service.Leaderboard.RankedCounter.Rank;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 순위표 카운터 (점수 내림차순 + 키 오름차순 / 점수 바뀌면 자리 이동 / 0 이면 빠짐 / 동시 반영)
+ */
+class RankedCounterTest {
+
+    @Test
+    void ranksByScoreDescendingThenKey() {
+        RankedCounter counter = new RankedCounter();
+        counter.add(3, 10);
+        counter.add(1, 20);
+        counter.add(2, 10);
+
+        assertEquals(List.of(new Rank(1, 20), new Rank(2, 10), new Rank(3, 10)), ranking(counter));
+    }
+
+    @Test
+    void scoreChangeMovesTheKeyWithoutLeavingTheOldRank() {
+        RankedCounter counter = new RankedCounter();
+        counter.add(1, 20);
+        counter.add(2, 10);
+
+        counter.add(2, 15);
+        assertEquals(List.of(new Rank(2, 25), new Rank(1, 20)), ranking(counter));
+
+        // 취소 등 음수 반영
+        counter.add(2, -20);
+        assertEquals(List.of(new Rank(1, 20), new Rank(2, 5)), ranking(counter));
+
+        // 0 이 되면 빠지고, 0 반영은 무시
+        counter.add(2, -5);
+        counter.add(3, 0);
+        assertEquals(List.of(new Rank(1, 20)), ranking(counter));
+    }
+
+    @Test
+    void concurrentAddsEndWithOneRankPerKey() throws Exception {
+        int threads = 8;
+        int keys = 20;
+        int addsPerThread = 5_000;
+        RankedCounter counter = new RankedCounter();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < addsPerThread; i++) {
+                        counter.add(i % keys, 1 + i % 3);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<Rank> ranking = ranking(counter);
+        assertEquals(keys, ranking.size());
+        long expectedTotal = 0;
+        for (int i = 0; i < addsPerThread; i++) expectedTotal += 1 + i % 3;
+        assertEquals(expectedTotal * threads, ranking.stream().mapToLong(Rank::score).sum());
+        for (int i = 1; i < ranking.size(); i++) {
+            assertTrue(ranking.get(i - 1).score() >= ranking.get(i).score());
+        }
+    }
+
+    private static List<Rank> ranking(RankedCounter counter) {
+        return new ArrayList<>(counter.ranking);
+    }
+}
@@ -0,0 +1,183 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.dto.SalesPointDTO;
+import bitc.full502.backend.dto.SalesSeriesDTO;
+import bitc.full502.backend.service.SalesCube.Dimension;
+import bitc.full502.backend.service.SalesCube.Granularity;
+import bitc.full502.backend.service.SalesCube.Query;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 매출 메모리 큐브 (그룹별 주문 수 중복 제거 / 증분 갱신 후 집계 / 청크 경계)
+ * - DB 대신 JdbcTemplate 을 덮어써서 주문 행을 RowCallbackHandler 에 직접 넘김
+ */
+class SalesCubeTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 5);
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 1, 5, 9, 0);
+
+    private final FakeJdbc jdbc = new FakeJdbc();
+    private final SalesCube cube = new SalesCube(jdbc, Duration.ofSeconds(10));
+
+    @Test
+    void ordersAreCountedOncePerGroupEvenWithSeveralItemRows() {
+        jdbc.orders = List.of(
+                // 주문 1: 상품 100 이 떨어진 두 행에 나옴
+                item(1, 10, 1, 100, 2, 2000), item(1, 10, 1, 101, 1, 500), item(1, 10, 1, 100, 1, 1000),
+                item(2, 10, 1, 100, 3, 3000),
+                noItems(3, 20, 1));
+        cube.refresh();
+
+        SalesPointDTO total = single(cube.query(query(Dimension.NONE)));
+        assertEquals(2, total.getOrders());
+        assertEquals(7, total.getQuantity());
+        assertEquals(6500, total.getRevenue());
+
+        Map<String, SalesPointDTO> byProduct = byKey(cube.query(query(Dimension.PRODUCT)));
+        assertEquals(2, byProduct.get("100").getOrders());
+        assertEquals(6, byProduct.get("100").getQuantity());
+        assertEquals(1, byProduct.get("101").getOrders());
+
+        Map<String, SalesPointDTO> byAgency = byKey(cube.query(query(Dimension.AGENCY)));
+        assertEquals(2, byAgency.get("10").getOrders());
+        assertEquals(1, byAgency.size());
+    }
+
+    @Test
+    void incrementalRefreshReplacesChangedOrdersAndDropsDeletedOnes() {
+        jdbc.orders = List.of(
+                item(1, 10, 1, 100, 2, 2000), item(1, 10, 1, 101, 1, 500),
+                item(2, 10, 1, 100, 3, 3000),
+                item(3, 20, 1, 101, 1, 500));
+        cube.refresh();
+
+        // 주문 1 품목 변경 (버전 2), 주문 2 삭제, 주문 3 은 safetyWindow 안에서 같은 버전으로 다시 읽힘
+        jdbc.orders = List.of(
+                item(1, 10, 2, 100, 5, 5000),
+                item(3, 20, 1, 101, 1, 500));
+        jdbc.deleted = List.of(2);
+        assertEquals(2, cube.refresh());
+        assertEquals(2, cube.size());
+
+        Map<String, SalesPointDTO> byProduct = byKey(cube.query(query(Dimension.PRODUCT)));
+        assertEquals(1, byProduct.get("100").getOrders());
+        assertEquals(5, byProduct.get("100").getQuantity());
+        assertEquals(1, byProduct.get("101").getOrders());
+        assertEquals(500, byProduct.get("101").getRevenue());
+
+        // 바뀐 것이 없으면 스냅샷 그대로
+        jdbc.orders = List.<Object[]>of(item(1, 10, 2, 100, 5, 5000));
+        jdbc.deleted = List.of();
+        assertEquals(0, cube.refresh());
+    }
+
+    @Test
+    void chunkBoundsNeverSplitAnOrder() {
+        // 주문마다 품목 1~7 행
+        List<Integer> keys = new ArrayList<>();
+        for (int order = 1; keys.size() < 1_000; order++) {
+            for (int i = 0; i < 1 + order % 7; i++) keys.add(order);
+        }
+        int[] orKey = keys.stream().mapToInt(Integer::intValue).toArray();
+
+        for (int chunks = 1; chunks <= 16; chunks++) {
+            int[] bounds = SalesCube.chunkBounds(orKey, orKey.length, chunks);
+            assertEquals(0, bounds[0]);
+            assertEquals(orKey.length, bounds[chunks]);
+            for (int c = 1; c < chunks; c++) {
+                int b = bounds[c];
+                assertTrue(b >= bounds[c - 1]);
+                if (b > 0 && b < orKey.length) assertNotEquals(orKey[b - 1], orKey[b]);
+            }
+        }
+
+        // 주문 하나가 전부면 청크 하나만 행을 가짐
+        int[] one = {7, 7, 7, 7, 7, 7};
+        assertArrayEquals(new int[]{0, 6, 6, 6}, SalesCube.chunkBounds(one, one.length, 3));
+    }
+
+    private static Query query(Dimension groupBy) {
+        return new Query(Granularity.DAY, DAY, DAY, groupBy, null, null, null, null, null);
+    }
+
+    private static SalesPointDTO single(SalesSeriesDTO series) {
+        assertEquals(1, series.getPoints().size());
+        return series.getPoints().get(0);
+    }
+
+    private static Map<String, SalesPointDTO> byKey(SalesSeriesDTO series) {
+        Map<String, SalesPointDTO> points = new TreeMap<>();
+        for (SalesPointDTO p : series.getPoints()) points.put(p.getKey(), p);
+        return points;
+    }
+
+    // or_key, or_date, or_region, ag_key, or_status, or_updated_at, or_version, pd_key, pd_category, oi_quantity, oi_total
+    private static Object[] item(int orKey, int agKey, long version, int pdKey, int quantity, long total) {
+        return new Object[]{orKey, Date.valueOf(DAY), "부산", agKey, "배송완료", Timestamp.valueOf(UPDATED.plusMinutes(version)),
+                version, pdKey, "음료", quantity, total};
+    }
+
+    private static Object[] noItems(int orKey, int agKey, long version) {
+        return new Object[]{orKey, Date.valueOf(DAY), "부산", agKey, "주문접수", Timestamp.valueOf(UPDATED.plusMinutes(version)),
+                version, null, null, null, null};
+    }
+
+    // 주문 조회 → orders, 삭제 기록 조회 → deleted, 그 외(이름 조회)는 빈 결과
+    private static class FakeJdbc extends JdbcTemplate {
+        List<Object[]> orders = List.of();
+        List<Integer> deleted = List.of();
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch) {
+            query(sql, rch, new Object[0]);
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            List<Object[]> rows = new ArrayList<>();
+            if (sql.contains("FROM agencyorder ao")) rows.addAll(orders);
+            else if (sql.contains("FROM agencyorder_deleted")) deleted.forEach(k -> rows.add(new Object[]{k}));
+
+            Object[][] current = new Object[1][];
+            boolean[] wasNull = new boolean[1];
+            ResultSet rs = mock(ResultSet.class, inv -> {
+                if (inv.getMethod().getName().equals("wasNull")) return wasNull[0];
+                Object v = current[0][(Integer) inv.getArgument(0) - 1];
+                wasNull[0] = v == null;
+                return switch (inv.getMethod().getName()) {
+                    case "getInt" -> v == null ? 0 : ((Number) v).intValue();
+                    case "getLong" -> v == null ? 0L : ((Number) v).longValue();
+                    default -> v;
+                };
+            });
+            try {
+                for (Object[] row : rows) {
+                    current[0] = row;
+                    rch.processRow(rs);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package bitc.full502.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 칸 나눈 재고 카운터 (초과 차감 없음 / 칸을 모으는 느린 경로 / 보정 후 합계 / 음수 합계 / 동시 차감)
+ */
+class StripedStockCounterTest {
+
+    @Test
+    void acquiresUntilExhaustedWithoutOverselling() {
+        StripedStockCounter counter = new StripedStockCounter(8, 100);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(counter.tryAcquire(1));
+        }
+        assertFalse(counter.tryAcquire(1));
+        assertEquals(0, counter.available());
+    }
+
+    @Test
+    void slowPathGathersStripesWhenNoSingleStripeIsEnough() {
+        // 10 을 8 칸에 나누면 칸마다 1~2 → 7 은 느린 경로에서만 가능
+        StripedStockCounter counter = new StripedStockCounter(8, 10);
+
+        assertTrue(counter.tryAcquire(7));
+        assertEquals(3, counter.available());
+
+        // 부족하면 실패하고 합계는 그대로
+        assertFalse(counter.tryAcquire(4));
+        assertEquals(3, counter.available());
+        assertTrue(counter.tryAcquire(3));
+    }
+
+    @Test
+    void releaseAndNegativeAdjustmentKeepTheTotal() {
+        // reconcile 은 DB 와의 차이를 release(음수 포함) 로 맞춤
+        StripedStockCounter counter = new StripedStockCounter(4, 10);
+
+        counter.release(5);
+        assertEquals(15, counter.available());
+        counter.release(-12);
+        assertEquals(3, counter.available());
+
+        assertTrue(counter.tryAcquire(3));
+        assertFalse(counter.tryAcquire(1));
+    }
+
+    @Test
+    void negativeTotalBlocksAcquiresUntilRestocked() {
+        // DB 가 메모리보다 적으면 합계가 음수가 될 수 있음 → 그 뒤 입고분은 빚부터 갚음
+        StripedStockCounter counter = new StripedStockCounter(4, 2);
+
+        counter.release(-7);
+        assertEquals(-5, counter.available());
+        assertFalse(counter.tryAcquire(1));
+
+        counter.release(6);
+        assertEquals(1, counter.available());
+        assertTrue(counter.tryAcquire(1));
+        assertFalse(counter.tryAcquire(1));
+    }
+
+    @Test
+    void concurrentAcquiresNeverOversell() throws Exception {
+        int threads = 16;
+        int attemptsPerThread = 1_000;
+        long stock = 5_000;
+        StripedStockCounter counter = new StripedStockCounter(8, stock);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    int acquired = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (counter.tryAcquire(1)) acquired++;
+                    }
+                    return acquired;
+                }));
+            }
+            start.countDown();
+
+            long acquired = 0;
+            for (Future<Integer> f : futures) acquired += f.get();
+            assertEquals(stock, acquired);
+            assertEquals(0, counter.available());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
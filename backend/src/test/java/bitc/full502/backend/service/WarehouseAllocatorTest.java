@@ -0,0 +1,131 @@
+package bitc.full502.backend.service;
+
+import bitc.full502.backend.dto.StockShortageDTO;
+import bitc.full502.backend.service.LogisticStockReservation.Line;
+import bitc.full502.backend.service.WarehouseAllocator.Allocation;
+import bitc.full502.backend.service.WarehouseAllocator.StockPool;
+import bitc.full502.backend.service.WarehouseRouting.Route;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 창고 배분 계산 (한 창고 / 경로 순 분할 / capacity 한도 / 못 채운 상품)
+ * - 재고는 StockPool 에 직접 넣고, 경로는 Route 목록으로 바로 넘김 (DB / 캐시 없음)
+ */
+class WarehouseAllocatorTest {
+
+    private static final String GU = "부산 해운대구";
+    private static final int PRIMARY = 1;
+    private static final int FALLBACK = 2;
+
+    private final WarehouseRouting routing = mock(WarehouseRouting.class);
+    private final WarehouseAllocator allocator = new WarehouseAllocator(routing, null, null);
+
+    @Test
+    void singleWarehouseWhenOneRouteCoversTheWholeOrder() {
+        StockPool pool = pool(Map.of(
+                stock(PRIMARY, 10), 5L, stock(PRIMARY, 20), 5L,
+                stock(FALLBACK, 10), 100L, stock(FALLBACK, 20), 100L));
+
+        Allocation a = allocator.allocate(7, GU, routes(null, null), items(10, 3, 20, 2), pool);
+
+        assertTrue(a.isComplete());
+        assertEquals(List.of(new Line(7, PRIMARY, 10, 3), new Line(7, PRIMARY, 20, 2)), a.getLines());
+        assertEquals(2, pool.get(PRIMARY, 10));
+        assertEquals(3, pool.get(PRIMARY, 20));
+    }
+
+    @Test
+    void splitsEachProductAcrossRoutesInPriorityOrder() {
+        // 기본 창고에 10 번이 3개뿐 → 나머지 2개는 대체 창고
+        StockPool pool = pool(Map.of(
+                stock(PRIMARY, 10), 3L, stock(PRIMARY, 20), 5L,
+                stock(FALLBACK, 10), 10L));
+
+        Allocation a = allocator.allocate(7, GU, routes(null, null), items(10, 5, 20, 2), pool);
+
+        assertTrue(a.isComplete());
+        assertEquals(List.of(
+                new Line(7, PRIMARY, 10, 3), new Line(7, FALLBACK, 10, 2),
+                new Line(7, PRIMARY, 20, 2)), a.getLines());
+    }
+
+    @Test
+    void capacityLimitsWhatOneWarehouseTakesFromAnOrder() {
+        // 기본 창고 capacity 4 < 주문 합계 6 → 한 창고 배분 불가, 분할 때도 기본 창고는 4개까지만
+        StockPool pool = pool(Map.of(
+                stock(PRIMARY, 10), 10L, stock(PRIMARY, 20), 10L,
+                stock(FALLBACK, 10), 1L, stock(FALLBACK, 20), 10L));
+
+        Allocation a = allocator.allocate(7, GU, routes(4, null), items(10, 3, 20, 3), pool);
+
+        assertTrue(a.isComplete());
+        assertEquals(List.of(
+                new Line(7, PRIMARY, 10, 3),
+                new Line(7, PRIMARY, 20, 1), new Line(7, FALLBACK, 20, 2)), a.getLines());
+    }
+
+    @Test
+    void unfilledProductReportsShortageAndReturnsTakenStockToThePool() {
+        StockPool pool = pool(Map.of(
+                stock(PRIMARY, 10), 2L, stock(PRIMARY, 20), 5L,
+                stock(FALLBACK, 10), 1L));
+
+        Allocation a = allocator.allocate(7, GU, routes(null, null), items(20, 2, 10, 5), pool);
+
+        assertFalse(a.isComplete());
+        assertTrue(a.getLines().isEmpty());
+        assertEquals(List.of(new StockShortageDTO(GU, PRIMARY, 10, 5, 3)), a.getUnfilled());
+        // 20 번은 배분됐다가 되돌려짐
+        assertEquals(5, pool.get(PRIMARY, 20));
+        assertEquals(2, pool.get(PRIMARY, 10));
+        assertEquals(1, pool.get(FALLBACK, 10));
+    }
+
+    @Test
+    void allocateTotalIgnoresCapacityAndSharesThePoolAcrossCalls() {
+        when(routing.routes(GU)).thenReturn(routes(1, null));
+        StockPool pool = pool(Map.of(stock(PRIMARY, 10), 6L, stock(FALLBACK, 10), 2L));
+
+        Allocation first = allocator.allocateTotal(GU, items(10, 5), pool);
+        Allocation second = allocator.allocateTotal(GU, items(10, 3), pool);
+
+        assertEquals(List.of(new Line(null, PRIMARY, 10, 5)), first.getLines());
+        assertEquals(List.of(new Line(null, PRIMARY, 10, 1), new Line(null, FALLBACK, 10, 2)), second.getLines());
+        assertEquals(0, pool.get(PRIMARY, 10));
+        assertEquals(0, pool.get(FALLBACK, 10));
+    }
+
+    private static List<Route> routes(Integer primaryCapacity, Integer fallbackCapacity) {
+        return List.of(new Route(PRIMARY, 1, primaryCapacity), new Route(FALLBACK, 2, fallbackCapacity));
+    }
+
+    // 상품키, 수량, 상품키, 수량 ... (순서 유지)
+    private static Map<Integer, Integer> items(int... pdKeyAndQuantity) {
+        Map<Integer, Integer> items = new LinkedHashMap<>();
+        for (int i = 0; i < pdKeyAndQuantity.length; i += 2) {
+            items.put(pdKeyAndQuantity[i], pdKeyAndQuantity[i + 1]);
+        }
+        return items;
+    }
+
+    private static String stock(int lgKey, int pdKey) {
+        return lgKey + ":" + pdKey;
+    }
+
+    // 없는 (창고, 상품) 은 재고 0
+    private static StockPool pool(Map<String, Long> stock) {
+        Map<String, Long> copy = new HashMap<>(stock);
+        return new StockPool((lgKey, pdKey) -> copy.getOrDefault(stock(lgKey, pdKey), 0L));
+    }
+}
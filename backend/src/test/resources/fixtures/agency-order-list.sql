@@ -0,0 +1,31 @@
+-- 대리점 2곳 + 상품 2개 + 배송기사 1명, 주문 6건 (대리점 1: 4건, 대리점 2: 2건), 주문마다 품목 2줄
+DELETE FROM agencyorder_item;
+DELETE FROM agencyorder;
+DELETE FROM delivery;
+DELETE FROM agency;
+DELETE FROM product;
+
+INSERT INTO agency (ag_key, ag_code, ag_name, ag_ceo, ag_id, ag_pw)
+VALUES (1, 3, '부산 테스트점', '홍길동', 'test-agency-1', 'pw'),
+       (2, 3, '서울 테스트점', '김철수', 'test-agency-2', 'pw');
+
+INSERT INTO product (pd_key, pd_category, pd_num, pd_products, pd_price, pd_image, created_date)
+VALUES (1, '테스트', 'P-001', '테스트 상품 1', 1000, 'p1.png', NOW()),
+       (2, '테스트', 'P-002', '테스트 상품 2', 2000, 'p2.png', NOW());
+
+INSERT INTO delivery (dv_key, dv_name, dv_car, dv_status, dv_delivery)
+VALUES (1, '배송기사', '12가3456', '대기', b'0');
+
+INSERT INTO agencyorder (or_key, pd_key, dv_key, ag_key, or_status, or_products, or_price, or_quantity, or_total,
+                         or_date, or_reserve, or_gu, or_region, order_number, or_updated_at, or_version)
+VALUES (1, 1, 1,    1, '배송중',      '테스트 상품 1 외 1건', 1000, 3, 5000, CURDATE(), CURDATE(), '부산 해운대구', '부산', 'T-0001', NOW(6), 0),
+       (2, 2, NULL, 1, '승인 대기중', '테스트 상품 2 외 1건', 2000, 3, 5000, CURDATE(), CURDATE(), '부산 해운대구', '부산', 'T-0002', NOW(6), 0),
+       (3, 1, 1,    1, '배송완료',    '테스트 상품 1 외 1건', 1000, 3, 5000, CURDATE(), CURDATE(), '부산 해운대구', '부산', 'T-0003', NOW(6), 0),
+       (4, 2, NULL, 1, '승인 대기중', '테스트 상품 2 외 1건', 2000, 3, 5000, CURDATE(), CURDATE(), '부산 해운대구', '부산', 'T-0004', NOW(6), 0),
+       (5, 1, 1,    2, '배송중',      '테스트 상품 1 외 1건', 1000, 3, 5000, CURDATE(), CURDATE(), '서울 강남구',   '서울', 'T-0005', NOW(6), 0),
+       (6, 2, NULL, 2, '승인 대기중', '테스트 상품 2 외 1건', 2000, 3, 5000, CURDATE(), CURDATE(), '서울 강남구',   '서울', 'T-0006', NOW(6), 0);
+
+INSERT INTO agencyorder_item (oi_key, or_key, pd_key, oi_products, oi_price, oi_quantity, oi_total)
+SELECT or_key * 10 + 1, or_key, 1, '테스트 상품 1', 1000, 1, 1000 FROM agencyorder
+UNION ALL
+SELECT or_key * 10 + 2, or_key, 2, '테스트 상품 2', 2000, 2, 4000 FROM agencyorder;
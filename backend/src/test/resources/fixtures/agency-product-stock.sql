@@ -0,0 +1,18 @@
+-- 대리점 1곳 + 상품 2개
+-- (1, 1) 은 재고 10 으로 이미 있음, (1, 2) 는 없음 → incrementStock 이 새로 생성
+DELETE FROM agencyproduct;
+DELETE FROM agency;
+DELETE FROM product;
+DELETE FROM id_sequences WHERE seq_name = 'agencyproduct';
+
+INSERT INTO agency (ag_key, ag_code, ag_name, ag_ceo, ag_id, ag_pw)
+VALUES (1, 3, '부산 테스트점', '홍길동', 'test-agency', 'pw');
+
+INSERT INTO product (pd_key, pd_category, pd_num, pd_products, pd_price, pd_image, created_date)
+VALUES (1, '테스트', 'P-001', '테스트 상품 1', 1000, 'p1.png', NOW()),
+       (2, '테스트', 'P-002', '테스트 상품 2', 2000, 'p2.png', NOW());
+
+INSERT INTO agencyproduct (ap_key, ag_key, pd_key, stock, ap_store, ap_version)
+VALUES (1, 1, 1, 10, CURDATE(), 0);
+
+INSERT INTO id_sequences (seq_name, next_val) VALUES ('agencyproduct', 100);